@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.applications;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.pde.api.tools.internal.ApiAnalysisApplication;
+import org.eclipse.pde.api.tools.internal.ApiAnalysisApplication.Request;
+import org.junit.Test;
+
+/**
+ * Tests the arguments, the output format and the exit codes of the
+ * {@link ApiAnalysisApplication}
+ */
+public class ApiAnalysisApplicationTest {
+
+	@Test
+	public void testProjectList() throws Exception {
+		File list = File.createTempFile("projects", ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+		list.deleteOnExit();
+		Files.writeString(list.toPath(), String.join(System.lineSeparator(), //
+				"# comment", //$NON-NLS-1$
+				"/work/b", //$NON-NLS-1$
+				"", //$NON-NLS-1$
+				"   ", //$NON-NLS-1$
+				"  /work/c  ", //$NON-NLS-1$
+				"/work/a")); //$NON-NLS-1$
+		Request request = Request.readFromArgs(new String[] { "-project", "/work/first", //$NON-NLS-1$ //$NON-NLS-2$
+				"-projectList", list.getAbsolutePath(), "-threads", "3" }); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue(request.isBatch());
+		assertEquals(3, request.threads);
+		assertEquals(List.of(new File("/work/first"), new File("/work/b"), new File("/work/c"), new File("/work/a")), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				request.getProjects());
+	}
+
+	@Test
+	public void testSingleProject() throws Exception {
+		Request request = Request.readFromArgs(new String[] { "-project", "/work/a", "-baseline", "default" }); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertFalse(request.isBatch());
+		assertNull(request.baselinePath);
+		assertEquals(List.of(new File("/work/a")), request.getProjects()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testThreads() {
+		assertEquals(1, Request.readFromArgs(new String[] { "-threads", "0" }).threads); //$NON-NLS-1$ //$NON-NLS-2$
+		assertThrows(IllegalArgumentException.class,
+				() -> Request.readFromArgs(new String[] { "-threads", "many" })); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testFailOnError() {
+		assertFalse(Request.readFromArgs(new String[] { "-project", "/work/a" }).failOnError); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(Request.readFromArgs(new String[] { "-failOnError" }).failOnError); //$NON-NLS-1$
+		assertTrue(Request.readFromArgs(new String[] { "-failOnError", "-project", "/work/a" }).failOnError); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertFalse(Request.readFromArgs(new String[] { "-failOnError", "false" }).failOnError); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testToJson() {
+		assertEquals("\"plain\"", ApiAnalysisApplication.toJson("plain")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("\"\"", ApiAnalysisApplication.toJson("")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("\"say \\\"hi\\\"\"", ApiAnalysisApplication.toJson("say \"hi\"")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("\"C:\\\\dir\\\\File.java\"", ApiAnalysisApplication.toJson("C:\\dir\\File.java")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("\"a\\nb\\rc\\td\"", ApiAnalysisApplication.toJson("a\nb\rc\td")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("\"\\u0000\\u001f\"", ApiAnalysisApplication.toJson("\u0000\u001f")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("\"Type<T> \u00e9\"", ApiAnalysisApplication.toJson("Type<T> \u00e9")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testExitCodes() {
+		assertEquals(IStatus.OK, ApiAnalysisApplication.getExitCode(0, 0, true));
+		assertEquals(IStatus.OK, ApiAnalysisApplication.getExitCode(0, 2, false));
+		assertEquals(IStatus.ERROR, ApiAnalysisApplication.getExitCode(0, 2, true));
+		// blocking errors take precedence over API errors
+		assertEquals(10, ApiAnalysisApplication.getExitCode(1, 0, false));
+		assertEquals(10, ApiAnalysisApplication.getExitCode(1, 2, true));
+	}
+}
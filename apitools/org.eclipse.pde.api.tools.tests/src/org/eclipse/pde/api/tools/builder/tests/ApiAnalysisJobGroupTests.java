@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
+import org.junit.Test;
+
+/**
+ * Tests the group that bounds the number of projects analyzed at the same
+ * time when the API analysis runs as job.
+ */
+public class ApiAnalysisJobGroupTests {
+
+	private static final String TEST_JOB = "API analysis group test"; //$NON-NLS-1$
+
+	/**
+	 * Job that records how many jobs of the group run at the same time
+	 */
+	static class CountingJob extends Job {
+
+		private final AtomicInteger running;
+		private final AtomicInteger maxRunning;
+		private final IStatus result;
+
+		CountingJob(JobGroup group, AtomicInteger running, AtomicInteger maxRunning, IStatus result) {
+			super(TEST_JOB);
+			this.running = running;
+			this.maxRunning = maxRunning;
+			this.result = result;
+			setSystem(true);
+			setJobGroup(group);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				running.decrementAndGet();
+			}
+			return result;
+		}
+	}
+
+	@Test
+	public void testGroupIsBoundedByParallelism() throws Exception {
+		JobGroup group = ApiAnalysisBuilder.getAnalysisJobGroup();
+		int threads = ApiAnalysisBuilder.getAnalysisParallelism();
+		assertEquals(threads, group.getMaxThreads());
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		for (int i = 0; i < 3 * threads + 2; i++) {
+			new CountingJob(group, running, maxRunning, Status.OK_STATUS).schedule();
+		}
+		assertTrue("Jobs did not finish", group.join(30_000, null)); //$NON-NLS-1$
+		assertTrue("More jobs than allowed ran at the same time: " + maxRunning.get(), //$NON-NLS-1$
+				maxRunning.get() <= threads);
+		assertTrue("No job ran", maxRunning.get() >= 1); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testFailureDoesNotCancelOtherProjects() throws Exception {
+		JobGroup group = ApiAnalysisBuilder.getAnalysisJobGroup();
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		List<Job> jobs = new ArrayList<>();
+		jobs.add(new CountingJob(group, running, maxRunning, Status.error("analysis failed"))); //$NON-NLS-1$
+		for (int i = 0; i < 2 * group.getMaxThreads() + 2; i++) {
+			jobs.add(new CountingJob(group, running, maxRunning, Status.OK_STATUS));
+		}
+		jobs.forEach(Job::schedule);
+		assertTrue("Jobs did not finish", group.join(30_000, null)); //$NON-NLS-1$
+		assertEquals(IStatus.ERROR, jobs.get(0).getResult().getSeverity());
+		for (Job job : jobs.subList(1, jobs.size())) {
+			assertEquals(IStatus.OK, job.getResult().getSeverity());
+		}
+	}
+}
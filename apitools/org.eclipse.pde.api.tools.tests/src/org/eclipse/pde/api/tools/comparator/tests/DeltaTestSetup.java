@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,9 +19,13 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.jar.JarFile;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
@@ -178,6 +182,23 @@ public abstract class DeltaTestSetup {
 		deployBundle(testName, AFTER);
 	}
 
+	/**
+	 * Deploys the given test as a bundle with the given symbolic name, so the
+	 * bundles of several tests can be part of the same baseline.
+	 *
+	 * @param testName the given test name
+	 * @param symbolicName the symbolic name of the deployed bundle
+	 */
+	protected void deployBundles(String testName, String symbolicName) throws IOException {
+		for (String name : new String[] { BEFORE, AFTER }) {
+			deployBundle(testName, name, symbolicName);
+			Path manifest = WORKSPACE_ROOT.append(name).append(symbolicName).append(JarFile.MANIFEST_NAME).toPath();
+			String content = Files.readString(manifest);
+			Files.writeString(manifest,
+					content.replaceFirst("Bundle-SymbolicName: \\S+", "Bundle-SymbolicName: " + symbolicName)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
 	protected IApiBaseline getAfterState() {
 		try {
 			after = TestSuiteHelper.createTestingBaseline(AFTER, getBaseLineFolder(AFTER));
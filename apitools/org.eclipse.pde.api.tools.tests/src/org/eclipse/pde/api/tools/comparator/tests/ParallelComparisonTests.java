@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.comparator.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.ApiComparator;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.junit.Test;
+
+/**
+ * Tests that comparing the components of two baselines in parallel reports
+ * the same deltas, in the same order, as comparing them sequentially.
+ */
+public class ParallelComparisonTests extends DeltaTestSetup {
+
+	private static final int COMPONENTS = 12;
+
+	@Override
+	public String getTestRoot() {
+		return "class"; //$NON-NLS-1$
+	}
+
+	@Test
+	public void testParallelEqualsSequential() throws Exception {
+		for (int i = 1; i <= COMPONENTS; i++) {
+			deployBundles("test" + i, BUNDLE_NAME + i); //$NON-NLS-1$
+		}
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+
+		// all components have the same version, so force the comparison
+		IDelta sequential = ApiComparator.compare(before, after, VisibilityModifiers.ALL_VISIBILITIES, true, 1,
+				null);
+		assertNotSame("No delta", ApiComparator.NO_DELTA, sequential); //$NON-NLS-1$
+		for (int threads : new int[] { 2, 4, COMPONENTS }) {
+			IDelta parallel = ApiComparator.compare(before, after, VisibilityModifiers.ALL_VISIBILITIES, true,
+					threads, null);
+			assertEquals("Different deltas with " + threads + " threads", sequential.toString(), //$NON-NLS-1$ //$NON-NLS-2$
+					parallel.toString());
+			assertEquals(collectLeaves(sequential).length, collectLeaves(parallel).length);
+		}
+	}
+}
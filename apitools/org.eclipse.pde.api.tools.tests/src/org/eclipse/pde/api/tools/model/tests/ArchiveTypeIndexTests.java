@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.model.ApiType;
+import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.ArchiveTypeIndex;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the persistent index of archive contents
+ */
+public class ArchiveTypeIndexTests {
+
+	private Path fTempDir;
+	private Path fArchive;
+
+	@Before
+	public void setUp() throws IOException {
+		fTempDir = Files.createTempDirectory("archiveIndex"); //$NON-NLS-1$
+		fArchive = fTempDir.resolve("sample.jar"); //$NON-NLS-1$
+		Files.copy(TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar").toPath(), fArchive); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (Stream<Path> walk = Files.walk(fTempDir)) {
+			walk.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		}
+	}
+
+	private List<IApiTypeRoot> collectTypeRoots() throws CoreException {
+		List<IApiTypeRoot> roots = new ArrayList<>();
+		new ArchiveApiTypeContainer(null, fArchive.toString()).accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeroot) {
+				roots.add(typeroot);
+			}
+		});
+		return roots;
+	}
+
+	private Map<String, Map<String, String>> createListing(List<IApiTypeRoot> roots) {
+		Map<String, Map<String, String>> packages = new TreeMap<>();
+		for (IApiTypeRoot root : roots) {
+			String typeName = root.getTypeName();
+			int index = typeName.lastIndexOf('.');
+			String pkg = index < 0 ? "" : typeName.substring(0, index); //$NON-NLS-1$
+			packages.computeIfAbsent(pkg, p -> new TreeMap<>()).put(typeName, root.getName());
+		}
+		return packages;
+	}
+
+	/**
+	 * Tests that the listing and type structures survive a save and reload
+	 */
+	@Test
+	public void testRestoreIndex() throws CoreException {
+		List<IApiTypeRoot> roots = collectTypeRoots();
+		assertEquals("Wrong number of types", 8, roots.size()); //$NON-NLS-1$
+		Path indexDir = fTempDir.resolve("index"); //$NON-NLS-1$
+		ArchiveTypeIndex.Archive index = new ArchiveTypeIndex(indexDir).open(fArchive.toString());
+		assertNotNull("Index should be available", index); //$NON-NLS-1$
+		assertNull("Index should be empty", index.getPackages()); //$NON-NLS-1$
+		Map<String, Map<String, String>> packages = createListing(roots);
+		index.setPackages(packages);
+		for (IApiTypeRoot root : roots) {
+			index.putStructure(root.getTypeName(), (ApiType) root.getStructure());
+		}
+		index.save();
+
+		ArchiveTypeIndex.Archive restored = new ArchiveTypeIndex(indexDir).open(fArchive.toString());
+		assertEquals("Wrong listing", packages, restored.getPackages()); //$NON-NLS-1$
+		for (IApiTypeRoot root : roots) {
+			IApiType expected = root.getStructure();
+			IApiType actual = restored.getStructure(root.getTypeName(), null, root);
+			assertNotNull("Missing structure for " + root.getTypeName(), actual); //$NON-NLS-1$
+			assertTypeEquals(expected, actual);
+		}
+		restored.close();
+	}
+
+	/**
+	 * Tests that concurrent readers share the index file and that it is
+	 * opened again after the archive was closed
+	 */
+	@Test
+	public void testConcurrentReads() throws CoreException {
+		List<IApiTypeRoot> roots = collectTypeRoots();
+		Path indexDir = fTempDir.resolve("index"); //$NON-NLS-1$
+		ArchiveTypeIndex.Archive index = new ArchiveTypeIndex(indexDir).open(fArchive.toString());
+		index.setPackages(createListing(roots));
+		for (IApiTypeRoot root : roots) {
+			index.putStructure(root.getTypeName(), (ApiType) root.getStructure());
+		}
+		index.save();
+		index.close();
+
+		ArchiveTypeIndex.Archive restored = new ArchiveTypeIndex(indexDir).open(fArchive.toString());
+		for (int i = 0; i < 3; i++) {
+			long missing = IntStream.range(0, 50).parallel().mapToObj(n -> roots.get(n % roots.size()))
+					.filter(root -> restored.getStructure(root.getTypeName(), null, root) == null).count();
+			assertEquals("Structures should be read concurrently", 0, missing); //$NON-NLS-1$
+			restored.close();
+		}
+	}
+
+	/**
+	 * Tests that the index is discarded once the archive changed
+	 */
+	@Test
+	public void testChangedArchive() throws CoreException, IOException {
+		List<IApiTypeRoot> roots = collectTypeRoots();
+		Path indexDir = fTempDir.resolve("index"); //$NON-NLS-1$
+		ArchiveTypeIndex.Archive index = new ArchiveTypeIndex(indexDir).open(fArchive.toString());
+		index.setPackages(createListing(roots));
+		IApiTypeRoot root = roots.get(0);
+		index.putStructure(root.getTypeName(), (ApiType) root.getStructure());
+		index.save();
+
+		FileTime modified = Files.getLastModifiedTime(fArchive);
+		Files.setLastModifiedTime(fArchive, FileTime.fromMillis(modified.toMillis() + 10_000));
+		ArchiveTypeIndex.Archive restored = new ArchiveTypeIndex(indexDir).open(fArchive.toString());
+		assertNull("Listing should be discarded", restored.getPackages()); //$NON-NLS-1$
+		assertNull("Structure should be discarded", restored.getStructure(root.getTypeName(), null, root)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that structures read on demand from a saved index are kept when
+	 * more structures are added and the index is saved again
+	 */
+	@Test
+	public void testAddToRestoredIndex() throws CoreException {
+		List<IApiTypeRoot> roots = collectTypeRoots();
+		Path indexDir = fTempDir.resolve("index"); //$NON-NLS-1$
+		ArchiveTypeIndex.Archive index = new ArchiveTypeIndex(indexDir).open(fArchive.toString());
+		index.setPackages(createListing(roots));
+		int half = roots.size() / 2;
+		for (IApiTypeRoot root : roots.subList(0, half)) {
+			index.putStructure(root.getTypeName(), (ApiType) root.getStructure());
+		}
+		index.save();
+		for (IApiTypeRoot root : roots.subList(0, half)) {
+			assertNotNull("Missing structure for " + root.getTypeName(), index.getStructure(root.getTypeName(), null, root)); //$NON-NLS-1$
+		}
+
+		ArchiveTypeIndex.Archive restored = new ArchiveTypeIndex(indexDir).open(fArchive.toString());
+		for (IApiTypeRoot root : roots.subList(half, roots.size())) {
+			assertNull("Structure should not be indexed yet", restored.getStructure(root.getTypeName(), null, root)); //$NON-NLS-1$
+			restored.putStructure(root.getTypeName(), (ApiType) root.getStructure());
+		}
+		restored.save();
+
+		ArchiveTypeIndex.Archive reloaded = new ArchiveTypeIndex(indexDir).open(fArchive.toString());
+		for (IApiTypeRoot root : roots) {
+			IApiType actual = reloaded.getStructure(root.getTypeName(), null, root);
+			assertNotNull("Missing structure for " + root.getTypeName(), actual); //$NON-NLS-1$
+			assertTypeEquals(root.getStructure(), actual);
+		}
+		index.close();
+		restored.close();
+		reloaded.close();
+	}
+
+	/**
+	 * Tests that index files of removed or changed archives are deleted
+	 */
+	@Test
+	public void testPrune() throws CoreException, IOException {
+		List<IApiTypeRoot> roots = collectTypeRoots();
+		Path indexDir = fTempDir.resolve("index"); //$NON-NLS-1$
+		Path removed = fTempDir.resolve("removed.jar"); //$NON-NLS-1$
+		Path changed = fTempDir.resolve("changed.jar"); //$NON-NLS-1$
+		Files.copy(fArchive, removed);
+		Files.copy(fArchive, changed);
+		ArchiveTypeIndex typeIndex = new ArchiveTypeIndex(indexDir);
+		for (Path archive : List.of(fArchive, removed, changed)) {
+			ArchiveTypeIndex.Archive index = typeIndex.open(archive.toString());
+			index.setPackages(createListing(roots));
+			index.save();
+		}
+		Files.writeString(indexDir.resolve("corrupt.index"), "corrupt"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong number of index files", 4, countIndexFiles(indexDir)); //$NON-NLS-1$
+
+		Files.delete(removed);
+		FileTime modified = Files.getLastModifiedTime(changed);
+		Files.setLastModifiedTime(changed, FileTime.fromMillis(modified.toMillis() + 10_000));
+		typeIndex.prune();
+
+		assertEquals("Stale index files should be deleted", 1, countIndexFiles(indexDir)); //$NON-NLS-1$
+		assertNotNull("Index of unchanged archive should be kept", typeIndex.open(fArchive.toString()).getPackages()); //$NON-NLS-1$
+	}
+
+	private long countIndexFiles(Path indexDir) throws IOException {
+		try (Stream<Path> files = Files.list(indexDir)) {
+			return files.count();
+		}
+	}
+
+	private void assertTypeEquals(IApiType expected, IApiType actual) {
+		String name = expected.getName();
+		assertEquals(name, expected.getName(), actual.getName());
+		assertEquals(name, expected.getSignature(), actual.getSignature());
+		assertEquals(name, expected.getGenericSignature(), actual.getGenericSignature());
+		assertEquals(name, expected.getModifiers(), actual.getModifiers());
+		assertEquals(name, expected.getSuperclassName(), actual.getSuperclassName());
+		assertArrayEquals(name, expected.getSuperInterfaceNames(), actual.getSuperInterfaceNames());
+		assertEquals(name, expected.isMemberType(), actual.isMemberType());
+		assertEquals(name, expected.isAnonymous(), actual.isAnonymous());
+		assertEquals(name, expected.isLocal(), actual.isLocal());
+		assertEquals(name, expected.getSimpleName(), actual.getSimpleName());
+		IApiMethod[] expectedMethods = expected.getMethods();
+		IApiMethod[] actualMethods = actual.getMethods();
+		assertEquals(name, expectedMethods.length, actualMethods.length);
+		for (int i = 0; i < expectedMethods.length; i++) {
+			assertEquals(name, expectedMethods[i].getName(), actualMethods[i].getName());
+			assertEquals(name, expectedMethods[i].getSignature(), actualMethods[i].getSignature());
+			assertEquals(name, expectedMethods[i].getModifiers(), actualMethods[i].getModifiers());
+			assertArrayEquals(name, expectedMethods[i].getExceptionNames(), actualMethods[i].getExceptionNames());
+			assertEquals(name, expectedMethods[i].getDefaultValue(), actualMethods[i].getDefaultValue());
+		}
+		IApiField[] expectedFields = expected.getFields();
+		IApiField[] actualFields = actual.getFields();
+		assertEquals(name, expectedFields.length, actualFields.length);
+		for (int i = 0; i < expectedFields.length; i++) {
+			assertEquals(name, expectedFields[i].getName(), actualFields[i].getName());
+			assertEquals(name, expectedFields[i].getSignature(), actualFields[i].getSignature());
+			assertEquals(name, expectedFields[i].getModifiers(), actualFields[i].getModifiers());
+			assertEquals(name, expectedFields[i].getConstantValue(), actualFields[i].getConstantValue());
+		}
+		assertSame(name, expected.getTypeRoot(), actual.getTypeRoot());
+	}
+}
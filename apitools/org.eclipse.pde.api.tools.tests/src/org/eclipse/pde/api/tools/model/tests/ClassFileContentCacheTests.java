@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.model.ClassFileContentCache;
+import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ClassFileContentCache}
+ */
+public class ClassFileContentCacheTests {
+
+	private static final String CONTAINER = "/container"; //$NON-NLS-1$
+
+	private final AtomicInteger fReads = new AtomicInteger();
+	private Path fTempDir;
+
+	@Before
+	public void setUp() throws IOException {
+		fTempDir = Files.createTempDirectory("classFileCache"); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (Stream<Path> walk = Files.walk(fTempDir)) {
+			walk.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		}
+	}
+
+	private byte[] read(ClassFileContentCache cache, String entry, long timestamp, byte[] contents)
+			throws CoreException {
+		return cache.getContents(CONTAINER, entry, timestamp, () -> {
+			fReads.incrementAndGet();
+			return contents;
+		});
+	}
+
+	/**
+	 * Tests that the total size of the cached class files stays within the
+	 * limit, evicting the least recently used ones
+	 */
+	@Test
+	public void testSizeLimit() throws CoreException {
+		// small enough for a single segment, so the limit applies to all
+		// entries
+		ClassFileContentCache cache = new ClassFileContentCache(30);
+		byte[] contents = new byte[10];
+		read(cache, "a", 0, contents); //$NON-NLS-1$
+		read(cache, "b", 0, contents); //$NON-NLS-1$
+		read(cache, "c", 0, contents); //$NON-NLS-1$
+		assertEquals("Each class file should be read once", 3, fReads.get()); //$NON-NLS-1$
+		// touch a so b becomes the eldest entry
+		read(cache, "a", 0, contents); //$NON-NLS-1$
+		assertEquals("Class file a should be cached", 3, fReads.get()); //$NON-NLS-1$
+
+		read(cache, "d", 0, contents); //$NON-NLS-1$
+		assertEquals("Class file d should be read", 4, fReads.get()); //$NON-NLS-1$
+		read(cache, "a", 0, contents); //$NON-NLS-1$
+		read(cache, "c", 0, contents); //$NON-NLS-1$
+		assertEquals("Class files a and c should still be cached", 4, fReads.get()); //$NON-NLS-1$
+		read(cache, "b", 0, contents); //$NON-NLS-1$
+		assertEquals("Class file b should have been evicted", 5, fReads.get()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a class file bigger than the cache is not kept
+	 */
+	@Test
+	public void testContentsExceedingLimit() throws CoreException {
+		ClassFileContentCache cache = new ClassFileContentCache(30);
+		byte[] contents = new byte[40];
+		read(cache, "a", 0, contents); //$NON-NLS-1$
+		read(cache, "a", 0, contents); //$NON-NLS-1$
+		assertEquals("Class file should be read every time", 2, fReads.get()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a cache without space reads the class file every time
+	 */
+	@Test
+	public void testDisabled() throws CoreException {
+		ClassFileContentCache cache = new ClassFileContentCache(0);
+		byte[] contents = new byte[10];
+		read(cache, "a", 0, contents); //$NON-NLS-1$
+		read(cache, "a", 0, contents); //$NON-NLS-1$
+		assertEquals("Class file should be read every time", 2, fReads.get()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the cached contents are not used once the time stamp of the
+	 * class file changed
+	 */
+	@Test
+	public void testTimestampChange() throws CoreException {
+		ClassFileContentCache cache = new ClassFileContentCache(1024);
+		byte[] original = { 1, 2, 3 };
+		byte[] changed = { 4, 5, 6 };
+		assertArrayEquals(original, read(cache, "a", 1, original)); //$NON-NLS-1$
+		assertArrayEquals(original, read(cache, "a", 1, changed)); //$NON-NLS-1$
+		assertEquals("Class file should be cached", 1, fReads.get()); //$NON-NLS-1$
+		assertArrayEquals(changed, read(cache, "a", 2, changed)); //$NON-NLS-1$
+		assertEquals("Changed class file should be read", 2, fReads.get()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a class file replaced in a directory is read again through
+	 * the default cache
+	 */
+	@Test
+	public void testChangedClassFileInDirectory() throws CoreException, IOException {
+		Path classFile = Files.createDirectories(fTempDir.resolve("p")).resolve("A.class"); //$NON-NLS-1$ //$NON-NLS-2$
+		byte[] original = { 1, 2, 3 };
+		byte[] changed = { 4, 5, 6, 7 };
+		Files.write(classFile, original);
+		DirectoryApiTypeContainer container = new DirectoryApiTypeContainer(null, fTempDir.toString());
+		IApiTypeRoot root = container.findTypeRoot("p.A"); //$NON-NLS-1$
+		assertNotNull("Class file should be found", root); //$NON-NLS-1$
+		assertArrayEquals(original, root.getContents());
+
+		FileTime modified = Files.getLastModifiedTime(classFile);
+		Files.write(classFile, changed);
+		Files.setLastModifiedTime(classFile, FileTime.fromMillis(modified.toMillis() + 10_000));
+		assertArrayEquals(changed, container.findTypeRoot("p.A").getContents()); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.util.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.pde.api.tools.internal.ConcurrentLRUCache;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ConcurrentLRUCache}
+ */
+public class ConcurrentLRUCacheTests {
+
+	@Test
+	public void testLeastRecentlyUsedEntryIsEvicted() {
+		List<String> evicted = new ArrayList<>();
+		ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(3, null, (k, v) -> evicted.add(k));
+		cache.put("a", "A"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("b", "B"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("c", "C"); //$NON-NLS-1$ //$NON-NLS-2$
+		// touch a so b becomes the eldest entry
+		assertEquals("A", cache.get("a")); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("d", "D"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(List.of("b"), evicted); //$NON-NLS-1$
+		assertNull(cache.get("b")); //$NON-NLS-1$
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	public void testWeightBasedEviction() {
+		ConcurrentLRUCache<String, byte[]> cache = new ConcurrentLRUCache<>(10, (k, v) -> v.length, null);
+		cache.put("a", new byte[4]); //$NON-NLS-1$
+		cache.put("b", new byte[4]); //$NON-NLS-1$
+		cache.put("c", new byte[4]); //$NON-NLS-1$
+		assertNull(cache.get("a")); //$NON-NLS-1$
+		assertEquals(2, cache.size());
+		// replacing an entry accounts for the weight of the old value
+		cache.put("b", new byte[1]); //$NON-NLS-1$
+		cache.put("d", new byte[5]); //$NON-NLS-1$
+		assertEquals(3, cache.size());
+	}
+
+	@Test
+	public void testSpaceLimitAndFlush() {
+		List<String> evicted = new ArrayList<>();
+		ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(1000, null,
+				(k, v) -> {
+					synchronized (evicted) {
+						evicted.add(k);
+					}
+				});
+		for (int i = 0; i < 1000; i++) {
+			cache.put("key" + i, "value" + i); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		assertTrue(cache.size() <= 1000);
+		cache.setSpaceLimit(100);
+		assertTrue(cache.size() <= 100);
+		assertEquals(cache.getEvictionCount(), evicted.size());
+		assertEquals(cache.size(), cache.keysSnapshot().size());
+		cache.flush();
+		assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(256);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> workers = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				int offset = t;
+				workers.add(executor.submit(() -> {
+					for (int i = 0; i < 10000; i++) {
+						Integer key = (i * 7 + offset) % 512;
+						Integer value = cache.get(key);
+						if (value != null) {
+							assertEquals(key, value);
+						} else {
+							cache.put(key, key);
+						}
+					}
+				}));
+			}
+			// rethrows assertion failures of the workers on this thread
+			for (Future<?> worker : workers) {
+				worker.get(1, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertTrue(cache.size() <= 256);
+		assertEquals(4 * 10000, cache.getHitCount() + cache.getMissCount());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,22 +13,29 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Predicate;
 
+import org.eclipse.core.resources.IBuildConfiguration;
 import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceDescription;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -39,10 +46,16 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
+import org.eclipse.core.runtime.jobs.IJobManager;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -55,14 +68,18 @@ import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
 import org.osgi.framework.Bundle;
 
 public class ApiAnalysisApplication implements IApplication {
 
-	private static class Request {
+	public static class Request {
 		private static final String FAIL_ON_ERROR_ARG = "failOnError"; //$NON-NLS-1$
 		private static final String PROJECT_ARG = "project"; //$NON-NLS-1$
+		private static final String PROJECT_LIST_ARG = "projectList"; //$NON-NLS-1$
+		private static final String OUTPUT_ARG = "output"; //$NON-NLS-1$
+		private static final String THREADS_ARG = "threads"; //$NON-NLS-1$
 		private static final String BASELINE_ARG = "baseline"; //$NON-NLS-1$
 		private static final String BASELINE_DEFAULT_VALUE = "default"; //$NON-NLS-1$
 		private static final String DEPENDENCY_LIST_ARG = "dependencyList"; //$NON-NLS-1$
@@ -70,6 +87,10 @@ public class ApiAnalysisApplication implements IApplication {
 		private Request() {
 		}
 
+		/**
+		 * @throws IllegalArgumentException if the value of an argument is
+		 *             invalid
+		 */
 		public static Request readFromArgs(String[] params) {
 			Request res = new Request();
 			String currentKey = null;
@@ -81,6 +102,16 @@ public class ApiAnalysisApplication implements IApplication {
 					currentKey = param.substring(1);
 				} else if (PROJECT_ARG.equals(currentKey)) {
 					res.project = new File(param);
+				} else if (PROJECT_LIST_ARG.equals(currentKey)) {
+					res.projectList = new File(param);
+				} else if (OUTPUT_ARG.equals(currentKey)) {
+					res.output = new File(param);
+				} else if (THREADS_ARG.equals(currentKey)) {
+					try {
+						res.threads = Math.max(1, Integer.parseInt(param));
+					} catch (NumberFormatException e) {
+						throw new IllegalArgumentException("Invalid number of threads: " + param); //$NON-NLS-1$
+					}
 				} else if (BASELINE_ARG.equals(currentKey) && !BASELINE_DEFAULT_VALUE.equals(param)) {
 					res.baselinePath = new File(param);
 				} else if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
@@ -95,17 +126,54 @@ public class ApiAnalysisApplication implements IApplication {
 			return res;
 		}
 
+		/**
+		 * @return whether several projects are analyzed in one run
+		 */
+		public boolean isBatch() {
+			return projectList != null;
+		}
+
+		/**
+		 * @return the project locations to analyze, the single project first
+		 *         followed by the ones listed in the project list file
+		 */
+		public List<File> getProjects() throws IOException {
+			List<File> projects = new ArrayList<>();
+			if (project != null) {
+				projects.add(project);
+			}
+			if (projectList != null) {
+				for (String line : Files.readAllLines(projectList.toPath())) {
+					line = line.trim();
+					if (!line.isEmpty() && !line.startsWith("#")) { //$NON-NLS-1$
+						projects.add(new File(line));
+					}
+				}
+			}
+			return projects;
+		}
+
 		public File project;
+		public File projectList;
+		public File output;
+		public int threads = Runtime.getRuntime().availableProcessors();
 		public File baselinePath;
 		public boolean failOnError;
 		public File tpFile;
 	}
 
-	private ICoreRunnable restoreOriginalProjectState = null;
+	private final List<ICoreRunnable> restoreOriginalProjectState = new ArrayList<>();
 
 	@Override
 	public Object start(IApplicationContext context) throws Exception {
-		restoreOriginalProjectState = null;
+		restoreOriginalProjectState.clear();
+		Request args;
+		try {
+			args = Request.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			return IStatus.ERROR;
+		}
 		try {
 			IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
 			desc.setAutoBuilding(false);
@@ -113,10 +181,17 @@ public class ApiAnalysisApplication implements IApplication {
 			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
 			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
 
-			Request args = Request
-					.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
-			IProject project = importProject(args.project);
-			if (project == null) {
+			// import all projects, then load baseline and target only once
+			List<IProject> projects = new ArrayList<>();
+			for (File projectPath : args.getProjects()) {
+				IProject project = importProject(projectPath);
+				if (project == null) {
+					System.err.println("Project not loaded: " + projectPath); //$NON-NLS-1$
+					return IStatus.ERROR;
+				}
+				projects.add(project);
+			}
+			if (projects.isEmpty()) {
 				System.err.println("Project not loaded."); //$NON-NLS-1$
 				return IStatus.ERROR;
 			}
@@ -127,26 +202,20 @@ public class ApiAnalysisApplication implements IApplication {
 			}
 			setTargetPlatform(args.tpFile);
 
+			if (args.isBatch()) {
+				return analyzeBatch(projects, args);
+			}
+			IProject project = projects.get(0);
 			project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
 			// wait untill all jobs has finished that might be sceduled as part of the
 			// build...
-			while (!Job.getJobManager().isIdle()) {
-				Thread.yield();
-			}
+			waitForJobs();
 			IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
-			Predicate<IMarker> isAPIMarker = marker -> {
-				try {
-					return marker.getType().startsWith(ApiPlugin.PLUGIN_ID);
-				} catch (CoreException e) {
-					ApiPlugin.log(e);
-					return false;
-				}
-			};
 			IMarker[] allAPIProbleMarkers = Arrays.stream(allProblemMarkers) //
-					.filter(isAPIMarker) //
+					.filter(ApiAnalysisApplication::isAPIMarker) //
 					.toArray(IMarker[]::new);
 			IMarker[] allNonAPIErrors = Arrays.stream(allProblemMarkers) //
-					.filter(isAPIMarker.negate()) //
+					.filter(marker -> !isAPIMarker(marker)) //
 					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR) //
 					.toArray(IMarker[]::new);
 			if (allNonAPIErrors.length > 0) {
@@ -185,10 +254,250 @@ public class ApiAnalysisApplication implements IApplication {
 			e.printStackTrace();
 			return IStatus.ERROR;
 		} finally {
-			if (restoreOriginalProjectState != null) {
-				restoreOriginalProjectState.run(new NullProgressMonitor());
+			for (int i = restoreOriginalProjectState.size() - 1; i >= 0; i--) {
+				restoreOriginalProjectState.get(i).run(new NullProgressMonitor());
+			}
+			restoreOriginalProjectState.clear();
+		}
+	}
+
+	private static boolean isAPIMarker(IMarker marker) {
+		try {
+			return marker.getType().startsWith(ApiPlugin.PLUGIN_ID);
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+			return false;
+		}
+	}
+
+	/**
+	 * Builds all projects in one workspace build, so the workspace orders them
+	 * by their references and builds up to the requested number of independent
+	 * projects concurrently. The API analysis of each project runs as job, so
+	 * independent projects are also analyzed concurrently, bounded by
+	 * {@link ApiAnalysisBuilder#getAnalysisParallelism()}.
+	 * <p>
+	 * The problems of a project are written as one JSON object per line as
+	 * soon as its analysis job is done and its markers are created, so the
+	 * projects appear in the order they finish. Projects that were not
+	 * analyzed in a job are written at the end, in the given order.
+	 * </p>
+	 *
+	 * @return the exit code
+	 */
+	private int analyzeBatch(List<IProject> projects, Request args) throws CoreException, IOException, InterruptedException {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceDescription desc = workspace.getDescription();
+		int maxConcurrentBuilds = desc.getMaxConcurrentBuilds();
+		desc.setMaxConcurrentBuilds(args.threads);
+		workspace.setDescription(desc);
+		PDEPreferencesManager prefs = PDECore.getDefault().getPreferencesManager();
+		prefs.setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, true);
+		PrintStream out = args.output == null ? System.out
+				: new PrintStream(new BufferedOutputStream(Files.newOutputStream(args.output.toPath())), false,
+						StandardCharsets.UTF_8);
+		BatchReport report = new BatchReport(out);
+		Set<IProject> batch = new HashSet<>(projects);
+		IJobChangeListener listener = new JobChangeAdapter() {
+			@Override
+			public void done(IJobChangeEvent event) {
+				if (event.getJob() instanceof ApiAnalysisJob job && batch.contains(job.getProject())
+						&& event.getResult().getSeverity() != IStatus.CANCEL) {
+					report.schedule(job.getProject());
+				}
+			}
+		};
+		Job.getJobManager().addJobChangeListener(listener);
+		try {
+			IBuildConfiguration[] configs = new IBuildConfiguration[projects.size()];
+			for (int i = 0; i < configs.length; i++) {
+				configs[i] = projects.get(i).getActiveBuildConfig();
+			}
+			workspace.build(configs, IncrementalProjectBuilder.FULL_BUILD, true, new NullProgressMonitor());
+			waitForJobs();
+			for (IProject project : projects) {
+				report.report(project);
+			}
+		} finally {
+			Job.getJobManager().removeJobChangeListener(listener);
+			prefs.setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
+			desc = workspace.getDescription();
+			desc.setMaxConcurrentBuilds(maxConcurrentBuilds);
+			workspace.setDescription(desc);
+			if (out != System.out) {
+				out.close();
+			}
+		}
+		System.err.println(String.format("%d projects analyzed: %d blocking errors, %d API errors, %d API warnings", //$NON-NLS-1$
+				projects.size(), report.blockingErrors, report.apiErrors, report.apiWarnings));
+		return getExitCode(report.blockingErrors, report.apiErrors, args.failOnError);
+	}
+
+	/**
+	 * Returns the exit code of a batch run.
+	 *
+	 * @param blockingErrors the number of errors that are not API problems,
+	 *            e.g. compilation errors
+	 * @param apiErrors the number of API errors
+	 * @param failOnError whether API errors fail the run
+	 * @return 10 if there are blocking errors, {@link IStatus#ERROR} if there
+	 *         are API errors and the run should fail on them, otherwise
+	 *         {@link IStatus#OK}
+	 */
+	public static int getExitCode(int blockingErrors, int apiErrors, boolean failOnError) {
+		if (blockingErrors > 0) {
+			return 10;
+		}
+		if (failOnError && apiErrors > 0) {
+			return IStatus.ERROR;
+		}
+		return IStatus.OK;
+	}
+
+	/**
+	 * Writes the problems of the projects of a batch run and counts them. Each
+	 * project is written once, as one block, either by a report job when its
+	 * analysis is done or by the calling thread at the end.
+	 */
+	private static final class BatchReport {
+
+		private final PrintStream fOut;
+		private final Set<IProject> fReported = new HashSet<>();
+		int blockingErrors;
+		int apiErrors;
+		int apiWarnings;
+
+		BatchReport(PrintStream out) {
+			fOut = out;
+		}
+
+		/**
+		 * Schedules the report of the given project. The job uses the project
+		 * as rule, so it runs after the jobs already scheduled to create the
+		 * markers of the project.
+		 */
+		void schedule(IProject project) {
+			Job job = Job.createSystem("Reporting API problems of " + project.getName(), monitor -> { //$NON-NLS-1$
+				if (!isAnalysisPending(project)) {
+					report(project);
+				}
+			});
+			job.setRule(project);
+			job.schedule();
+		}
+
+		synchronized void report(IProject project) throws CoreException {
+			if (!fReported.add(project)) {
+				return;
+			}
+			StringBuilder problems = new StringBuilder();
+			for (IMarker marker : project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE)) {
+				int severity = marker.getAttribute(IMarker.SEVERITY, -1);
+				String kind;
+				if (!isAPIMarker(marker)) {
+					if (severity != IMarker.SEVERITY_ERROR) {
+						continue;
+					}
+					blockingErrors++;
+					kind = "FATAL"; //$NON-NLS-1$
+				} else if (severity == IMarker.SEVERITY_ERROR) {
+					apiErrors++;
+					kind = "API ERROR"; //$NON-NLS-1$
+				} else if (severity == IMarker.SEVERITY_WARNING) {
+					apiWarnings++;
+					kind = "API WARNING"; //$NON-NLS-1$
+				} else {
+					continue;
+				}
+				appendMarker(problems, project, marker, kind);
+			}
+			fOut.print(problems);
+			fOut.flush();
+		}
+	}
+
+	/**
+	 * @return whether an analysis job of the given project is waiting or
+	 *         running, e.g. because it was rescheduled
+	 */
+	private static boolean isAnalysisPending(IProject project) {
+		for (Job job : Job.getJobManager().find(ApiAnalysisJob.class)) {
+			if (project.equals(((ApiAnalysisJob) job).getProject())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Waits until all jobs scheduled as part of the build are done, woken up
+	 * by job change events instead of spinning.
+	 */
+	private static void waitForJobs() throws InterruptedException {
+		IJobManager jobManager = Job.getJobManager();
+		Object lock = new Object();
+		IJobChangeListener listener = new JobChangeAdapter() {
+			@Override
+			public void done(IJobChangeEvent event) {
+				synchronized (lock) {
+					lock.notifyAll();
+				}
+			}
+		};
+		jobManager.addJobChangeListener(listener);
+		try {
+			synchronized (lock) {
+				while (!jobManager.isIdle()) {
+					// the timeout covers jobs finishing before the manager
+					// reports to be idle
+					lock.wait(500);
+				}
+			}
+		} finally {
+			jobManager.removeJobChangeListener(listener);
+		}
+	}
+
+	private static void appendMarker(StringBuilder buffer, IProject project, IMarker marker, String type) {
+		String message = marker.getAttribute(IMarker.MESSAGE, "").trim(); //$NON-NLS-1$
+		String description = marker.getAttribute("description", "").trim(); //$NON-NLS-1$ //$NON-NLS-2$
+		if (!description.isEmpty()) {
+			message = String.format("%s %s", message, description); //$NON-NLS-1$
+		}
+		buffer.append("{\"project\":").append(toJson(project.getName())); //$NON-NLS-1$
+		buffer.append(",\"type\":").append(toJson(type)); //$NON-NLS-1$
+		buffer.append(",\"file\":").append(toJson(marker.getResource().getName())); //$NON-NLS-1$
+		buffer.append(",\"line\":").append(marker.getAttribute(IMarker.LINE_NUMBER, -1)); //$NON-NLS-1$
+		buffer.append(",\"message\":").append(toJson(message)); //$NON-NLS-1$
+		buffer.append(",\"location\":").append(toJson(getFullPath(marker))); //$NON-NLS-1$
+		buffer.append("}\n"); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the given value as JSON string, in quotes and with the special
+	 *         characters escaped
+	 */
+	public static String toJson(String value) {
+		StringBuilder buffer = new StringBuilder(value.length() + 2);
+		buffer.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> buffer.append("\\\""); //$NON-NLS-1$
+				case '\\' -> buffer.append("\\\\"); //$NON-NLS-1$
+				case '\n' -> buffer.append("\\n"); //$NON-NLS-1$
+				case '\r' -> buffer.append("\\r"); //$NON-NLS-1$
+				case '\t' -> buffer.append("\\t"); //$NON-NLS-1$
+				default -> {
+					if (c < 0x20) {
+						buffer.append(String.format("\\u%04x", (int) c)); //$NON-NLS-1$
+					} else {
+						buffer.append(c);
+					}
+				}
 			}
 		}
+		return buffer.append('"').toString();
 	}
 
 	private static void printMarker(IMarker marker, String type) {
@@ -367,12 +676,12 @@ public class ApiAnalysisApplication implements IApplication {
 			projectDescription.setBuildSpec(newBuilders);
 			project.setDescription(projectDescription, IResource.NONE, new NullProgressMonitor());
 
-			restoreOriginalProjectState = m -> {
+			restoreOriginalProjectState.add(m -> {
 				projectFile.setContents(new ByteArrayInputStream(originalContent), IResource.FORCE, m);
 				projectRemover.run(m);
-			};
+			});
 		} else {
-			restoreOriginalProjectState = projectRemover;
+			restoreOriginalProjectState.add(projectRemover);
 		}
 		return project;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,6 +57,7 @@ import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysis
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.ClassFileContentCache;
 import org.eclipse.pde.api.tools.internal.model.StubApiComponent;
 import org.eclipse.pde.api.tools.internal.model.WorkspaceBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -555,6 +556,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				hasinfos.clear();
 			}
 			StubApiComponent.disposeAllCaches();
+			ClassFileContentCache.getDefault().flush();
 		} finally {
 			if (ApiPlugin.isRunningInFramework()) {
 				ApiPlugin.getDefault().removeSaveParticipant(this);
@@ -630,6 +632,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					}
 					oldBaseline = workspacebaseline;
 					StubApiComponent.disposeAllCaches();
+					ClassFileContentCache.getDefault().flush();
 					workspacebaseline = null;
 				}
 			}
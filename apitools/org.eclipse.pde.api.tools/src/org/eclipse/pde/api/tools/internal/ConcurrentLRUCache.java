@@ -0,0 +1,338 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A thread safe least recently used cache. The cache is split into segments
+ * selected by the hash of the key, every segment has its own lock and its own
+ * share of the space limit, so threads working with different keys do not
+ * contend for a single monitor.
+ * <p>
+ * The space an entry takes is computed by an optional weigher (by default
+ * every entry counts as one). When a segment runs out of space its least
+ * recently used entries are evicted and handed to the optional eviction
+ * listener, outside of the segment lock.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ConcurrentLRUCache<K, V> {
+
+	/**
+	 * Maximum number of segments
+	 */
+	private static final int MAX_SEGMENTS = 16;
+
+	/**
+	 * Minimal space a segment should have, small caches use fewer segments so
+	 * the LRU order stays meaningful.
+	 */
+	private static final int MIN_SEGMENT_SPACE = 16;
+
+	private final class Segment {
+		private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+		private int space;
+
+		/**
+		 * Has to be called holding the segment lock, collects evicted entries
+		 */
+		void trim(int limit, Map<K, V> evicted) {
+			Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+			while (space > limit && iterator.hasNext()) {
+				Map.Entry<K, V> eldest = iterator.next();
+				iterator.remove();
+				space -= weigh(eldest.getKey(), eldest.getValue());
+				evicted.put(eldest.getKey(), eldest.getValue());
+			}
+		}
+	}
+
+	private final Segment[] fSegments;
+	private final ToIntBiFunction<? super K, ? super V> fWeigher;
+	private final BiConsumer<? super K, ? super V> fEvictionListener;
+	private volatile int fSegmentLimit;
+	private volatile int fSpaceLimit;
+
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fEvictions = new LongAdder();
+
+	/**
+	 * Creates a cache holding at most the given number of entries.
+	 *
+	 * @param spaceLimit the maximum number of entries
+	 */
+	public ConcurrentLRUCache(int spaceLimit) {
+		this(spaceLimit, null, null);
+	}
+
+	/**
+	 * Creates a cache with the given space limit.
+	 *
+	 * @param spaceLimit the maximum total weight of all entries
+	 * @param weigher computes the weight of an entry, <code>null</code> to
+	 *            count every entry as one
+	 * @param evictionListener notified about entries evicted because the cache
+	 *            ran out of space or was flushed, may be <code>null</code>
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentLRUCache(int spaceLimit, ToIntBiFunction<? super K, ? super V> weigher,
+			BiConsumer<? super K, ? super V> evictionListener) {
+		int segments = 1;
+		while (segments < MAX_SEGMENTS && spaceLimit / (segments * 2) >= MIN_SEGMENT_SPACE) {
+			segments *= 2;
+		}
+		fSegments = new ConcurrentLRUCache.Segment[segments];
+		for (int i = 0; i < segments; i++) {
+			fSegments[i] = new Segment();
+		}
+		fWeigher = weigher;
+		fEvictionListener = evictionListener;
+		fSpaceLimit = spaceLimit;
+		fSegmentLimit = segmentLimit(spaceLimit);
+	}
+
+	private int segmentLimit(int spaceLimit) {
+		// round down, the segments together must not exceed the limit
+		return Math.max(1, spaceLimit / fSegments.length);
+	}
+
+	private Segment segmentFor(Object key) {
+		int h = key.hashCode();
+		h ^= (h >>> 16);
+		return fSegments[h & (fSegments.length - 1)];
+	}
+
+	private int weigh(K key, V value) {
+		return fWeigher == null ? 1 : fWeigher.applyAsInt(key, value);
+	}
+
+	private void notifyEvicted(Map<K, V> evicted) {
+		if (evicted.isEmpty()) {
+			return;
+		}
+		fEvictions.add(evicted.size());
+		if (fEvictionListener != null) {
+			evicted.forEach(fEvictionListener);
+		}
+	}
+
+	/**
+	 * Returns the value cached for the given key and marks it as most recently
+	 * used.
+	 *
+	 * @return the cached value or <code>null</code>
+	 */
+	public V get(K key) {
+		Segment segment = segmentFor(key);
+		V value;
+		synchronized (segment) {
+			value = segment.entries.get(key);
+		}
+		if (value == null) {
+			fMisses.increment();
+		} else {
+			fHits.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Caches the given value, evicting least recently used entries if needed.
+	 *
+	 * @return the value previously cached for the key or <code>null</code>
+	 */
+	public V put(K key, V value) {
+		Segment segment = segmentFor(key);
+		Map<K, V> evicted = new LinkedHashMap<>();
+		V previous;
+		synchronized (segment) {
+			previous = segment.entries.put(key, value);
+			if (previous != null) {
+				segment.space -= weigh(key, previous);
+			}
+			segment.space += weigh(key, value);
+			segment.trim(fSegmentLimit, evicted);
+		}
+		notifyEvicted(evicted);
+		return previous;
+	}
+
+	/**
+	 * Caches the given value unless a value is already cached for the key.
+	 *
+	 * @return the value already cached for the key, or <code>null</code> if
+	 *         the given value was added
+	 */
+	public V putIfAbsent(K key, V value) {
+		Segment segment = segmentFor(key);
+		Map<K, V> evicted = new LinkedHashMap<>();
+		synchronized (segment) {
+			V previous = segment.entries.get(key);
+			if (previous != null) {
+				return previous;
+			}
+			segment.entries.put(key, value);
+			segment.space += weigh(key, value);
+			segment.trim(fSegmentLimit, evicted);
+		}
+		notifyEvicted(evicted);
+		return null;
+	}
+
+	/**
+	 * Removes the value cached for the given key. The eviction listener is
+	 * not notified.
+	 *
+	 * @return the removed value or <code>null</code>
+	 */
+	public V remove(K key) {
+		Segment segment = segmentFor(key);
+		synchronized (segment) {
+			V previous = segment.entries.remove(key);
+			if (previous != null) {
+				segment.space -= weigh(key, previous);
+			}
+			return previous;
+		}
+	}
+
+	/**
+	 * Removes all entries, notifying the eviction listener about each of them.
+	 */
+	public void flush() {
+		for (Segment segment : fSegments) {
+			Map<K, V> evicted;
+			synchronized (segment) {
+				evicted = new LinkedHashMap<>(segment.entries);
+				segment.entries.clear();
+				segment.space = 0;
+			}
+			if (fEvictionListener != null) {
+				evicted.forEach(fEvictionListener);
+			}
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the cache has no entries
+	 */
+	public boolean isEmpty() {
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				if (!segment.entries.isEmpty()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the number of entries in the cache
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				size += segment.entries.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return snapshot of the keys in the cache
+	 */
+	public List<K> keysSnapshot() {
+		List<K> keys = new ArrayList<>();
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				keys.addAll(segment.entries.keySet());
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * @return snapshot of the values in the cache
+	 */
+	public List<V> elementsSnapshot() {
+		List<V> values = new ArrayList<>();
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				values.addAll(segment.entries.values());
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Changes the space limit, evicting entries if the cache now holds too
+	 * much.
+	 */
+	public void setSpaceLimit(int limit) {
+		fSpaceLimit = limit;
+		int segmentLimit = segmentLimit(limit);
+		fSegmentLimit = segmentLimit;
+		for (Segment segment : fSegments) {
+			Map<K, V> evicted = new LinkedHashMap<>();
+			synchronized (segment) {
+				segment.trim(segmentLimit, evicted);
+			}
+			notifyEvicted(evicted);
+		}
+	}
+
+	/**
+	 * @return the maximum total weight of all entries
+	 */
+	public int getSpaceLimit() {
+		return fSpaceLimit;
+	}
+
+	/**
+	 * @return number of {@link #get(Object)} calls that found a value
+	 */
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return number of {@link #get(Object)} calls that found no value
+	 */
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * @return number of entries evicted because the cache ran out of space
+	 */
+	public long getEvictionCount() {
+		return fEvictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ConcurrentLRUCache[size=%d, limit=%d, hits=%d, misses=%d, evictions=%d]", //$NON-NLS-1$
+				size(), fSpaceLimit, getHitCount(), getMissCount(), getEvictionCount());
+	}
+}
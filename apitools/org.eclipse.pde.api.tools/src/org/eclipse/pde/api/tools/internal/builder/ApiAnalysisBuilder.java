@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -177,6 +178,42 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 
 	private final ConcurrentLinkedQueue<Runnable> markersQueue = new ConcurrentLinkedQueue<>();
 
+	/**
+	 * Group of all {@link ApiAnalysisJob}s. The analysis of independent
+	 * projects runs in parallel, bounded by {@link #getAnalysisParallelism()}
+	 * so a full build of a large workspace does not start one thread per
+	 * project.
+	 */
+	private static final JobGroup ANALYSIS_JOBS = new JobGroup(BuilderMessages.api_analysis_builder,
+			getAnalysisParallelism(), 0) {
+		@Override
+		protected boolean shouldCancel(IStatus lastCompletedJobResult, int numberOfFailedJobs,
+				int numberOfCancelledJobs) {
+			// a failure in one project must not cancel the analysis of the others
+			return false;
+		}
+	};
+
+	/**
+	 * Returns the number of projects that are analyzed in parallel when the
+	 * API analysis runs as job. Configurable with the
+	 * <code>org.eclipse.pde.api.tools.analysis.threads</code> system property,
+	 * defaults to the number of available processors.
+	 *
+	 * @return the number of threads to use for API analysis jobs
+	 */
+	public static int getAnalysisParallelism() {
+		int defaultValue = Runtime.getRuntime().availableProcessors();
+		return Math.max(1, Integer.getInteger("org.eclipse.pde.api.tools.analysis.threads", defaultValue)); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the group all {@link ApiAnalysisJob}s belong to
+	 */
+	public static JobGroup getAnalysisJobGroup() {
+		return ANALYSIS_JOBS;
+	}
+
 	/**
 	 * Bug 549838:  In case auto-building on a API tools settings change  is not desired,
 	 * specify VM property: {@code -Dorg.eclipse.disableAutoBuildOnSettingsChange=true}
@@ -547,6 +584,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			// Intentionally not using project as rule to allow run in parallel with build
 			// locking entire workspace
 			setRule(new ApiAnalysisJobRule(project));
+			setJobGroup(ANALYSIS_JOBS);
 		}
 
 		@Override
@@ -586,6 +624,13 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			schedule();
 		}
 
+		/**
+		 * @return the project analyzed by this job
+		 */
+		public IProject getProject() {
+			return project;
+		}
+
 		@Override
 		public boolean belongsTo(Object family) {
 			return super.belongsTo(family) || ApiAnalysisJob.class == family;
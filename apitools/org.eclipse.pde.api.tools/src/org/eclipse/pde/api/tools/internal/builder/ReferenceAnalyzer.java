@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,13 +14,21 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.text.MessageFormat;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -36,6 +44,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.internal.core.util.FutureUtil;
 
 /**
  * The reference analyzer
@@ -59,20 +68,23 @@ public class ReferenceAnalyzer {
 	private static final IApiProblemDetector[] NO_PROBLEM_DETECTORS = new IApiProblemDetector[0];
 
 	/**
-	 * Visits each class file, extracting references.
+	 * Visits each class file, collecting the class files to extract references
+	 * from.
 	 */
 	class Visitor extends ApiTypeContainerVisitor {
 
 		private IProgressMonitor fMonitor = null;
+		private final List<IApiTypeRoot> fClassFiles;
 
-		public Visitor(IProgressMonitor monitor) {
+		public Visitor(List<IApiTypeRoot> classFiles, IProgressMonitor monitor) {
+			fClassFiles = classFiles;
 			fMonitor = monitor;
 		}
 
 		@Override
 		public boolean visitPackage(String packageName) {
 			fMonitor.subTask(MessageFormat.format(BuilderMessages.ReferenceAnalyzer_checking_api_used_by, packageName));
-			return true;
+			return !fMonitor.isCanceled();
 		}
 
 		@Override
@@ -83,49 +95,17 @@ public class ReferenceAnalyzer {
 		@Override
 		public void visit(String packageName, IApiTypeRoot classFile) {
 			if (!fMonitor.isCanceled()) {
-				try {
-					IApiType type = classFile.getStructure();
-					if (type == null) {
-						// do nothing for bad class files
-						return;
-					}
-					// don't process inner/anonymous/local types, this is done
-					// in the extractor
-					if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
-						return;
-					}
-					List<IReference> references = type.extractReferences(fAllReferenceKinds, null);
-					// keep potential matches
-					for (IReference ref : references) {
-						if (fMonitor.isCanceled()) {
-							break;
-						}
-						// compute index of interested problem detectors
-						int index = getLog2(ref.getReferenceKind());
-						IApiProblemDetector[] detectors = fIndexedDetectors[index];
-						boolean added = false;
-						if (detectors != null) {
-							for (IApiProblemDetector detector : detectors) {
-								if (fMonitor.isCanceled()) {
-									break;
-								}
-								if (detector.considerReference(ref, fMonitor)) {
-									if (!added) {
-										fReferences.add(ref);
-										added = true;
-									}
-								}
-							}
-						}
-					}
-				} catch (CoreException e) {
-					fStatus.add(e.getStatus());
-					AbstractProblemDetector.checkIfDisposed(classFile.getApiComponent(), fMonitor);
-				}
+				fClassFiles.add(classFile);
 			}
 		}
 	}
 
+	/**
+	 * References extracted from one class file, or the error that occurred.
+	 */
+	private record Extraction(IApiTypeRoot classFile, List<IReference> references, IStatus error) {
+	}
+
 	/**
 	 * Scan status
 	 */
@@ -139,7 +119,7 @@ public class ReferenceAnalyzer {
 	/**
 	 * List of references to consider/resolve.
 	 */
-	List<IReference> fReferences = new LinkedList<>();
+	List<IReference> fReferences = new ArrayList<>();
 
 	/**
 	 * Problem detectors indexed by the log base 2 of each reference kind they
@@ -195,6 +175,14 @@ public class ReferenceAnalyzer {
 
 	/**
 	 * Scans the given scope extracting all reference information.
+	 * <p>
+	 * References are extracted from the class files on the shared
+	 * {@link ReferenceWorkers} pool, a bounded number of class files ahead.
+	 * The problem detectors are not thread safe, so the references of each
+	 * class file are handed to them on the calling thread, in the order the
+	 * class files were visited, as soon as they are extracted. Only the
+	 * retained references are kept.
+	 * </p>
 	 *
 	 * @param scope scope to scan
 	 * @param monitor progress monitor
@@ -203,20 +191,112 @@ public class ReferenceAnalyzer {
 	void extractReferences(IApiTypeContainer scope, IProgressMonitor monitor) throws CoreException {
 		fStatus = new MultiStatus(ApiPlugin.PLUGIN_ID, 0, BuilderMessages.ReferenceAnalyzer_api_analysis_error, null);
 		String[] packageNames = scope.getPackageNames();
-		SubMonitor localMonitor = SubMonitor.convert(monitor, packageNames.length);
-		ApiTypeContainerVisitor visitor = new Visitor(localMonitor);
+		SubMonitor localMonitor = SubMonitor.convert(monitor, packageNames.length + 1);
+		List<IApiTypeRoot> classFiles = new ArrayList<>();
 		long start = System.currentTimeMillis();
 		try {
-			scope.accept(visitor);
+			scope.accept(new Visitor(classFiles, localMonitor));
 		} catch (CoreException e) {
 			fStatus.add(e.getStatus());
 		}
+		// workers are only told about cancellation
+		IProgressMonitor workerMonitor = new NullProgressMonitor();
+		ForkJoinPool pool = ReferenceWorkers.getPool();
+		int maxPending = 2 * pool.getParallelism();
+		Deque<Future<Extraction>> pending = new ArrayDeque<>(maxPending);
+		int next = 0;
+		try {
+			while (next < classFiles.size() || !pending.isEmpty()) {
+				while (next < classFiles.size() && pending.size() < maxPending) {
+					IApiTypeRoot classFile = classFiles.get(next++);
+					pending.add(pool.submit(() -> extractReferences(classFile, workerMonitor)));
+				}
+				Extraction extraction = FutureUtil.await(pending.remove(), localMonitor, workerMonitor);
+				if (extraction.error() != null) {
+					fStatus.add(extraction.error());
+					AbstractProblemDetector.checkIfDisposed(extraction.classFile().getApiComponent(), localMonitor);
+				} else {
+					considerReferences(extraction.references(), localMonitor);
+				}
+				if (localMonitor.isCanceled()) {
+					break;
+				}
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new CoreException(Status.error(e.getMessage(), e.getCause()));
+		} finally {
+			workerMonitor.setCanceled(true);
+			for (Future<Extraction> extraction : pending) {
+				extraction.cancel(false);
+			}
+		}
+		localMonitor.worked(1);
 		long end = System.currentTimeMillis();
 		if (!fStatus.isOK()) {
 			throw new CoreException(fStatus);
 		}
 		if (ApiPlugin.DEBUG_REFERENCE_ANALYZER) {
-			System.out.println("Reference Analyzer: extracted " + fReferences.size() + " references in " + (end - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			System.out.println("Reference Analyzer: extracted " + fReferences.size() + " references from " + classFiles.size() + " class files in " + (end - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+	}
+
+	/**
+	 * Extracts the references of interest from the given class file. Called on
+	 * worker threads, only checks the given monitor for cancellation.
+	 */
+	private Extraction extractReferences(IApiTypeRoot classFile, IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			return new Extraction(classFile, List.of(), null);
+		}
+		try {
+			IApiType type = classFile.getStructure();
+			if (type == null) {
+				// do nothing for bad class files
+				return new Extraction(classFile, List.of(), null);
+			}
+			// don't process inner/anonymous/local types, this is done
+			// in the extractor
+			if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
+				return new Extraction(classFile, List.of(), null);
+			}
+			return new Extraction(classFile, type.extractReferences(fAllReferenceKinds, null), null);
+		} catch (CoreException e) {
+			return new Extraction(classFile, null, e.getStatus());
+		}
+	}
+
+	/**
+	 * Hands the references of one class file to the interested problem
+	 * detectors and keeps the ones at least one detector retains.
+	 */
+	private void considerReferences(List<IReference> references, IProgressMonitor monitor) {
+		for (IReference ref : references) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+			// compute index of interested problem detectors
+			int index = getLog2(ref.getReferenceKind());
+			IApiProblemDetector[] detectors = fIndexedDetectors[index];
+			boolean added = false;
+			if (detectors != null) {
+				for (IApiProblemDetector detector : detectors) {
+					if (monitor.isCanceled()) {
+						break;
+					}
+					if (detector.considerReference(ref, monitor)) {
+						if (!added) {
+							fReferences.add(ref);
+							added = true;
+						}
+					}
+				}
+			}
 		}
 	}
 
@@ -247,7 +327,7 @@ public class ReferenceAnalyzer {
 				ReferenceResolver.resolveReferences(fReferences);
 			}
 			// 3. create problems
-			List<IApiProblem> allProblems = new LinkedList<>();
+			List<IApiProblem> allProblems = new ArrayList<>();
 			localMonitor.subTask(BuilderMessages.ReferenceAnalyzer_analyzing_api_checking_use);
 			SubMonitor loopMonitor = localMonitor.split(1).setWorkRemaining(detectors.length);
 			for (IApiProblemDetector detector : detectors) {
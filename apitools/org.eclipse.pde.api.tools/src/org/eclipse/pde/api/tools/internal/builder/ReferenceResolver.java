@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,11 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -79,9 +81,7 @@ public final class ReferenceResolver {
 		}
 		// resolve method overrides
 		start = System.currentTimeMillis();
-		for (Reference reference : methodDecls) {
-			reference.resolve();
-		}
+		resolveInParallel(methodDecls, Reference::resolve);
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
 			System.out.println("Reference resolver: resolved method overrides in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
@@ -95,16 +95,55 @@ public final class ReferenceResolver {
 	 * @throws CoreException if something bad happens
 	 */
 	private static void resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
-		IReference ref = null;
+		// sets referencing the same type form one batch, so the type is looked
+		// up by a single worker only
+		Map<String, List<List<IReference>>> batches = new LinkedHashMap<>();
 		for (List<IReference> refs : map.values()) {
-			ref = refs.get(0);
-			((Reference) ref).resolve();
-			IApiMember resolved = ref.getResolvedReference();
-			if (resolved != null) {
-				for (IReference ref2 : refs) {
-					((Reference) ref2).setResolution(resolved);
+			batches.computeIfAbsent(refs.get(0).getReferencedTypeName(), k -> new ArrayList<>()).add(refs);
+		}
+		resolveInParallel(batches.values(), batch -> {
+			for (List<IReference> refs : batch) {
+				IReference ref = refs.get(0);
+				((Reference) ref).resolve();
+				IApiMember resolved = ref.getResolvedReference();
+				if (resolved != null) {
+					for (IReference ref2 : refs) {
+						((Reference) ref2).setResolution(resolved);
+					}
 				}
 			}
+		});
+	}
+
+	/**
+	 * A unit of resolution work.
+	 */
+	@FunctionalInterface
+	private interface ResolveTask<T> {
+		void resolve(T element) throws CoreException;
+	}
+
+	/**
+	 * Runs the given task for all elements on the shared
+	 * {@link ReferenceWorkers} pool. If tasks fail, the exception of the
+	 * first failing element (in iteration order) is thrown, independent of the
+	 * order the workers ran in.
+	 */
+	private static <T> void resolveInParallel(Collection<T> elements, ResolveTask<T> task) throws CoreException {
+		List<T> list = elements instanceof List<T> l ? l : new ArrayList<>(elements);
+		CoreException[] failures = ReferenceWorkers.invoke(() -> IntStream.range(0, list.size()).parallel()
+				.mapToObj(i -> {
+					try {
+						task.resolve(list.get(i));
+						return null;
+					} catch (CoreException e) {
+						return e;
+					}
+				}).toArray(CoreException[]::new));
+		for (CoreException failure : failures) {
+			if (failure != null) {
+				throw failure;
+			}
 		}
 	}
 
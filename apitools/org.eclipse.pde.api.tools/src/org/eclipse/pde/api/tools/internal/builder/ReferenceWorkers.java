@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The pool extracting and resolving references for the
+ * {@link ReferenceAnalyzer} and the {@link ReferenceResolver}.
+ * <p>
+ * A single pool is shared by all analyses, so the analysis of several
+ * projects at the same time (see {@link ApiAnalysisBuilder}) does not multiply
+ * the number of threads. Its size can be set with the
+ * <code>org.eclipse.pde.api.tools.references.threads</code> system property
+ * and defaults to the number of available processors.
+ * </p>
+ */
+final class ReferenceWorkers {
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private static ForkJoinPool fPool;
+
+	private ReferenceWorkers() { // static use only
+	}
+
+	/**
+	 * @return the number of threads of the shared pool, at least 1
+	 */
+	static int getParallelism() {
+		int defaultValue = Runtime.getRuntime().availableProcessors();
+		return Math.max(1, Integer.getInteger("org.eclipse.pde.api.tools.references.threads", defaultValue)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the shared pool, created on first use. Its threads are daemon
+	 * threads that end when they have been idle for a while.
+	 *
+	 * @return the shared pool
+	 */
+	static synchronized ForkJoinPool getPool() {
+		if (fPool == null) {
+			fPool = new ForkJoinPool(getParallelism(), pool -> {
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("API Tools References " + THREAD_COUNT.incrementAndGet()); //$NON-NLS-1$
+				return thread;
+			}, null, false);
+		}
+		return fPool;
+	}
+
+	/**
+	 * Runs the given task on the shared pool and waits for its result.
+	 * Parallel streams created by the task run on the shared pool instead of
+	 * the common pool.
+	 *
+	 * @param task the task to run
+	 * @return the result of the task
+	 */
+	static <T> T invoke(Supplier<T> task) {
+		return getPool().submit(task::get).join();
+	}
+}
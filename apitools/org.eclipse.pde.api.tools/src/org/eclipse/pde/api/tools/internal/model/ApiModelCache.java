@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,10 @@
 package org.eclipse.pde.api.tools.internal.model;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.internal.core.util.LRUCache;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
+import org.eclipse.pde.api.tools.internal.ConcurrentLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -33,23 +33,29 @@ public final class ApiModelCache {
 	/**
 	 * Cache used for {@link IApiElement}s
 	 */
-	static class Cache<K, V> extends SynchronizedOverflowingLRUCache<K, V> {
+	static class Cache<K, V> extends ConcurrentLRUCache<K, V> {
 
 		/**
 		 * Constructor
 		 */
-		public Cache(int size, int overflow) {
-			super(size, overflow);
+		public Cache(int size) {
+			super(size);
 		}
 
-		@Override
-		protected boolean close(LRUCacheEntry<K, V> entry) {
-			return true;
-		}
-
-		@Override
-		protected LRUCache<K, V> newInstance(int size, int newOverflow) {
-			return new Cache<>(size, newOverflow);
+		/**
+		 * Returns the value cached for the given key, caching a new value
+		 * created by the given factory if there is none yet.
+		 */
+		V getOrCreate(K key, Supplier<V> factory) {
+			V value = get(key);
+			if (value == null) {
+				value = factory.get();
+				V existing = putIfAbsent(key, value);
+				if (existing != null) {
+					value = existing;
+				}
+			}
+			return value;
 		}
 
 	}
@@ -58,8 +64,8 @@ public final class ApiModelCache {
 	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
 	static ApiModelCache fInstance = null;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	volatile Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
+	volatile Cache<String, Cache<String, ApiType>> fMemberTypeCache;
 
 	/**
 	 * Constructor - no instantiation
@@ -79,6 +85,20 @@ public final class ApiModelCache {
 		return fInstance;
 	}
 
+	private synchronized Cache<String, Cache<String, Cache<String, IApiElement>>> getRootCache() {
+		if (fRootCache == null) {
+			fRootCache = new Cache<>((DEFAULT_CACHE_SIZE + DEFAULT_OVERFLOW) / 150);
+		}
+		return fRootCache;
+	}
+
+	private synchronized Cache<String, Cache<String, ApiType>> getMemberTypeCache() {
+		if (fMemberTypeCache == null) {
+			fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE + DEFAULT_OVERFLOW);
+		}
+		return fMemberTypeCache;
+	}
+
 	/**
 	 * Returns the key to use in a cache. The key is of the form:
 	 * <code>[baselineid].[componentid].[typename]</code><br>
@@ -103,9 +123,6 @@ public final class ApiModelCache {
 	public void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
-				if (fRootCache == null) {
-					fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
-				}
 				IApiComponent comp = element.getApiComponent();
 				if (comp != null) {
 					IApiBaseline baseline = comp.getBaseline();
@@ -113,16 +130,10 @@ public final class ApiModelCache {
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
-					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
-					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
-					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
-					}
+					Cache<String, Cache<String, IApiElement>> compcache = getRootCache().getOrCreate(baseline.getName(),
+							() -> new Cache<>((DEFAULT_CACHE_SIZE + DEFAULT_OVERFLOW) / 2));
+					Cache<String, IApiElement> typecache = compcache.getOrCreate(id,
+							() -> new Cache<>(DEFAULT_CACHE_SIZE * 2 + DEFAULT_OVERFLOW));
 					ApiType type = (ApiType) element;
 					if (type.isMemberType() || isMemberType(type.getName()) /*
 																			 * cache
@@ -140,15 +151,9 @@ public final class ApiModelCache {
 																			 * as
 																			 * well
 																			 */) {
-						if (this.fMemberTypeCache == null) {
-							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-						}
 						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
-						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
-						}
+						Cache<String, ApiType> mcache = getMemberTypeCache().getOrCreate(key,
+								() -> new Cache<>(DEFAULT_CACHE_SIZE + DEFAULT_OVERFLOW));
 						mcache.put(type.getName(), type);
 					} else {
 						typecache.put(element.getName(), element);
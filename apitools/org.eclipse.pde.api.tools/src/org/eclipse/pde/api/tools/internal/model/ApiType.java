@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.pde.api.tools.internal.model;
 
 import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -636,4 +638,42 @@ public class ApiType extends ApiMember implements IApiType {
 		}
 		return fEnclosingTypeName;
 	}
+
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return the name of the enclosing type as found in the class file or
+	 *         <code>null</code>
+	 */
+	String getEnclosingTypeName() {
+		return fEnclosingTypeName;
+	}
+
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return the simple names of the member types
+	 */
+	Collection<String> getMemberTypeNames() {
+		if (fMemberTypes == null) {
+			return Collections.emptySet();
+		}
+		return fMemberTypes.keySet();
+	}
+
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return <code>null</code> if the enclosing method was not computed yet,
+	 *         otherwise the name and signature of the enclosing method, both
+	 *         <code>null</code> if there is none
+	 */
+	String[] getEnclosingMethodInfo() {
+		if (fEnclosingMethodName == null) {
+			return null;
+		}
+		return new String[] {
+				fEnclosingMethodName == NO_ENCLOSING_METHOD ? null : fEnclosingMethodName,
+				fEnclosingMethodSignature == NO_ENCLOSING_METHOD ? null : fEnclosingMethodSignature };
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
@@ -26,6 +27,7 @@ import java.util.stream.Stream;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
@@ -44,7 +46,6 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	static class ArchiveApiTypeRoot extends AbstractApiTypeRoot implements Comparable<Object> {
 
 		private final String fTypeName;
-		private byte[] fContents = null;
 
 		/**
 		 * Constructs a new handle to an {@link IApiTypeRoot} in the archive.
@@ -82,18 +83,33 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 
 		@Override
 		public byte[] getContents() throws CoreException {
-			if (fContents != null) {
-				return fContents;
-			}
 			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
-			try {
-				Path location = archive.getLocation();
-				Path classLocation = location.resolve(getName());
-				fContents = Files.readAllBytes(classLocation);
-			} catch (IOException e) {
-				abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
+			return ClassFileContentCache.getDefault().getContents(archive.fLocation, getName(), archive.fTimestamp, () -> {
+				try {
+					Path location = archive.getLocation();
+					Path classLocation = location.resolve(getName());
+					return Files.readAllBytes(classLocation);
+				} catch (IOException e) {
+					abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
+					return null;
+				}
+			});
+		}
+
+		@Override
+		protected IApiType buildStructure() throws CoreException {
+			ArchiveTypeIndex.Archive index = ((ArchiveApiTypeContainer) getParent()).fIndex;
+			if (index == null) {
+				return super.buildStructure();
 			}
-			return fContents;
+			IApiType type = index.getStructure(fTypeName, getApiComponent(), this);
+			if (type == null) {
+				type = super.buildStructure();
+				if (type instanceof ApiType apiType) {
+					index.putStructure(fTypeName, apiType);
+				}
+			}
+			return type;
 		}
 
 		@Override
@@ -118,6 +134,18 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private String[] fPackageNames;
 
+	/**
+	 * Persistent index of the types in this archive, or <code>null</code> if
+	 * the archive is not indexed.
+	 */
+	private volatile ArchiveTypeIndex.Archive fIndex;
+
+	/**
+	 * Modification time of the archive when it was first opened, identifies
+	 * the cached class file contents.
+	 */
+	private volatile long fTimestamp;
+
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
 	 * file at the specified location.
@@ -185,7 +213,11 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public synchronized void close() throws CoreException {
-		//
+		ArchiveTypeIndex.Archive index = fIndex;
+		if (index != null) {
+			index.save();
+			index.close();
+		}
 	}
 
 	/**
@@ -224,6 +256,13 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private synchronized void init() throws CoreException {
 		if (fPackages == null) {
+			fTimestamp = new File(fLocation).lastModified();
+			ArchiveTypeIndex.Archive index = openIndex();
+			if (index != null && index.getPackages() != null) {
+				fIndex = index;
+				fPackages = index.getPackages();
+				return;
+			}
 			fPackages = new TreeMap<>();
 			try {
 				Path location = getLocation();
@@ -245,7 +284,27 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 			} catch (IOException e) {
 				abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
 			}
+			if (index != null) {
+				index.setPackages(fPackages);
+				fIndex = index;
+			}
+		}
+	}
+
+	/**
+	 * Opens the persistent index of this archive. Archives of the JRT file
+	 * system are not indexed, their location does not reflect changes of the
+	 * content.
+	 *
+	 * @return the index or <code>null</code> if this archive is not indexed
+	 */
+	@SuppressWarnings("restriction")
+	private ArchiveTypeIndex.Archive openIndex() {
+		if (fLocation.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR)) {
+			return null;
 		}
+		ArchiveTypeIndex index = ArchiveTypeIndex.getDefault();
+		return index == null ? null : index.open(fLocation);
 	}
 
 	@Override
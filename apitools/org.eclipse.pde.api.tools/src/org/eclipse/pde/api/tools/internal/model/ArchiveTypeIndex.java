@@ -0,0 +1,682 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import static org.eclipse.pde.internal.core.util.DataStreamUtil.readCount;
+import static org.eclipse.pde.internal.core.util.DataStreamUtil.readString;
+import static org.eclipse.pde.internal.core.util.DataStreamUtil.writeString;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.internal.core.util.DataStreamUtil;
+
+/**
+ * Persistent index of the types contained in archives, stored in the API tools
+ * state location next to the persisted API baselines (<code>.api_profiles</code>).
+ * <p>
+ * For every archive the index remembers the package and type listing and the
+ * type structures that were built from its class files. An index file is only
+ * used as long as the size and modification time of the archive match the
+ * ones recorded when it was written, so restoring a baseline whose archives did
+ * not change needs neither to walk the archives nor to parse class files to
+ * compare against it.
+ * </p>
+ * <p>
+ * Only the listing is kept in memory, type structures are read from the index
+ * file when they are requested. Index files of archives that were removed or
+ * changed are deleted when the default index is created.
+ * </p>
+ */
+public final class ArchiveTypeIndex {
+
+	private static final String INDEX_FOLDER = ".api_type_index"; //$NON-NLS-1$
+	private static final String INDEX_EXTENSION = ".index"; //$NON-NLS-1$
+
+	/** Increment whenever the file layout changes */
+	private static final int FORMAT_VERSION = 2;
+
+	private static final byte VALUE_NULL = 0;
+	private static final byte VALUE_INT = 1;
+	private static final byte VALUE_LONG = 2;
+	private static final byte VALUE_FLOAT = 3;
+	private static final byte VALUE_DOUBLE = 4;
+	private static final byte VALUE_STRING = 5;
+
+	private static volatile ArchiveTypeIndex fDefault;
+
+	private final Path fDirectory;
+
+	/**
+	 * Creates an index stored in the given directory.
+	 *
+	 * @param directory the directory holding the index files
+	 */
+	public ArchiveTypeIndex(Path directory) {
+		fDirectory = directory;
+	}
+
+	/**
+	 * @return the index stored in the API tools state location or
+	 *         <code>null</code> when not running in a framework
+	 */
+	public static ArchiveTypeIndex getDefault() {
+		if (fDefault == null && ApiPlugin.isRunningInFramework()) {
+			synchronized (ArchiveTypeIndex.class) {
+				if (fDefault == null) {
+					ArchiveTypeIndex index = new ArchiveTypeIndex(
+							ApiPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).toPath());
+					index.prune();
+					fDefault = index;
+				}
+			}
+		}
+		return fDefault;
+	}
+
+	/**
+	 * Opens the index of the given archive. If the archive changed since the
+	 * index was written, or no index exists yet, an empty index is returned
+	 * which is filled by the caller.
+	 *
+	 * @param archive the location of the archive in the local file system
+	 * @return the index of the archive or <code>null</code> if the archive
+	 *         cannot be accessed
+	 */
+	public Archive open(String archive) {
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(Path.of(archive), BasicFileAttributes.class);
+		} catch (IOException | RuntimeException e) {
+			return null;
+		}
+		if (!attributes.isRegularFile()) {
+			return null;
+		}
+		Archive index = new Archive(getIndexFile(archive), archive, attributes.size(),
+				attributes.lastModifiedTime().toMillis());
+		index.load();
+		return index;
+	}
+
+	/**
+	 * Deletes the index files of archives that no longer exist or changed since
+	 * the index was written, as well as unreadable index files.
+	 */
+	public void prune() {
+		if (!Files.isDirectory(fDirectory)) {
+			return;
+		}
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(fDirectory, '*' + INDEX_EXTENSION)) {
+			for (Path file : files) {
+				if (isStale(file)) {
+					Files.deleteIfExists(file);
+				}
+			}
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+		}
+	}
+
+	private static boolean isStale(Path file) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return true;
+			}
+			String archive = readString(in);
+			long size = in.readLong();
+			long lastModified = in.readLong();
+			BasicFileAttributes attributes = Files.readAttributes(Path.of(archive), BasicFileAttributes.class);
+			return attributes.size() != size || attributes.lastModifiedTime().toMillis() != lastModified;
+		} catch (IOException | RuntimeException e) {
+			// unreadable index or archive is gone
+			return true;
+		}
+	}
+
+	private Path getIndexFile(String archive) {
+		String name = UUID.nameUUIDFromBytes(archive.getBytes(StandardCharsets.UTF_8)).toString();
+		return fDirectory.resolve(name + INDEX_EXTENSION);
+	}
+
+	/**
+	 * Position and length of a type structure in an index file.
+	 */
+	private record Location(long position, int length) {
+	}
+
+	/**
+	 * The structures stored in one version of an index file and the channel
+	 * reading them. The channel is opened on first use and shared by all
+	 * readers, which only use positional reads. Once the file is replaced the
+	 * channel is closed for good, the locations don't match the new file.
+	 */
+	private static final class Stored {
+
+		final Path fFile;
+		final Map<String, Location> fLocations;
+		private volatile FileChannel fChannel;
+		private boolean fReplaced;
+
+		Stored(Path file, Map<String, Location> locations) {
+			fFile = file;
+			fLocations = locations;
+		}
+
+		FileChannel getChannel() throws IOException {
+			FileChannel channel = fChannel;
+			if (channel != null && channel.isOpen()) {
+				return channel;
+			}
+			synchronized (this) {
+				if (fReplaced) {
+					throw new ClosedChannelException();
+				}
+				// also reopen a channel closed by the interrupt of a reader
+				if (fChannel == null || !fChannel.isOpen()) {
+					fChannel = FileChannel.open(fFile, StandardOpenOption.READ);
+				}
+				return fChannel;
+			}
+		}
+
+		/**
+		 * Closes the channel, it is opened again on the next read unless the
+		 * file was replaced.
+		 */
+		synchronized void close(boolean replaced) {
+			fReplaced |= replaced;
+			FileChannel channel = fChannel;
+			fChannel = null;
+			if (channel != null) {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+	}
+
+	/**
+	 * The index of a single archive. Type structures can be added concurrently.
+	 */
+	public static final class Archive {
+
+		private final Path fFile;
+		private final String fArchive;
+		private final long fSize;
+		private final long fLastModified;
+		private volatile Map<String, Map<String, String>> fPackages;
+		/** Structures stored in the index file, read on demand */
+		private volatile Stored fStored;
+		/** Structures added since the index file was written */
+		private final Map<String, byte[]> fAdded = new ConcurrentHashMap<>();
+		private volatile boolean fDirty;
+
+		Archive(Path file, String archive, long size, long lastModified) {
+			fFile = file;
+			fArchive = archive;
+			fSize = size;
+			fLastModified = lastModified;
+			fStored = new Stored(file, Map.of());
+		}
+
+		/**
+		 * @return map of package names to a map of type names to archive entry
+		 *         names, or <code>null</code> if the archive is not indexed yet
+		 */
+		public Map<String, Map<String, String>> getPackages() {
+			return fPackages;
+		}
+
+		/**
+		 * Records the package and type listing of the archive.
+		 *
+		 * @param packages map of package names to a map of type names to archive
+		 *            entry names
+		 */
+		public void setPackages(Map<String, Map<String, String>> packages) {
+			fPackages = packages;
+			fDirty = true;
+		}
+
+		/**
+		 * Restores the structure of the given type from the index.
+		 *
+		 * @param typeName fully qualified name of the type
+		 * @param parent the parent of the restored type, as for
+		 *            {@link TypeStructureBuilder}
+		 * @param storage the type root of the restored type
+		 * @return the type structure or <code>null</code> if the type is not
+		 *         indexed
+		 */
+		public IApiType getStructure(String typeName, IApiElement parent, IApiTypeRoot storage) {
+			byte[] bytes = fAdded.get(typeName);
+			if (bytes == null) {
+				bytes = readStored(typeName);
+				if (bytes == null) {
+					return null;
+				}
+			}
+			try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+				return readType(in, parent, storage);
+			} catch (IOException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * Reads a structure from the index file. Concurrent readers share the
+		 * channel of the file, a read that finds the channel closed by
+		 * {@link #save()} or {@link #close()} is retried with the current file.
+		 *
+		 * @return the serialized structure or <code>null</code> if the type is
+		 *         not stored or the file cannot be read
+		 */
+		private byte[] readStored(String typeName) {
+			for (int attempt = 0; attempt < 3; attempt++) {
+				Stored stored = fStored;
+				Location location = stored.fLocations.get(typeName);
+				if (location == null) {
+					return null;
+				}
+				try {
+					return read(stored.getChannel(), location);
+				} catch (ClosedChannelException e) {
+					// closed concurrently, try again
+				} catch (IOException e) {
+					return null;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Adds the given type structure to the index.
+		 *
+		 * @param typeName fully qualified name of the type
+		 * @param type the type structure built from the class file
+		 */
+		public void putStructure(String typeName, ApiType type) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				writeType(out, type);
+			} catch (IOException e) {
+				// not representable (e.g. a constant of unknown type), will be
+				// built from the class file again
+				return;
+			}
+			if (fAdded.put(typeName, bytes.toByteArray()) == null) {
+				fDirty = true;
+			}
+		}
+
+		/**
+		 * Writes the index to disk if anything was added since it was loaded.
+		 * Structures that were already stored are copied from the previous
+		 * index file, afterwards only the locations of all structures are kept.
+		 */
+		public synchronized void save() {
+			if (!fDirty || fPackages == null) {
+				return;
+			}
+			Path tmp = fFile.resolveSibling(fFile.getFileName() + ".tmp"); //$NON-NLS-1$
+			Stored stored = fStored;
+			Map<String, byte[]> added = Map.copyOf(fAdded);
+			Map<String, Location> written = new HashMap<>();
+			boolean closed = false;
+			try {
+				Files.createDirectories(fFile.getParent());
+				FileChannel source = stored.fLocations.isEmpty() ? null : stored.getChannel();
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+					out.writeInt(FORMAT_VERSION);
+					writeString(out, fArchive);
+					out.writeLong(fSize);
+					out.writeLong(fLastModified);
+					Map<String, Map<String, String>> packages = fPackages;
+					out.writeInt(packages.size());
+					for (Map.Entry<String, Map<String, String>> pkg : packages.entrySet()) {
+						writeString(out, pkg.getKey());
+						out.writeInt(pkg.getValue().size());
+						for (Map.Entry<String, String> type : pkg.getValue().entrySet()) {
+							writeString(out, type.getKey());
+							writeString(out, type.getValue());
+						}
+					}
+					Set<String> typeNames = new HashSet<>(stored.fLocations.keySet());
+					typeNames.addAll(added.keySet());
+					out.writeInt(typeNames.size());
+					for (String typeName : typeNames) {
+						byte[] bytes = added.get(typeName);
+						if (bytes == null) {
+							bytes = read(source, stored.fLocations.get(typeName));
+						}
+						writeString(out, typeName);
+						out.writeInt(bytes.length);
+						written.put(typeName, new Location(out.size(), bytes.length));
+						out.write(bytes);
+					}
+				}
+				// the file can't be replaced while it is open on all platforms
+				stored.close(true);
+				closed = true;
+				Files.move(tmp, fFile, StandardCopyOption.REPLACE_EXISTING);
+				fStored = new Stored(fFile, written);
+				added.forEach(fAdded::remove);
+				fDirty = false;
+			} catch (IOException e) {
+				if (closed) {
+					// the previous file is still in place
+					fStored = new Stored(fFile, stored.fLocations);
+				}
+				try {
+					Files.deleteIfExists(tmp);
+				} catch (IOException e1) {
+					// ignore
+				}
+				ApiPlugin.log(e);
+			}
+		}
+
+		/**
+		 * Closes the index file, it is opened again when another structure is
+		 * read.
+		 */
+		public void close() {
+			fStored.close(false);
+		}
+
+		/**
+		 * Reads the listing and the locations of the structures from the index
+		 * file, an unreadable or outdated file leaves the index empty.
+		 */
+		void load() {
+			if (!Files.isRegularFile(fFile)) {
+				return;
+			}
+			try (PositionInputStream position = new PositionInputStream(
+					new BufferedInputStream(Files.newInputStream(fFile)));
+					DataInputStream in = new DataInputStream(position)) {
+				if (in.readInt() != FORMAT_VERSION || !fArchive.equals(readString(in)) || in.readLong() != fSize
+						|| in.readLong() != fLastModified) {
+					return;
+				}
+				Map<String, Map<String, String>> packages = new TreeMap<>();
+				int packageCount = readCount(in);
+				for (int i = 0; i < packageCount; i++) {
+					Map<String, String> types = new TreeMap<>();
+					packages.put(readString(in), types);
+					int typeCount = readCount(in);
+					for (int j = 0; j < typeCount; j++) {
+						types.put(readString(in), readString(in));
+					}
+				}
+				int structureCount = readCount(in);
+				Map<String, Location> stored = new HashMap<>();
+				for (int i = 0; i < structureCount; i++) {
+					String typeName = readString(in);
+					int length = in.readInt();
+					if (length < 0) {
+						throw new IOException("Invalid length: " + length); //$NON-NLS-1$
+					}
+					stored.put(typeName, new Location(position.getPosition(), length));
+					in.skipNBytes(length);
+				}
+				fStored = new Stored(fFile, stored);
+				fPackages = packages;
+			} catch (IOException e) {
+				// corrupt or truncated index, start from scratch
+			}
+		}
+	}
+
+	private static byte[] read(FileChannel channel, Location location) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(location.length());
+		long position = location.position();
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, position);
+			if (read < 0) {
+				throw new EOFException();
+			}
+			position += read;
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * Keeps track of the number of bytes read, to locate the structures in the
+	 * index file.
+	 */
+	private static final class PositionInputStream extends FilterInputStream {
+
+		private long fPosition;
+
+		PositionInputStream(InputStream in) {
+			super(in);
+		}
+
+		long getPosition() {
+			return fPosition;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b >= 0) {
+				fPosition++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) {
+				fPosition += read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			fPosition += skipped;
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+	}
+
+	static void writeType(DataOutputStream out, ApiType type) throws IOException {
+		writeString(out, type.getName());
+		writeString(out, type.getSignature());
+		writeString(out, type.getGenericSignature());
+		out.writeInt(type.getModifiers());
+		writeString(out, type.getEnclosingTypeName());
+		writeString(out, type.getSuperclassName());
+		writeStrings(out, type.getSuperInterfaceNames());
+		out.writeBoolean(type.isAnonymous());
+		out.writeBoolean(type.isLocal());
+		out.writeBoolean(type.isMemberType());
+		writeString(out, type.isLocal() || type.isMemberType() ? type.getSimpleName() : null);
+		String[] enclosingMethod = type.getEnclosingMethodInfo();
+		out.writeBoolean(enclosingMethod != null);
+		if (enclosingMethod != null) {
+			writeString(out, enclosingMethod[0]);
+			writeString(out, enclosingMethod[1]);
+		}
+		Collection<String> memberTypes = type.getMemberTypeNames();
+		writeStrings(out, memberTypes.toArray(new String[memberTypes.size()]));
+		IApiMethod[] methods = type.getMethods();
+		out.writeInt(methods.length);
+		for (IApiMethod method : methods) {
+			writeString(out, method.getName());
+			writeString(out, method.getSignature());
+			writeString(out, method.getGenericSignature());
+			out.writeInt(method.getModifiers());
+			writeStrings(out, method.getExceptionNames());
+			writeString(out, method.getDefaultValue());
+		}
+		IApiField[] fields = type.getFields();
+		out.writeInt(fields.length);
+		for (IApiField field : fields) {
+			writeString(out, field.getName());
+			writeString(out, field.getSignature());
+			writeString(out, field.getGenericSignature());
+			out.writeInt(field.getModifiers());
+			writeValue(out, field.getConstantValue());
+		}
+	}
+
+	static ApiType readType(DataInputStream in, IApiElement parent, IApiTypeRoot storage) throws IOException {
+		String name = readString(in);
+		String signature = readString(in);
+		String genericSignature = readString(in);
+		int modifiers = in.readInt();
+		String enclosingName = readString(in);
+		ApiType type = new ApiType(parent, name, signature, genericSignature, modifiers, enclosingName, storage);
+		type.setSuperclassName(readString(in));
+		type.setSuperInterfaceNames(readStrings(in));
+		if (in.readBoolean()) {
+			type.setAnonymous();
+		}
+		if (in.readBoolean()) {
+			type.setLocal();
+		}
+		if (in.readBoolean()) {
+			type.setMemberType();
+		}
+		String simpleName = readString(in);
+		if (simpleName != null) {
+			type.setSimpleName(simpleName);
+		}
+		if (in.readBoolean()) {
+			type.setEnclosingMethodInfo(readString(in), readString(in));
+		}
+		String[] memberTypes = readStrings(in);
+		if (memberTypes != null) {
+			for (String memberType : memberTypes) {
+				type.addMemberType(memberType);
+			}
+		}
+		int methodCount = readCount(in);
+		for (int i = 0; i < methodCount; i++) {
+			ApiMethod method = type.addMethod(readString(in), readString(in), readString(in), in.readInt(), readStrings(in));
+			method.setDefaultValue(readString(in));
+		}
+		int fieldCount = readCount(in);
+		for (int i = 0; i < fieldCount; i++) {
+			type.addField(readString(in), readString(in), readString(in), in.readInt(), readValue(in));
+		}
+		return type;
+	}
+
+	private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+		if (values == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(values.length);
+		for (String value : values) {
+			writeString(out, value);
+		}
+	}
+
+	private static String[] readStrings(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == -1) {
+			return null;
+		}
+		if (length < 0 || length > DataStreamUtil.MAX_COUNT) {
+			throw new IOException("Invalid count: " + length); //$NON-NLS-1$
+		}
+		String[] values = new String[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = readString(in);
+		}
+		return values;
+	}
+
+	/**
+	 * Writes a field constant, these are the types a class file can hold.
+	 */
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(VALUE_NULL);
+		} else if (value instanceof Integer i) {
+			out.writeByte(VALUE_INT);
+			out.writeInt(i);
+		} else if (value instanceof Long l) {
+			out.writeByte(VALUE_LONG);
+			out.writeLong(l);
+		} else if (value instanceof Float f) {
+			out.writeByte(VALUE_FLOAT);
+			out.writeFloat(f);
+		} else if (value instanceof Double d) {
+			out.writeByte(VALUE_DOUBLE);
+			out.writeDouble(d);
+		} else if (value instanceof String s) {
+			out.writeByte(VALUE_STRING);
+			writeString(out, s);
+		} else {
+			throw new IOException("Unsupported constant type: " + value.getClass().getName()); //$NON-NLS-1$
+		}
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		byte kind = in.readByte();
+		return switch (kind) {
+			case VALUE_NULL -> null;
+			case VALUE_INT -> in.readInt();
+			case VALUE_LONG -> in.readLong();
+			case VALUE_FLOAT -> in.readFloat();
+			case VALUE_DOUBLE -> in.readDouble();
+			case VALUE_STRING -> readString(in);
+			default -> throw new IOException("Unknown constant kind: " + kind); //$NON-NLS-1$
+		};
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.ConcurrentLRUCache;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Cache of class file contents. The cache is weighted by the size of the class
+ * files, so the heap used for class file bytes stays bounded no matter how many
+ * types of a baseline have been read.
+ * <p>
+ * The {@linkplain #getDefault() default cache} is shared by all type roots
+ * backed by the file system. Its size in megabytes is controlled by the system
+ * property {@value #CACHE_SIZE_PROPERTY}, <code>0</code> disables caching.
+ * </p>
+ */
+public final class ClassFileContentCache {
+
+	/**
+	 * System property to configure the size of the cache in megabytes
+	 */
+	static final String CACHE_SIZE_PROPERTY = "org.eclipse.pde.api.tools.classFileCacheSize"; //$NON-NLS-1$
+
+	private static final int DEFAULT_CACHE_SIZE = 32;
+
+	/**
+	 * Reads the contents of a class file
+	 */
+	@FunctionalInterface
+	public interface ContentReader {
+		byte[] read() throws CoreException;
+	}
+
+	/**
+	 * Identifies a class file by the location of its container and the name
+	 * of its entry, plus a time stamp for files that may change in place.
+	 */
+	private record Key(String container, String entry, long timestamp) {
+	}
+
+	private static final ClassFileContentCache fDefault = new ClassFileContentCache(getDefaultSpaceLimit());
+
+	private final ConcurrentLRUCache<Key, byte[]> fCache;
+
+	/**
+	 * Creates a cache holding at most the given number of bytes.
+	 *
+	 * @param spaceLimit the maximum total size of the cached class files in
+	 *            bytes, <code>0</code> disables caching
+	 */
+	public ClassFileContentCache(int spaceLimit) {
+		fCache = spaceLimit <= 0 ? null
+				: new ConcurrentLRUCache<>(spaceLimit, (key, contents) -> contents.length, null);
+	}
+
+	/**
+	 * @return the cache shared by all type roots, sized by
+	 *         {@value #CACHE_SIZE_PROPERTY}
+	 */
+	public static ClassFileContentCache getDefault() {
+		return fDefault;
+	}
+
+	private static int getDefaultSpaceLimit() {
+		int size = DEFAULT_CACHE_SIZE;
+		String property = System.getProperty(CACHE_SIZE_PROPERTY);
+		if (property != null) {
+			try {
+				size = Math.max(0, Integer.parseInt(property.trim()));
+			} catch (NumberFormatException e) {
+				ApiPlugin.log("Invalid value for " + CACHE_SIZE_PROPERTY + ": " + property, e); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		return (int) Math.min(Integer.MAX_VALUE, size * 1024L * 1024L);
+	}
+
+	/**
+	 * Returns the contents of the given class file, reading it with the given
+	 * reader if it is not cached. The returned array is shared and must not be
+	 * modified.
+	 *
+	 * @param container location of the archive or directory
+	 * @param entry name of the class file within the container
+	 * @param timestamp modification stamp of the class file, or <code>0</code>
+	 *            if the class file cannot change while it is in use
+	 * @param reader reads the class file if it is not cached
+	 * @return the class file contents
+	 */
+	public byte[] getContents(String container, String entry, long timestamp, ContentReader reader) throws CoreException {
+		if (fCache == null) {
+			return reader.read();
+		}
+		Key key = new Key(container, entry, timestamp);
+		byte[] contents = fCache.get(key);
+		if (contents == null) {
+			contents = reader.read();
+			if (contents != null) {
+				fCache.put(key, contents);
+			}
+		}
+		return contents;
+	}
+
+	/**
+	 * Removes all cached class files
+	 */
+	public void flush() {
+		if (fCache != null) {
+			fCache.flush();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,15 @@ package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
@@ -38,6 +43,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.pde.internal.core.util.FutureUtil;
 import org.osgi.framework.Version;
 
 /**
@@ -99,6 +105,34 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference, comparing up to <code>threads</code> pairs
+	 * of API components at the same time. The returned delta is the same as
+	 * the one of a sequential comparison, the children are always added in the
+	 * order of the components of the reference baseline.
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param threads the maximum number of component pairs compared in
+	 *            parallel, <code>1</code> compares all pairs sequentially in
+	 *            the calling thread
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 * @see #getComparisonParallelism()
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final int threads, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
@@ -107,44 +141,66 @@ public class ApiComparator {
 		IApiComponent[] apiComponents2 = baseline.getApiComponents();
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
+		// deltas per reference component, merged in component order below
+		IDelta[] versionDeltas = new IDelta[apiComponents.length];
+		IDelta[] componentDeltas = new IDelta[apiComponents.length];
+		@SuppressWarnings("unchecked")
+		Future<IDelta>[] comparisons = new Future[apiComponents.length];
+		ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+		// workers are only told about cancellation, progress is reported
+		// here when their result is collected
+		IProgressMonitor workerMonitor = new NullProgressMonitor();
 		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
-			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
-					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+		try {
+			for (int i = 0; i < apiComponents.length; i++) {
+				IApiComponent apiComponent = apiComponents[i];
+				if (!apiComponent.isSystemComponent()) {
+					String id = apiComponent.getSymbolicName();
+					IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+					if (apiComponentBaseline == null) {
+						// report removal of an API component
+						componentDeltas[i] = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED,
+								IDelta.API_COMPONENT, null, id, id);
+					} else {
+						apiComponentsIds.add(id);
+						String versionString = apiComponent.getVersion();
+						String versionString2 = apiComponentBaseline.getVersion();
+						versionDeltas[i] = checkBundleVersionChanges(apiComponentBaseline, id, versionString,
+								versionString2);
+						if (!versionString.equals(versionString2) || force) {
+							if (executor == null) {
+								componentDeltas[i] = compareComponents(apiComponent, apiComponentBaseline,
+										referenceBaseline, baseline, visibilityModifiers, apiLoopMonitor.split(1));
+							} else {
+								comparisons[i] = executor.submit(() -> compareComponents(apiComponent,
+										apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers,
+										workerMonitor));
 							}
+							continue;
 						}
 					}
 				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
+				apiLoopMonitor.split(1);
+			}
+			for (int i = 0; i < comparisons.length; i++) {
+				if (comparisons[i] != null) {
+					componentDeltas[i] = awaitComparison(comparisons[i], workerMonitor, apiLoopMonitor);
+					apiLoopMonitor.split(1);
 				}
 			}
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+		}
+		for (int i = 0; i < apiComponents.length; i++) {
+			if (versionDeltas[i] != null) {
+				globalDelta.add(versionDeltas[i]);
+			}
+			IDelta delta = componentDeltas[i];
+			if (delta != null && delta != NO_DELTA) {
+				globalDelta.add(delta);
+			}
 		}
 		SubMonitor elementLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents2.length);
 		for (IApiComponent element : apiComponents2) {
@@ -162,6 +218,58 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Compares one pair of components of two baselines, may be called on a
+	 * worker thread.
+	 */
+	private static IDelta compareComponents(IApiComponent apiComponent, IApiComponent apiComponentBaseline,
+			IApiBaseline referenceBaseline, IApiBaseline baseline, int visibilityModifiers, IProgressMonitor monitor) {
+		long time = System.currentTimeMillis();
+		try {
+			return compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers,
+					monitor);
+		} finally {
+			if (ApiPlugin.DEBUG_API_COMPARATOR) {
+				System.out.println("Time spent for " + apiComponent.getSymbolicName() + " " //$NON-NLS-1$ //$NON-NLS-2$
+						+ apiComponent.getVersion() + " : " //$NON-NLS-1$
+						+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Waits for the given comparison while watching the monitor for
+	 * cancellation, which is forwarded to the workers.
+	 */
+	private static IDelta awaitComparison(Future<IDelta> comparison, IProgressMonitor workerMonitor,
+			SubMonitor monitor) {
+		try {
+			return FutureUtil.await(comparison, monitor, workerMonitor);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Returns the number of component pairs that should be compared in
+	 * parallel when comparing whole baselines. Configurable with the
+	 * <code>org.eclipse.pde.api.tools.comparator.threads</code> system
+	 * property, defaults to the number of available processors (at most 8).
+	 *
+	 * @return the number of threads to use for baseline comparisons
+	 */
+	public static int getComparisonParallelism() {
+		int defaultValue = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+		return Math.max(1, Integer.getInteger("org.eclipse.pde.api.tools.comparator.threads", defaultValue)); //$NON-NLS-1$
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,7 +33,7 @@ import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
+import org.eclipse.pde.api.tools.internal.ConcurrentLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.util.FileManager;
@@ -63,26 +63,11 @@ public class UseScanManager {
 	 * Cache to maintain the list of least recently used
 	 * <code>UseScanReferences</code>
 	 */
-	private static class UseScanCache extends SynchronizedOverflowingLRUCache<IApiComponent, IReferenceCollection> {
+	private static class UseScanCache extends ConcurrentLRUCache<IApiComponent, IReferenceCollection> {
 
 		public UseScanCache(int size) {
-			super(size);
-		}
-
-		public UseScanCache(int size, int overflow) {
-			super(size, overflow);
-		}
-
-		@Override
-		protected boolean close(LRUCacheEntry<IApiComponent, IReferenceCollection> entry) {
-			IReferenceCollection references = entry.value;
-			references.clear();
-			return true;
-		}
-
-		@Override
-		protected UseScanCache newInstance(int size, int newOverflow) {
-			return new UseScanCache(size, newOverflow);
+			// evicted references are cleared to free their memory
+			super(size, null, (component, references) -> references.clear());
 		}
 
 	}
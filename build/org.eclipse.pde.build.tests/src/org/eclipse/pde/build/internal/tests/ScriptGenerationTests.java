@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -27,12 +27,16 @@ import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -829,6 +833,58 @@ public class ScriptGenerationTests extends PDETestCase {
 		runBuild(build2);
 	}
 
+	/**
+	 * The scripts generated on several threads are the same as the ones
+	 * generated on one thread.
+	 */
+	@Test
+	public void testParallelScriptGeneration() throws Exception {
+		IFolder buildFolder = newTest("ParallelScriptGeneration");
+		String[] ids = { "A", "B", "C", "D", "E", "F", "G", "H" };
+		Attributes.Name requireAttribute = new Attributes.Name("Require-Bundle");
+		for (int i = 0; i < ids.length; i++) {
+			IFolder bundle = Utils.createFolder(buildFolder, "plugins/" + ids[i]);
+			Attributes attributes = new Attributes();
+			if (i > 1) {
+				// each bundle requires the two before it
+				attributes.put(requireAttribute, ids[i - 2] + ", " + ids[i - 1]);
+			}
+			Utils.generateBundleManifest(bundle, ids[i], "1.0.0", attributes);
+			Utils.generatePluginBuildProperties(bundle, null);
+		}
+		Utils.generateFeature(buildFolder, "feature", null, ids);
+
+		Map<String, String> sequential = generateScripts(buildFolder, ids, 1);
+		Map<String, String> parallel = generateScripts(buildFolder, ids, 4);
+		assertEquals(ids.length + 1, parallel.size());
+		assertEquals(sequential, parallel);
+	}
+
+	/**
+	 * Generates the scripts of the feature on the given number of threads and
+	 * returns them by element, deleting them so the next generation writes them
+	 * again.
+	 */
+	private Map<String, String> generateScripts(IFolder buildFolder, String[] ids, int threads) throws Exception {
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "feature");
+		properties.put(IBuildPropertiesConstants.PROPERTY_SCRIPT_GENERATION_THREADS, String.valueOf(threads));
+		generateScripts(buildFolder, properties);
+
+		Map<String, String> scripts = new TreeMap<>();
+		List<String> elements = new ArrayList<>();
+		elements.add("features/feature");
+		for (String id : ids) {
+			elements.add("plugins/" + id);
+		}
+		for (String element : elements) {
+			IFile script = buildFolder.getFile(element + "/build.xml");
+			assertResourceFile(script);
+			scripts.put(element, Files.readString(script.getLocation().toFile().toPath()));
+			script.delete(true, null);
+		}
+		return scripts;
+	}
+
 	@Test
 	public void testBug238177() throws Exception {
 		assumeFalse(Platform.getOS().equals(Platform.OS_LINUX)); // test fails on some linux for unkown reasons
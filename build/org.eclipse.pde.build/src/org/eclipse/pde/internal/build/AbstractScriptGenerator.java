@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -201,7 +201,7 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 
 	static public class MissingProperties extends Properties {
 		private static final long serialVersionUID = 3546924667060303927L;
-		private static MissingProperties singleton;
+		private static final MissingProperties singleton = new MissingProperties();
 
 		private MissingProperties() {
 			//nothing to do;
@@ -218,9 +218,6 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 		}
 
 		public static MissingProperties getInstance() {
-			if (singleton == null) {
-				singleton = new MissingProperties();
-			}
 			return singleton;
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -22,6 +23,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -99,8 +103,12 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 	}
 
 	private final Map<String, String> extractedLocations = new HashMap<>();
+	/** Whether plug-in scripts are currently generated in parallel */
+	private boolean parallelGeneration = false;
+	/** Whether a nested jar name was already taken while generating in parallel */
+	private boolean extractedRootConflict = false;
 
-	public String getExtractedRoot(ClasspathElement element) {
+	public synchronized String getExtractedRoot(ClasspathElement element) {
 		if (element.getSubPath() == null) {
 			return element.getPath();
 		}
@@ -118,6 +126,8 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		String destination = name;
 		while (extractedLocations.containsValue(destination)) {
 			destination = name + '_' + Integer.toHexString(destination.hashCode());
+			//the name now depends on the order in which the plug-ins are generated
+			extractedRootConflict |= parallelGeneration;
 		}
 
 		extractedLocations.put(absolute, destination);
@@ -532,6 +542,8 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			return;
 		}
 
+		int threads = getIntProperty(AbstractScriptGenerator.getImmutableAntProperty(PROPERTY_SCRIPT_GENERATION_THREADS), 1);
+		List<ModelBuildScriptGenerator> generators = new ArrayList<>(threads > 1 ? models.size() : 0);
 		Set<BundleDescription> generatedScripts = new HashSet<>(models.size());
 		for (BundleDescription model : models) {
 			if (generatedScripts.contains(model)) {
@@ -545,7 +557,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			@SuppressWarnings("rawtypes")
 			Set matchingEntries = (Set) ((Properties) model.getUserObject()).get(PLUGIN_ENTRY);
 			if (matchingEntries == null || matchingEntries.isEmpty()) {
-				return;
+				break;
 			}
 
 			@SuppressWarnings("rawtypes")
@@ -568,9 +580,97 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			generator.setSignJars(signJars);
 			generator.setAssociatedEntry(correspondingEntry);
 			generator.setGenerateSourceReferences(sourceReferences);
-			generator.generate();
+			if (threads > 1) {
+				//the sequential generation only sees the elements set up before and including this one
+				generator.setCompiledElements(new HashSet<>(getCompiledElements()));
+				generators.add(generator);
+			} else {
+				generator.generate();
+			}
+		}
+
+		if (generators.size() > 1) {
+			generateInParallel(generators, threads);
+		} else if (generators.size() == 1) {
+			generators.get(0).generate();
+		}
+	}
+
+	/**
+	 * Generates the scripts of the given plug-ins on the given number of threads.
+	 * <p>
+	 * The scripts are the same as the ones of the sequential generation:
+	 * </p>
+	 * <ul>
+	 * <li>All models have been set on their generator beforehand, each with a copy
+	 * of the compiled elements as they were when its model was set, which is what
+	 * the sequential generation sees.</li>
+	 * <li>While generating, a generator only writes to its own script and to the
+	 * properties of its own model. The state of the site, its bundle class paths
+	 * and patch data, the static ant properties and configurations of the
+	 * {@link AbstractScriptGenerator} and the feature entries are only read, the
+	 * lazily created profile manager and execution environment mappings are
+	 * initialized before the threads start.</li>
+	 * <li>The names of extracted nested jars depend on the order in which they are
+	 * requested if two jars have the same name, in that rare case the scripts are
+	 * generated again sequentially.</li>
+	 * </ul>
+	 */
+	private void generateInParallel(List<ModelBuildScriptGenerator> generators, int threads) throws CoreException {
+		//initialize the lazily computed state shared by the generators
+		getSite(false).getRegistry().getProfileManager();
+		getExecutionEnvironmentMappings();
+
+		Map<String, String> previousLocations;
+		synchronized (this) {
+			previousLocations = new HashMap<>(extractedLocations);
+			parallelGeneration = true;
+			extractedRootConflict = false;
+		}
+		CoreException[] failures = new CoreException[generators.size()];
+		ForkJoinPool pool = new ForkJoinPool(Math.min(threads, generators.size()));
+		try {
+			pool.submit(() -> IntStream.range(0, generators.size()).parallel().forEach(i -> {
+				try {
+					generators.get(i).generate();
+				} catch (CoreException e) {
+					failures[i] = e;
+				}
+			})).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CoreException(new Status(IStatus.CANCEL, PI_PDEBUILD, e.getMessage(), e));
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new CoreException(new Status(IStatus.ERROR, PI_PDEBUILD, e.getMessage(), e.getCause()));
+		} finally {
+			pool.shutdown();
+			synchronized (this) {
+				parallelGeneration = false;
+			}
+		}
+		//report the failure the sequential generation would have stopped at
+		for (CoreException failure : failures) {
+			if (failure != null) {
+				throw failure;
+			}
 		}
 
+		boolean conflict;
+		synchronized (this) {
+			conflict = extractedRootConflict;
+			if (conflict) {
+				extractedLocations.clear();
+				extractedLocations.putAll(previousLocations);
+			}
+		}
+		if (conflict) {
+			for (ModelBuildScriptGenerator generator : generators) {
+				generator.generate();
+			}
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,7 @@
  *******************************************************************************/
 package org.eclipse.pde.core.plugin;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -444,8 +444,11 @@ public class PluginRegistry {
 		if (entry == null) {
 			return Stream.empty();
 		}
-		List<IPluginModelBase> models = entry.hasWorkspaceModels() ? entry.fWorkspaceEntries : entry.fExternalEntries;
-		Stream<IPluginModelBase> plugins = models.stream().filter(m -> {
+		IPluginModelBase[] models = entry.getWorkspaceModels();
+		if (models.length == 0) {
+			models = entry.getExternalModels();
+		}
+		Stream<IPluginModelBase> plugins = Arrays.stream(models).filter(m -> {
 			IPluginBase base = m.getPluginBase();
 			// guard against invalid plug-ins
 			return base != null && base.getId() != null;
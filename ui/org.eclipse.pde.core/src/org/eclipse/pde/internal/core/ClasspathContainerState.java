@@ -247,15 +247,19 @@ public class ClasspathContainerState {
 		synchronized (project) {
 			try {
 				File stateFile = getStateFile(project);
+				IClasspathContainer container;
 				try (InputStream stream = new FileInputStream(stateFile)) {
-					IClasspathContainer container = Objects
-							.requireNonNull(PDEClasspathContainerSaveHelper.readContainer(stream));
-					if (PDECore.DEBUG_STATE) {
-						PDECore.TRACE.trace(PDECore.KEY_DEBUG_STATE,
-								String.format("%s is restored from previous state.", project.getName())); //$NON-NLS-1$
-					}
-					return container;
+					container = Objects.requireNonNull(PDEClasspathContainerSaveHelper.readContainer(stream));
+				}
+				if (PDECore.DEBUG_STATE) {
+					PDECore.TRACE.trace(PDECore.KEY_DEBUG_STATE,
+							String.format("%s is restored from previous state.", project.getName())); //$NON-NLS-1$
+				}
+				if (PDEClasspathContainerSaveHelper.isLegacyFormat(container)) {
+					// rewrite in the current format, once the file is closed
+					saveState(project, container.getClasspathEntries());
 				}
+				return container;
 			} catch (Exception e) {
 				if (PDECore.DEBUG_STATE) {
 					if (e instanceof FileNotFoundException) {
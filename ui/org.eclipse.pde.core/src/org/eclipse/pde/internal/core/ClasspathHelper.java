@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2024 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,9 +17,7 @@
 package org.eclipse.pde.internal.core;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -61,6 +59,7 @@ import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.build.WorkspaceBuildModel;
 import org.eclipse.pde.internal.core.natures.PluginProject;
 import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.core.util.IncrementalFileWriter;
 
 public class ClasspathHelper {
 
@@ -92,10 +91,8 @@ public class ClasspathHelper {
 		Path file = Path.of(fileName);
 		try {
 			Files.createDirectories(file.getParent());
-			try (OutputStream stream = new FileOutputStream(fileName)) {
-				properties.store(stream, ""); //$NON-NLS-1$
-				return file;
-			}
+			IncrementalFileWriter.write(file, IncrementalFileWriter.toBytes(properties, "")); //$NON-NLS-1$
+			return file;
 		} catch (IOException e) {
 			PDECore.logException(e);
 			throw new CoreException(Status.error("Failed to create dev.properties file", e)); //$NON-NLS-1$
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.pde.internal.core.PDEClasspathContainer.Rule;
+
+/**
+ * Caches the access rules derived from the packages visible to a bundle, so
+ * that the classpath computation of sibling projects does not have to ask the
+ * {@link org.eclipse.osgi.service.resolver.StateHelper} for the same bundles
+ * over and over again.
+ * <p>
+ * Entries are dropped for every bundle contained in a resolver delta and the
+ * whole cache is cleared when the state is replaced, the same granularity
+ * that is used to trigger classpath updates of workspace projects. Only
+ * bundles of the current target platform state are cached, as only its deltas
+ * are reported to this cache.
+ * </p>
+ */
+public final class ClasspathRulesCache implements IStateDeltaListener {
+
+	private static final ClasspathRulesCache INSTANCE = new ClasspathRulesCache();
+
+	private final Map<BundleDescription, Map<BundleDescription, List<Rule>>> fVisiblePackageRules = new ConcurrentHashMap<>();
+
+	private ClasspathRulesCache() {
+	}
+
+	public static ClasspathRulesCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the access rules per exporting bundle for all packages visible to
+	 * the given bundle, computing them with the given function if they are
+	 * not cached yet. The returned map and its lists must not be modified.
+	 */
+	public Map<BundleDescription, List<Rule>> getVisiblePackageRules(BundleDescription desc,
+			Function<BundleDescription, Map<BundleDescription, List<Rule>>> computer) {
+		if (desc.getContainingState() != TargetPlatformHelper.getState()) {
+			// not (or no longer) part of the state whose deltas invalidate the
+			// cache, e.g. a bundle of a temporary state
+			return computer.apply(desc);
+		}
+		return fVisiblePackageRules.computeIfAbsent(desc, computer);
+	}
+
+	@Override
+	public void stateResolved(StateDelta delta) {
+		if (delta == null) {
+			stateChanged(null);
+			return;
+		}
+		for (BundleDelta bundleDelta : delta.getChanges()) {
+			fVisiblePackageRules.remove(bundleDelta.getBundle());
+		}
+	}
+
+	@Override
+	public void stateChanged(State newState) {
+		fVisiblePackageRules.clear();
+	}
+
+}
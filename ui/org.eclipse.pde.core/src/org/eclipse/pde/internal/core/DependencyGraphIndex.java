@@ -0,0 +1,673 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.pde.internal.core.DependencyManager.Options;
+import org.osgi.framework.Constants;
+import org.osgi.framework.namespace.HostNamespace;
+import org.osgi.framework.wiring.BundleRevision;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
+
+/**
+ * Index of the wiring graph of the PDE resolver state, used by
+ * {@link DependencyManager} to answer closure queries without walking the
+ * {@link BundleWiring}s of the state again and again.
+ * <p>
+ * Every bundle of the state gets a dense int id, its required wires are kept
+ * as arrays of provider ids (forward adjacency) and the ids of the bundles
+ * wired to it are kept as well (reverse adjacency). The index is updated
+ * incrementally from the resolver deltas of the {@link PluginModelManager}
+ * and rebuilt whenever the time stamp of the state does not match the one of
+ * the index. Query results are cached until the next update.
+ * </p>
+ * <p>
+ * Bundles of other states are traversed the same way, on a graph that only
+ * indexes the bundles a query reaches, see
+ * {@link #computeRequirementsClosure(Collection, Set)}.
+ * </p>
+ */
+final class DependencyGraphIndex implements IStateDeltaListener {
+
+	private static final DependencyGraphIndex INSTANCE = new DependencyGraphIndex();
+
+	/** Maximum number of query results cached per version of the graph */
+	private static final int MAX_CACHED_QUERIES = 64;
+
+	private static final int[] NO_IDS = new int[0];
+	private static final boolean[] NO_FLAGS = new boolean[0];
+
+	/**
+	 * Adjacency of a single bundle. Wires are stored as parallel arrays of the
+	 * providing bundle, the bundle declaring the requirement (the bundle
+	 * itself or one of its fragments) and whether the requirement is
+	 * optional.
+	 */
+	private record Node(boolean includable, boolean inUse, boolean fragment, int[] providers, int[] declarers,
+			boolean[] optional, int[] fragments, int[] hosts) {
+	}
+
+	private record Query(BitSet roots, Set<Options> options, boolean dependents) {
+	}
+
+	/**
+	 * Wiring graph traversed by the closure queries.
+	 */
+	private abstract static class WiringGraph {
+
+		/**
+		 * @return the id of the given bundle or <code>-1</code> if it is not
+		 *         part of the graph
+		 */
+		abstract int idOf(Object revision);
+
+		abstract BundleDescription bundle(int id);
+
+		abstract Node node(int id);
+	}
+
+	/**
+	 * One immutable version of the graph, updates create a new version.
+	 */
+	private static final class Graph extends WiringGraph {
+		final State state;
+		final long timeStamp;
+		final Map<Long, Integer> ids;
+		final BundleDescription[] bundles;
+		final Node[] nodes;
+		final int[][] dependents;
+		final int size;
+		final Map<Query, BitSet> results = new ConcurrentHashMap<>();
+
+		Graph(State state, long timeStamp, Map<Long, Integer> ids, BundleDescription[] bundles, Node[] nodes,
+				int[][] dependents, int size) {
+			this.state = state;
+			this.timeStamp = timeStamp;
+			this.ids = ids;
+			this.bundles = bundles;
+			this.nodes = nodes;
+			this.dependents = dependents;
+			this.size = size;
+		}
+
+		/**
+		 * @return the id of the given bundle or <code>-1</code> if it is not
+		 *         the bundle of the state known to the graph
+		 */
+		@Override
+		int idOf(Object revision) {
+			if (revision instanceof BundleDescription bundle) {
+				Integer id = ids.get(bundle.getBundleId());
+				if (id != null && bundles[id] == bundle) {
+					return id;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		BundleDescription bundle(int id) {
+			return bundles[id];
+		}
+
+		@Override
+		Node node(int id) {
+			return nodes[id];
+		}
+	}
+
+	/**
+	 * Graph of bundles that are not part of the indexed state. Ids are
+	 * assigned and nodes created when a query reaches a bundle, so a query
+	 * only pays for the bundles of its result.
+	 */
+	private static final class LazyGraph extends WiringGraph {
+		private final Map<BundleDescription, Integer> ids = new HashMap<>();
+		private final List<BundleDescription> bundles = new ArrayList<>();
+		private final List<Node> nodes = new ArrayList<>();
+
+		@Override
+		int idOf(Object revision) {
+			if (revision instanceof BundleDescription bundle) {
+				return ids.computeIfAbsent(bundle, b -> {
+					bundles.add(b);
+					nodes.add(null);
+					return bundles.size() - 1;
+				});
+			}
+			return -1;
+		}
+
+		@Override
+		BundleDescription bundle(int id) {
+			return bundles.get(id);
+		}
+
+		@Override
+		Node node(int id) {
+			Node node = nodes.get(id);
+			if (node == null) {
+				node = createNode(this, bundles.get(id));
+				nodes.set(id, node);
+			}
+			return node;
+		}
+	}
+
+	private volatile Graph fGraph;
+
+	private DependencyGraphIndex() {
+	}
+
+	static DependencyGraphIndex getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Computes the requirements closure like
+	 * {@link DependencyManager#findRequirementsClosure(Collection, Options...)}.
+	 *
+	 * @return the closure or <code>null</code> if the given bundles are not
+	 *         part of the indexed PDE state
+	 */
+	Set<BundleDescription> findRequirementsClosure(Collection<BundleDescription> bundles, Set<Options> options) {
+		Graph graph = getGraph(bundles);
+		if (graph == null) {
+			return null;
+		}
+		BitSet roots = getRoots(graph, bundles);
+		if (roots == null) {
+			return null;
+		}
+		boolean includeNonTestFragments = options.contains(Options.INCLUDE_NON_TEST_FRAGMENTS);
+		boolean includeNativeFragments = options.contains(Options.INCLUDE_PLATFORM_FRAGMENTS);
+		// test fragments are detected from the project classpath, which is not
+		// part of the state, so these results can't be cached
+		boolean cacheable = !includeNonTestFragments && !includeNativeFragments;
+		Query query = new Query(roots, options, false);
+		BitSet closure = cacheable ? graph.results.get(query) : null;
+		if (closure == null) {
+			closure = computeRequirementsClosure(graph, roots, options);
+			if (cacheable) {
+				cacheResult(graph, query, closure);
+			}
+		}
+		return toBundles(graph, closure);
+	}
+
+	/**
+	 * Computes the given bundles and all bundles that transitively depend on
+	 * them.
+	 *
+	 * @return the closure or <code>null</code> if the given bundles are not
+	 *         part of the indexed PDE state
+	 */
+	Set<BundleDescription> findDependentsClosure(Collection<BundleDescription> bundles) {
+		Graph graph = getGraph(bundles);
+		if (graph == null) {
+			return null;
+		}
+		BitSet roots = getRoots(graph, bundles);
+		if (roots == null) {
+			return null;
+		}
+		Query query = new Query(roots, Set.of(), true);
+		BitSet closure = graph.results.get(query);
+		if (closure == null) {
+			closure = computeDependentsClosure(graph, roots);
+			cacheResult(graph, query, closure);
+		}
+		return toBundles(graph, closure);
+	}
+
+	private static void cacheResult(Graph graph, Query query, BitSet closure) {
+		if (graph.results.size() >= MAX_CACHED_QUERIES) {
+			graph.results.clear();
+		}
+		graph.results.put(query, closure);
+	}
+
+	/**
+	 * Computes the requirements closure of bundles that are not part of the
+	 * indexed PDE state.
+	 *
+	 * @see DependencyManager#findRequirementsClosure(Collection, Options...)
+	 */
+	static Set<BundleDescription> computeRequirementsClosure(Collection<BundleDescription> bundles,
+			Set<Options> options) {
+		LazyGraph graph = new LazyGraph();
+		BitSet roots = new BitSet();
+		for (BundleDescription bundle : bundles) {
+			if (bundle != null) {
+				roots.set(graph.idOf(bundle));
+			}
+		}
+		return toBundles(graph, computeRequirementsClosure(graph, roots, options));
+	}
+
+	/**
+	 * The traversal behind all requirements closures: an exhaustive breadth
+	 * first search along the required wires of the bundles in use.
+	 */
+	private static BitSet computeRequirementsClosure(WiringGraph graph, BitSet roots, Set<Options> options) {
+		boolean includeOptional = options.contains(Options.INCLUDE_OPTIONAL_DEPENDENCIES);
+		boolean includeAllFragments = options.contains(Options.INCLUDE_ALL_FRAGMENTS);
+		boolean includeNonTestFragments = options.contains(Options.INCLUDE_NON_TEST_FRAGMENTS);
+		boolean includeNativeFragments = options.contains(Options.INCLUDE_PLATFORM_FRAGMENTS);
+		boolean includeExtensibleFragments = options.contains(Options.INCLUDE_EXTENSIBLE_FRAGMENTS);
+
+		BitSet closure = new BitSet();
+		IntQueue pending = new IntQueue();
+		for (int id = roots.nextSetBit(0); id >= 0; id = roots.nextSetBit(id + 1)) {
+			addNewRequiredBundle(graph, id, closure, pending);
+		}
+
+		while (!pending.isEmpty()) {
+			int id = pending.remove();
+			Node node = graph.node(id);
+			if (!node.inUse()) {
+				continue;
+			}
+			if (includeAllFragments || includeNonTestFragments
+					|| (includeExtensibleFragments && DependencyManager.isExtensibleApi(graph.bundle(id)))) {
+				// A fragment's host is already required by a wire
+				for (int fragment : node.fragments()) {
+					if (includeAllFragments || !DependencyManager.isTestWorkspaceProject(graph.bundle(fragment))) {
+						addNewRequiredBundle(graph, fragment, closure, pending);
+					}
+				}
+			}
+			if (includeNativeFragments) {
+				for (int fragment : node.fragments()) {
+					BundleDescription description = graph.bundle(fragment);
+					if (DependencyManager.isNativeFragment(description)
+							&& !DependencyManager.isTestWorkspaceProject(description)) {
+						addNewRequiredBundle(graph, fragment, closure, pending);
+					}
+				}
+			}
+			if (node.fragment()) {
+				// Requirements of a fragment are hosted at the host, which
+				// therefore requires the corresponding wires: OSGi Core spec,
+				// chapter 6.4.1 - Hosted Requirements and Capabilities.
+				// Temporarily remove this fragment's host from the closure to
+				// ensure it's added again below. In the subsequent processing
+				// this fragment's requirements will then also be considered
+				// (before it was discarded).
+				for (int host : node.hosts()) {
+					closure.clear(host);
+				}
+			}
+			int[] providers = node.providers();
+			for (int i = 0; i < providers.length; i++) {
+				int declarer = node.declarers()[i];
+				if (declarer != id && !closure.get(declarer)) {
+					// Requirement is declared by an attached fragment, which
+					// is not included into the closure.
+					continue;
+				}
+				if (includeOptional || !node.optional()[i]) {
+					addNewRequiredBundle(graph, providers[i], closure, pending);
+				}
+			}
+		}
+		return closure;
+	}
+
+	private static void addNewRequiredBundle(WiringGraph graph, int id, BitSet closure, IntQueue pending) {
+		if (graph.node(id).includable() && !closure.get(id)) {
+			closure.set(id);
+			pending.add(id);
+		}
+	}
+
+	private static BitSet computeDependentsClosure(Graph graph, BitSet roots) {
+		BitSet closure = new BitSet(graph.size);
+		IntQueue pending = new IntQueue();
+		for (int id = roots.nextSetBit(0); id >= 0; id = roots.nextSetBit(id + 1)) {
+			addNewRequiredBundle(graph, id, closure, pending);
+		}
+		while (!pending.isEmpty()) {
+			for (int dependent : graph.dependents[pending.remove()]) {
+				addNewRequiredBundle(graph, dependent, closure, pending);
+			}
+		}
+		return closure;
+	}
+
+	private static BitSet getRoots(Graph graph, Collection<BundleDescription> bundles) {
+		BitSet roots = new BitSet(graph.size);
+		for (BundleDescription bundle : bundles) {
+			if (bundle == null) {
+				continue;
+			}
+			int id = graph.idOf(bundle);
+			if (id >= 0) {
+				roots.set(id);
+			} else if (bundle.isResolved() && !bundle.isRemovalPending()) {
+				// not known to the index although it should be
+				return null;
+			}
+		}
+		return roots;
+	}
+
+	private static Set<BundleDescription> toBundles(WiringGraph graph, BitSet closure) {
+		Set<BundleDescription> result = new HashSet<>(closure.cardinality() * 4 / 3 + 1);
+		for (int id = closure.nextSetBit(0); id >= 0; id = closure.nextSetBit(id + 1)) {
+			result.add(graph.bundle(id));
+		}
+		return result;
+	}
+
+	/**
+	 * @return the graph of the state containing the given bundles, or
+	 *         <code>null</code> if that is not the state of the
+	 *         {@link PluginModelManager}
+	 */
+	private Graph getGraph(Collection<BundleDescription> bundles) {
+		State state = null;
+		for (BundleDescription bundle : bundles) {
+			if (bundle != null) {
+				State containing = bundle.getContainingState();
+				if (state == null) {
+					state = containing;
+				} else if (state != containing) {
+					return null;
+				}
+			}
+		}
+		if (state == null) {
+			return null;
+		}
+		Graph graph = fGraph;
+		if (graph != null && graph.state == state && graph.timeStamp == state.getTimeStamp()) {
+			return graph;
+		}
+		PDECore core = PDECore.getDefault();
+		PluginModelManager manager = core != null ? core.getModelManager() : null;
+		if (manager == null || !manager.isInitialized() || manager.getState().getState() != state) {
+			return null;
+		}
+		synchronized (this) {
+			graph = fGraph;
+			if (graph == null || graph.state != state || graph.timeStamp != state.getTimeStamp()) {
+				graph = build(state);
+				fGraph = graph;
+			}
+			return graph;
+		}
+	}
+
+	private static Graph build(State state) {
+		long timeStamp = state.getTimeStamp();
+		BundleDescription[] all = state.getBundles();
+		Map<Long, Integer> ids = new HashMap<>(all.length * 4 / 3 + 1);
+		for (int i = 0; i < all.length; i++) {
+			ids.put(all[i].getBundleId(), i);
+		}
+		Node[] nodes = new Node[all.length];
+		int[][] dependents = new int[all.length][];
+		Arrays.fill(dependents, NO_IDS);
+		Graph graph = new Graph(state, timeStamp, ids, all, nodes, dependents, all.length);
+		for (int i = 0; i < all.length; i++) {
+			nodes[i] = createNode(graph, all[i]);
+		}
+		for (int i = 0; i < all.length; i++) {
+			addDependent(graph, i);
+		}
+		return graph;
+	}
+
+	/**
+	 * Creates an updated version of the graph, re-indexing the bundles
+	 * contained in the delta and the bundles wired to them.
+	 */
+	private static Graph update(Graph graph, StateDelta delta) {
+		State state = graph.state;
+		BundleDelta[] changes = delta.getChanges();
+		int capacity = graph.size + changes.length;
+		Map<Long, Integer> ids = new HashMap<>(graph.ids);
+		BundleDescription[] bundles = Arrays.copyOf(graph.bundles, capacity);
+		Node[] nodes = Arrays.copyOf(graph.nodes, capacity);
+		int[][] dependents = Arrays.copyOf(graph.dependents, capacity);
+		int size = graph.size;
+
+		BitSet affected = new BitSet(capacity);
+		for (BundleDelta change : changes) {
+			long bundleId = change.getBundle().getBundleId();
+			Integer id = ids.get(bundleId);
+			if (id != null) {
+				affected.set(id);
+				for (int dependent : dependents[id]) {
+					affected.set(dependent);
+				}
+				if (nodes[id] != null) {
+					for (int host : nodes[id].hosts()) {
+						affected.set(host);
+					}
+				}
+			}
+			BundleDescription current = state.getBundle(bundleId);
+			if (current == null) {
+				if (id != null) {
+					ids.remove(bundleId);
+					bundles[id] = null;
+				}
+				continue;
+			}
+			if (id == null) {
+				id = size++;
+				ids.put(bundleId, id);
+				dependents[id] = NO_IDS;
+			}
+			bundles[id] = current;
+			affected.set(id);
+			// a fragment changes the fragments known to its hosts
+			HostSpecification host = current.getHost();
+			if (host != null && host.getHosts() != null) {
+				for (BundleDescription hostBundle : host.getHosts()) {
+					Integer hostId = ids.get(hostBundle.getBundleId());
+					if (hostId != null) {
+						affected.set(hostId);
+					}
+				}
+			}
+		}
+
+		Graph updated = new Graph(state, state.getTimeStamp(), ids, bundles, nodes, dependents, size);
+		for (int id = affected.nextSetBit(0); id >= 0; id = affected.nextSetBit(id + 1)) {
+			removeDependent(updated, id);
+		}
+		for (int id = affected.nextSetBit(0); id >= 0; id = affected.nextSetBit(id + 1)) {
+			if (bundles[id] == null) {
+				nodes[id] = new Node(false, false, false, NO_IDS, NO_IDS, NO_FLAGS, NO_IDS, NO_IDS);
+				dependents[id] = NO_IDS;
+			} else {
+				nodes[id] = createNode(updated, bundles[id]);
+			}
+		}
+		for (int id = affected.nextSetBit(0); id >= 0; id = affected.nextSetBit(id + 1)) {
+			addDependent(updated, id);
+		}
+		return updated;
+	}
+
+	private static Node createNode(WiringGraph graph, BundleDescription bundle) {
+		boolean includable = bundle.isResolved() && !bundle.isRemovalPending();
+		BundleWiring wiring = bundle.getWiring();
+		if (wiring == null || !wiring.isInUse()) {
+			return new Node(includable, false, false, NO_IDS, NO_IDS, NO_FLAGS, NO_IDS, NO_IDS);
+		}
+		List<BundleWire> wires = wiring.getRequiredWires(null);
+		int[] providers = new int[wires.size()];
+		int[] declarers = new int[wires.size()];
+		boolean[] optional = new boolean[wires.size()];
+		int count = 0;
+		for (BundleWire wire : wires) {
+			// Use revision of required capability to support the case if
+			// fragments contribute new packages to their host's API.
+			int provider = graph.idOf(wire.getCapability().getRevision());
+			int declarer = graph.idOf(wire.getRequirement().getRevision());
+			if (provider < 0 || declarer < 0) {
+				// provider is not part of the state anymore or the requirement
+				// is declared by a fragment that can't be part of a closure
+				continue;
+			}
+			providers[count] = provider;
+			declarers[count] = declarer;
+			optional[count] = Constants.RESOLUTION_OPTIONAL
+					.equals(wire.getRequirement().getDirectives().get(Constants.RESOLUTION_DIRECTIVE));
+			count++;
+		}
+		int[] fragments = toIds(graph, bundle.getFragments());
+		boolean fragment = (wiring.getRevision().getTypes() & BundleRevision.TYPE_FRAGMENT) != 0;
+		int[] hosts = NO_IDS;
+		if (fragment) {
+			List<BundleWire> hostWires = wiring.getRequiredWires(HostNamespace.HOST_NAMESPACE);
+			hosts = new int[hostWires.size()];
+			int hostCount = 0;
+			for (BundleWire hostWire : hostWires) {
+				int host = hostWire.getProviderWiring() != null ? graph.idOf(hostWire.getProvider()) : -1;
+				if (host >= 0) {
+					hosts[hostCount++] = host;
+				}
+			}
+			hosts = Arrays.copyOf(hosts, hostCount);
+		}
+		return new Node(includable, true, fragment, Arrays.copyOf(providers, count), Arrays.copyOf(declarers, count),
+				Arrays.copyOf(optional, count), fragments, hosts);
+	}
+
+	private static int[] toIds(WiringGraph graph, BundleDescription[] bundles) {
+		int[] ids = new int[bundles.length];
+		int count = 0;
+		for (BundleDescription bundle : bundles) {
+			int id = graph.idOf(bundle);
+			if (id >= 0) {
+				ids[count++] = id;
+			}
+		}
+		return count == ids.length ? ids : Arrays.copyOf(ids, count);
+	}
+
+	/**
+	 * Adds the given bundle to the reverse adjacency of all its providers.
+	 */
+	private static void addDependent(Graph graph, int id) {
+		Node node = graph.nodes[id];
+		if (node == null) {
+			return;
+		}
+		for (int provider : node.providers()) {
+			int[] dependents = graph.dependents[provider];
+			if (provider != id && (dependents.length == 0 || dependents[dependents.length - 1] != id)
+					&& indexOf(dependents, id) < 0) {
+				dependents = Arrays.copyOf(dependents, dependents.length + 1);
+				dependents[dependents.length - 1] = id;
+				graph.dependents[provider] = dependents;
+			}
+		}
+	}
+
+	/**
+	 * Removes the given bundle from the reverse adjacency of all its providers.
+	 */
+	private static void removeDependent(Graph graph, int id) {
+		Node node = graph.nodes[id];
+		if (node == null) {
+			return;
+		}
+		for (int provider : node.providers()) {
+			int[] dependents = graph.dependents[provider];
+			int index = indexOf(dependents, id);
+			if (index >= 0) {
+				int[] reduced = new int[dependents.length - 1];
+				System.arraycopy(dependents, 0, reduced, 0, index);
+				System.arraycopy(dependents, index + 1, reduced, index, reduced.length - index);
+				graph.dependents[provider] = reduced;
+			}
+		}
+	}
+
+	private static int indexOf(int[] ids, int id) {
+		for (int i = 0; i < ids.length; i++) {
+			if (ids[i] == id) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public synchronized void stateResolved(StateDelta delta) {
+		Graph graph = fGraph;
+		if (graph == null) {
+			return;
+		}
+		if (delta == null || delta.getState() != graph.state) {
+			fGraph = null;
+			return;
+		}
+		fGraph = update(graph, delta);
+	}
+
+	@Override
+	public synchronized void stateChanged(State newState) {
+		fGraph = null;
+	}
+
+	/**
+	 * Minimal growable queue of ids
+	 */
+	private static final class IntQueue {
+		private int[] elements = new int[64];
+		private int head;
+		private int tail;
+
+		void add(int id) {
+			if (tail == elements.length) {
+				if (head > 0) {
+					System.arraycopy(elements, head, elements, 0, tail - head);
+					tail -= head;
+					head = 0;
+				} else {
+					elements = Arrays.copyOf(elements, elements.length * 2);
+				}
+			}
+			elements[tail++] = id;
+		}
+
+		int remove() {
+			return elements[head++];
+		}
+
+		boolean isEmpty() {
+			return head == tail;
+		}
+	}
+}
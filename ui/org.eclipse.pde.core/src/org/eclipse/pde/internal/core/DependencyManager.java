@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -34,13 +34,7 @@ import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.osgi.framework.Bundle;
-import org.osgi.framework.Constants;
 import org.osgi.framework.Version;
-import org.osgi.framework.namespace.HostNamespace;
-import org.osgi.framework.wiring.BundleRequirement;
-import org.osgi.framework.wiring.BundleRevision;
-import org.osgi.framework.wiring.BundleWire;
-import org.osgi.framework.wiring.BundleWiring;
 import org.osgi.resource.Resource;
 
 /**
@@ -177,83 +171,18 @@ public class DependencyManager {
 			Options... options) {
 
 		Set<Options> optionSet = Set.of(options);
-		boolean includeOptional = optionSet.contains(Options.INCLUDE_OPTIONAL_DEPENDENCIES);
-		boolean includeAllFragments = optionSet.contains(Options.INCLUDE_ALL_FRAGMENTS);
-		boolean includeNonTestFragments = optionSet.contains(Options.INCLUDE_NON_TEST_FRAGMENTS);
-		boolean includeNativeFragments = optionSet.contains(Options.INCLUDE_PLATFORM_FRAGMENTS);
-		boolean includeExtensibleFragments = optionSet.contains(Options.INCLUDE_EXTENSIBLE_FRAGMENTS);
-		if (includeAllFragments && includeNonTestFragments) {
+		if (optionSet.contains(Options.INCLUDE_ALL_FRAGMENTS) && optionSet.contains(Options.INCLUDE_NON_TEST_FRAGMENTS)) {
 			throw new AssertionError("Cannot combine INCLUDE_ALL_FRAGMENTS and INCLUDE_NON_TEST_FRAGMENTS"); //$NON-NLS-1$
 		}
 
-		Set<BundleDescription> closure = new HashSet<>(bundles.size() * 4 / 3 + 1);
-		Queue<BundleDescription> pending = new ArrayDeque<>(bundles.size());
-
-		// initialize with given bundles
-		for (BundleDescription bundle : bundles) {
-			addNewRequiredBundle(bundle, closure, pending);
+		Set<BundleDescription> indexed = DependencyGraphIndex.getInstance().findRequirementsClosure(bundles, optionSet);
+		if (indexed != null) {
+			return indexed;
 		}
-
-		// perform exhaustive iterative bfs for required wires
-		while (!pending.isEmpty()) {
-			BundleDescription bundle = pending.remove();
-
-			BundleWiring wiring = bundle.getWiring();
-			if (wiring == null || !wiring.isInUse()) {
-				continue;
-			}
-			if (includeAllFragments || includeNonTestFragments
-					|| (includeExtensibleFragments && isExtensibleApi(bundle))) {
-				// A fragment's host is already required by a wire
-				for (BundleDescription fragment : bundle.getFragments()) {
-					if (includeAllFragments || !isTestWorkspaceProject(fragment)) {
-						addNewRequiredBundle(fragment, closure, pending);
-					}
-				}
-			}
-			if (includeNativeFragments) {
-				for (BundleDescription fragment : bundle.getFragments()) {
-					if (isNativeFragment(fragment) && !isTestWorkspaceProject(fragment)) {
-						addNewRequiredBundle(fragment, closure, pending);
-					}
-				}
-			}
-
-			if (isFragment(wiring.getRevision())) {
-				// Requirements of a fragment are hosted at the host, which
-				// therefore requires the corresponding wires: OSGi Core spec,
-				// chapter 6.4.1 - Hosted Requirements and Capabilities
-				for (BundleWire hostWire : wiring.getRequiredWires(HostNamespace.HOST_NAMESPACE)) {
-					// Temporarily remove this fragment's host from the closure
-					// to ensure it's added again below. In the subsequent
-					// processing this fragment's requirements will then also be
-					// considered (before it was discarded).
-					if (hostWire.getProviderWiring() != null) {
-						closure.remove(hostWire.getProvider());
-					}
-				}
-			}
-
-			List<BundleWire> requiredWires = wiring.getRequiredWires(null);
-			for (BundleWire wire : requiredWires) {
-				BundleRevision declaringBundle = wire.getRequirement().getRevision();
-				if (declaringBundle != bundle && !closure.contains(declaringBundle)) {
-					// Requirement is declared by an attached fragment, which is
-					// not included into the closure.
-					continue;
-				}
-				BundleRevision provider = wire.getCapability().getRevision();
-				// Use revision of required capability to support the case if
-				// fragments contribute new packages to their host's API.
-				if (provider instanceof BundleDescription requiredBundle && (includeOptional || !isOptional(wire.getRequirement()))) {
-					addNewRequiredBundle(requiredBundle, closure, pending);
-				}
-			}
-		}
-		return closure;
+		return DependencyGraphIndex.computeRequirementsClosure(bundles, optionSet);
 	}
 
-	private static boolean isNativeFragment(BundleDescription fragment) {
+	static boolean isNativeFragment(BundleDescription fragment) {
 		Object userObject = fragment.getUserObject();
 		if (userObject instanceof IPluginModelBase model) {
 			return ClasspathUtilCore.getPlatformFilter(model) != null;
@@ -261,7 +190,7 @@ public class DependencyManager {
 		return false;
 	}
 
-	private static boolean isExtensibleApi(BundleDescription bundleDescription) {
+	static boolean isExtensibleApi(BundleDescription bundleDescription) {
 		if (bundleDescription.getFragments().length == 0) {
 			return false;
 		}
@@ -280,6 +209,37 @@ public class DependencyManager {
 		return false;
 	}
 
+	/**
+	 * Returns a {@link Set} of the given bundle descriptions and all bundle
+	 * descriptions that transitively depend on them.
+	 * <p>
+	 * A bundle depends on another one if any of its requirements (including
+	 * optional ones) is wired to it.
+	 * </p>
+	 *
+	 * @param bundles
+	 *            the group of {@link BundleDescription}s to compute the
+	 *            dependent bundles for.
+	 * @return a set of bundle descriptions
+	 */
+	public static Set<BundleDescription> findDependentsClosure(Collection<BundleDescription> bundles) {
+		Set<BundleDescription> indexed = DependencyGraphIndex.getInstance().findDependentsClosure(bundles);
+		if (indexed != null) {
+			return indexed;
+		}
+		Set<BundleDescription> closure = new HashSet<>(bundles.size() * 4 / 3 + 1);
+		Queue<BundleDescription> pending = new ArrayDeque<>(bundles.size());
+		for (BundleDescription bundle : bundles) {
+			addNewRequiredBundle(bundle, closure, pending);
+		}
+		while (!pending.isEmpty()) {
+			for (BundleDescription dependent : pending.remove().getDependents()) {
+				addNewRequiredBundle(dependent, closure, pending);
+			}
+		}
+		return closure;
+	}
+
 	private static void addNewRequiredBundle(BundleDescription bundle, Set<BundleDescription> requiredBundles,
 			Queue<BundleDescription> pending) {
 		if (bundle != null && bundle.isResolved() && !bundle.isRemovalPending() && requiredBundles.add(bundle)) {
@@ -287,15 +247,7 @@ public class DependencyManager {
 		}
 	}
 
-	private static boolean isFragment(BundleRevision bundle) {
-		return (bundle.getTypes() & BundleRevision.TYPE_FRAGMENT) != 0;
-	}
-
-	private static boolean isOptional(BundleRequirement requirement) {
-		return Constants.RESOLUTION_OPTIONAL.equals(requirement.getDirectives().get(Constants.RESOLUTION_DIRECTIVE));
-	}
-
-	private static boolean isTestWorkspaceProject(Resource f) {
+	static boolean isTestWorkspaceProject(Resource f) {
 		// Be defensive when declaring a fragment as 'test'-fragment
 		IPluginModelBase pluginModel = PluginRegistry.findModel(f);
 		if (pluginModel != null) {
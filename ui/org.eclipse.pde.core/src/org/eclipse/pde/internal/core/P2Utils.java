@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -88,6 +89,7 @@ import org.eclipse.pde.internal.core.ifeature.IFeatureImport;
 import org.eclipse.pde.internal.core.ifeature.IFeatureInfo;
 import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
 import org.eclipse.pde.internal.core.plugin.PluginBase;
+import org.eclipse.pde.internal.core.util.IncrementalFileWriter;
 import org.osgi.framework.Constants;
 
 /**
@@ -297,8 +299,8 @@ public class P2Utils {
 		SimpleConfiguratorManipulator manipulator = BundleHelper.getDefault()
 				.acquireService(SimpleConfiguratorManipulator.class);
 		try {
-			manipulator.saveConfiguration(infos, bundlesTxt, null);
-			manipulator.saveConfiguration(sources, srcBundlesTxt, null);
+			saveConfiguration(manipulator, infos, bundlesTxt);
+			saveConfiguration(manipulator, sources, srcBundlesTxt);
 		} catch (IOException e) {
 			PDECore.logException(e);
 			return null;
@@ -315,6 +317,27 @@ public class P2Utils {
 		}
 	}
 
+	/**
+	 * Saves the configuration to a scratch directory first and only replaces
+	 * the given file if the content changed, so relaunching with the same
+	 * bundles leaves the configuration area untouched.
+	 */
+	private static void saveConfiguration(SimpleConfiguratorManipulator manipulator, BundleInfo[] configuration,
+			File file) throws IOException {
+		Path directory = file.getParentFile().toPath();
+		Files.createDirectories(directory);
+		// the manipulator treats files by name, so keep the name of the file
+		Path scratch = Files.createTempDirectory(directory, ".scratch"); //$NON-NLS-1$
+		try {
+			Path tmp = scratch.resolve(file.getName());
+			manipulator.saveConfiguration(configuration, tmp.toFile(), null);
+			IncrementalFileWriter.replace(tmp, file.toPath());
+		} finally {
+			Files.deleteIfExists(scratch.resolve(file.getName()));
+			Files.deleteIfExists(scratch);
+		}
+	}
+
 	/**
 	 * Returns whether a profile with the given ID exists in a profile registry
 	 * stored in the give p2 data area.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2012 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -37,7 +37,7 @@ import org.osgi.resource.Resource;
 
 public class PDEClasspathContainer {
 
-	static record Rule(IPath path, boolean discouraged) {
+	public static record Rule(IPath path, boolean discouraged) {
 		@Override
 		public String toString() {
 			return discouraged ? path.toString() + " [discouraged]" : path.toString(); //$NON-NLS-1$
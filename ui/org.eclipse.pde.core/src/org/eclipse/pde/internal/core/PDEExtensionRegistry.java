@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.pde.internal.core;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.ListIterator;
 
@@ -216,6 +217,34 @@ public class PDEExtensionRegistry {
 		return list.toArray(new IPluginExtensionPoint[list.size()]);
 	}
 
+	/**
+	 * Returns the full ids of the extension points the given plug-in declares,
+	 * as {@link #findExtensionPointsForPlugin(IPluginModelBase)} but without
+	 * creating the extension point objects.
+	 */
+	public String[] findExtensionPointIds(IPluginModelBase base) {
+		IContributor contributor = fStrategy.createContributor(base);
+		if (contributor == null) {
+			return new String[0];
+		}
+		return Arrays.stream(getRegistry().getExtensionPoints(contributor)).map(IExtensionPoint::getUniqueIdentifier)
+				.distinct().toArray(String[]::new);
+	}
+
+	/**
+	 * Returns the ids of the extension points the given plug-in extends, as
+	 * {@link #findExtensionsForPlugin(IPluginModelBase)} but without creating
+	 * the extension objects.
+	 */
+	public String[] findExtendedPointIds(IPluginModelBase base) {
+		IContributor contributor = fStrategy.createContributor(base);
+		if (contributor == null) {
+			return new String[0];
+		}
+		return Arrays.stream(getRegistry().getExtensions(contributor))
+				.map(IExtension::getExtensionPointUniqueIdentifier).distinct().toArray(String[]::new);
+	}
+
 	private ISharedPluginModel getExtensionsModel(IPluginModelBase base) {
 		if (base instanceof IBundlePluginModelBase) {
 			return ((IBundlePluginModelBase) base).getExtensionsModel();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,14 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
-import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -49,6 +52,21 @@ public class PDERegistryStrategy extends RegistryStrategy {
 	private ExtensionListener fExtensionListener = null;
 	private PDEExtensionRegistry fPDERegistry = null;
 
+	/** Below this number of bundles the extension files are read sequentially */
+	private static final int MIN_PARALLEL_BUNDLES = 16;
+
+	/** Number of extension files held in memory before they are added */
+	private static final int BATCH_SIZE = 256;
+
+	/**
+	 * The content of an extensions file
+	 *
+	 * @param name the name of the contribution, i.e. the path of the file
+	 * @param content the bytes of the file
+	 */
+	private record Contribution(String name, byte[] content) {
+	}
+
 	class RegistryListener {
 		IExtensionRegistry fRegistry;
 
@@ -197,48 +215,114 @@ public class PDERegistryStrategy extends RegistryStrategy {
 	}
 
 	private void addBundles(IExtensionRegistry registry, IPluginModelBase[] bases) {
-		for (IPluginModelBase base : bases) {
-			addBundle(registry, base);
+		int parallelism = getContributionLoadParallelism();
+		if (parallelism <= 1 || bases.length < MIN_PARALLEL_BUNDLES) {
+			for (IPluginModelBase base : bases) {
+				addBundle(registry, base);
+			}
+			return;
+		}
+		// read the extension files in parallel, but add them to the registry
+		// in the given order (workspace models are passed before external ones)
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			for (int start = 0; start < bases.length; start += BATCH_SIZE) {
+				IPluginModelBase[] batch = Arrays.copyOfRange(bases, start, Math.min(bases.length, start + BATCH_SIZE));
+				boolean[] needed = new boolean[batch.length];
+				for (int i = 0; i < batch.length; i++) {
+					needed[i] = getNewContributor(registry, batch[i]) != null;
+				}
+				Contribution[] contributions = pool.submit(() -> IntStream.range(0, batch.length).parallel()
+						.mapToObj(i -> needed[i] ? readContribution(batch[i]) : null).toArray(Contribution[]::new))
+						.join();
+				for (int i = 0; i < batch.length; i++) {
+					if (contributions[i] != null) {
+						// the same contributor may occur more than once
+						IContributor contributor = getNewContributor(registry, batch[i]);
+						if (contributor != null) {
+							addContribution(registry, contributor, contributions[i]);
+						}
+					}
+				}
+			}
+		} finally {
+			pool.shutdown();
 		}
 	}
 
 	private void addBundle(IExtensionRegistry registry, IPluginModelBase base) {
-		IContributor contributor = createContributor(base);
+		IContributor contributor = getNewContributor(registry, base);
 		if (contributor == null) {
 			return;
 		}
-		if (((IDynamicExtensionRegistry) registry).hasContributor(contributor)) {
-			return;
+		Contribution contribution = readContribution(base);
+		if (contribution != null) {
+			addContribution(registry, contributor, contribution);
+		}
+	}
+
+	/**
+	 * @return the contributor for the given model or <code>null</code> if it
+	 *         has none or is already contributed to the registry
+	 */
+	private IContributor getNewContributor(IExtensionRegistry registry, IPluginModelBase base) {
+		IContributor contributor = createContributor(base);
+		if (contributor == null || ((IDynamicExtensionRegistry) registry).hasContributor(contributor)) {
+			return null;
 		}
+		return contributor;
+	}
 
+	private void addContribution(IExtensionRegistry registry, IContributor contributor, Contribution contribution) {
+		registry.addContribution(new ByteArrayInputStream(contribution.content()), contributor, true,
+				contribution.name(), null, fKey);
+	}
+
+	/**
+	 * Reads the <code>plugin.xml</code> or <code>fragment.xml</code> of the
+	 * given model. Does not access the registry, so it can be called for many
+	 * models in parallel.
+	 *
+	 * @return the content of the extensions file or <code>null</code> if the
+	 *         model has none
+	 */
+	private Contribution readContribution(IPluginModelBase base) {
 		File input = getFile(base);
 		if (input == null) {
-			return;
+			return null;
 		}
 		try {
 			if (new File(base.getInstallLocation()).isDirectory()) {
 				// Directory bundle, access the extensions file directly
-				try (InputStream is = new BufferedInputStream(new FileInputStream(input))) {
-					registry.addContribution(is, contributor, true, input.getPath(), null, fKey);
-				}
-			} else {
-				// Archived bundle, need to extract the file
-				try (ZipFile jfile = new ZipFile(input, ZipFile.OPEN_READ)) {
-					String fileName = (base.isFragmentModel()) ? ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR
-							: ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR;
-					ZipEntry entry = jfile.getEntry(fileName);
-					if (entry != null) {
-						try (InputStream is = jfile.getInputStream(entry)) {
-							if (is != null) {
-								registry.addContribution(new BufferedInputStream(is), contributor, true,
-										input.getPath(), null, fKey);
-							}
+				return new Contribution(input.getPath(), Files.readAllBytes(input.toPath()));
+			}
+			// Archived bundle, need to extract the file
+			try (ZipFile jfile = new ZipFile(input, ZipFile.OPEN_READ)) {
+				String fileName = (base.isFragmentModel()) ? ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR
+						: ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR;
+				ZipEntry entry = jfile.getEntry(fileName);
+				if (entry != null) {
+					try (InputStream is = jfile.getInputStream(entry)) {
+						if (is != null) {
+							return new Contribution(input.getPath(), is.readAllBytes());
 						}
 					}
 				}
 			}
 		} catch (IOException ignored) {
 		}
+		return null;
+	}
+
+	/**
+	 * Maximum number of extension files read at the same time when many
+	 * bundles are added, e.g. when the registry cache is cold. Can be
+	 * overridden with the <code>pde.registry.loadThreads</code> system
+	 * property, a value of 1 restores sequential loading.
+	 */
+	private static int getContributionLoadParallelism() {
+		int defaultValue = Math.min(2 * Runtime.getRuntime().availableProcessors(), 16);
+		return Math.max(1, Integer.getInteger("pde.registry.loadThreads", defaultValue)); //$NON-NLS-1$
 	}
 
 	private void removeBundle(IExtensionRegistry registry, IPluginModelBase base) {
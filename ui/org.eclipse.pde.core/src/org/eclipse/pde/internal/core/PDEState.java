@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2025 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,14 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -30,6 +34,8 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -41,6 +47,7 @@ import org.eclipse.pde.internal.core.plugin.ExternalFragmentModel;
 import org.eclipse.pde.internal.core.plugin.ExternalPluginModel;
 import org.eclipse.pde.internal.core.plugin.ExternalPluginModelBase;
 import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.eclipse.pde.internal.core.util.FutureUtil;
 import org.eclipse.pde.internal.core.util.ManifestUtils;
 import org.osgi.framework.Version;
 
@@ -58,11 +65,39 @@ public class PDEState extends MinimalState {
 	 * @param monitor progress monitor
 	 */
 	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, IProgressMonitor monitor) {
+		this(target, addResolver, removeDuplicates, false, monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs.
+	 * <p>
+	 * If <code>useManifestCache</code> is set, manifests of bundles that did
+	 * not change since the last session are restored from a persistent
+	 * {@link TargetManifestCache} instead of being read from disk. This should
+	 * only be used for the state of the active target platform, as the cache
+	 * is rewritten to contain exactly the given bundles.
+	 * </p>
+	 *
+	 * @param target urls of target bundles
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param useManifestCache whether to use the persistent target manifest cache
+	 * @param monitor progress monitor
+	 */
+	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, boolean useManifestCache,
+			IProgressMonitor monitor) {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		// The resolved state itself is not restored, only the manifests of unchanged bundles are
+		TargetManifestCache cache = useManifestCache ? TargetManifestCache.load() : null;
+		createNewTargetState(addResolver, target, cache, monitor);
+		if (cache != null) {
+			cache.save();
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Manifests restored from cache: " + cache.getHits() + "/" + target.length); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
@@ -77,7 +112,8 @@ public class PDEState extends MinimalState {
 		}
 	}
 
-	private void createNewTargetState(boolean resolve, URI[] uris, IProgressMonitor monitor) {
+	private void createNewTargetState(boolean resolve, URI[] uris, TargetManifestCache cache,
+			IProgressMonitor monitor) {
 		fState = BundleHelper.getPlatformAdmin().getFactory().createState(resolve);
 		if (resolve) {
 			final String systemBSN = getSystemBundle();
@@ -87,15 +123,22 @@ public class PDEState extends MinimalState {
 			fState.getResolver().setSelectionPolicy(policy);
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
-				uris.length);
-		for (URI uri : uris) {
-			File file = toFile(uri);
-			if (file == null) {
+				uris.length * 2);
+		// Reading the manifests is I/O bound and independent for each bundle,
+		// adding them to the state must happen in a deterministic order
+		// because bundle ids and resolver tie-breaks depend on it.
+		LoadedManifest[] manifests = loadManifests(uris, cache, subMonitor);
+		for (LoadedManifest loaded : manifests) {
+			if (loaded == null) {
+				subMonitor.split(1);
 				continue;
 			}
 			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
+				subMonitor.subTask(loaded.file().getName());
+				if (loaded.error() != null) {
+					throw loaded.error();
+				}
+				addBundle(loaded.file(), -1, loaded.manifest());
 			} catch (CoreException e) {
 				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
 					PDECore.log(e);
@@ -105,6 +148,65 @@ public class PDEState extends MinimalState {
 		}
 	}
 
+	private record LoadedManifest(File file, Map<String, String> manifest, CoreException error) {
+	}
+
+	/**
+	 * Reads the manifests of all given bundles in parallel on a bounded pool.
+	 * The result has the same order as the given URIs and contains
+	 * <code>null</code> for URIs that can't be converted to a file.
+	 * <p>
+	 * The workers only check for cancellation, progress is reported on the
+	 * calling thread once all manifests are read.
+	 * </p>
+	 */
+	private static LoadedManifest[] loadManifests(URI[] uris, TargetManifestCache cache, SubMonitor monitor) {
+		IProgressMonitor workerMonitor = new NullProgressMonitor();
+		ForkJoinPool pool = new ForkJoinPool(getManifestLoadParallelism());
+		try {
+			Future<LoadedManifest[]> future = pool.submit(() -> Arrays.stream(uris).parallel().map(uri -> {
+				if (workerMonitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				File file = toFile(uri);
+				if (file == null) {
+					return null;
+				}
+				try {
+					Map<String, String> manifest = cache != null ? cache.loadManifest(file)
+							: ManifestUtils.loadManifest(file);
+					return new LoadedManifest(file, manifest, null);
+				} catch (CoreException e) {
+					return new LoadedManifest(file, null, e);
+				}
+			}).toArray(LoadedManifest[]::new));
+			LoadedManifest[] manifests = FutureUtil.await(future, monitor, workerMonitor);
+			monitor.worked(uris.length);
+			return manifests;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Manifests are mostly read from disk, so more threads than cores pay
+	 * off, especially for network mounted targets. Can be overridden with the
+	 * <code>pde.state.loadThreads</code> system property, a value of 1
+	 * restores sequential loading.
+	 */
+	private static int getManifestLoadParallelism() {
+		int defaultValue = Math.min(2 * Runtime.getRuntime().availableProcessors(), 16);
+		return Math.max(1, Integer.getInteger("pde.state.loadThreads", defaultValue)); //$NON-NLS-1$
+	}
+
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
 		Function<BaseDescription, Boolean> isSystemBundle = b -> systemBSN.equals(b.getSupplier().getSymbolicName());
 		return Comparator.comparing(isSystemBundle).reversed(); // false<true
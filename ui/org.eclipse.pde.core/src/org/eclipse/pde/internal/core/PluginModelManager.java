@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -54,6 +56,7 @@ import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.builders.DependencyLoopFinder;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.osgi.resource.Resource;
 
@@ -70,6 +73,14 @@ public class PluginModelManager implements IModelProviderListener {
 	 */
 	private class LocalModelEntry extends ModelEntry {
 
+		/*
+		 * Lookups do not lock fEntriesSynchronizer, so the models are kept in
+		 * arrays that are replaced instead of modified and published through
+		 * volatile fields. The inherited lists are not used.
+		 */
+		private volatile IPluginModelBase[] fWorkspaceModels = new IPluginModelBase[0];
+		private volatile IPluginModelBase[] fExternalModels = new IPluginModelBase[0];
+
 		/**
 		 * Constructs a model entry that will keep track
 		 * of all bundles in the workspace and target that share the same ID.
@@ -91,9 +102,9 @@ public class PluginModelManager implements IModelProviderListener {
 		 */
 		public void addModel(IPluginModelBase model) {
 			if (model.getUnderlyingResource() != null) {
-				fWorkspaceEntries.add(model);
+				fWorkspaceModels = add(fWorkspaceModels, model);
 			} else {
-				fExternalEntries.add(model);
+				fExternalModels = add(fExternalModels, model);
 			}
 		}
 
@@ -105,16 +116,75 @@ public class PluginModelManager implements IModelProviderListener {
 		 */
 		public void removeModel(IPluginModelBase model) {
 			if (model.getUnderlyingResource() != null) {
-				fWorkspaceEntries.remove(model);
+				fWorkspaceModels = remove(fWorkspaceModels, model);
 			} else {
-				fExternalEntries.remove(model);
+				fExternalModels = remove(fExternalModels, model);
+			}
+		}
+
+		private static IPluginModelBase[] add(IPluginModelBase[] models, IPluginModelBase model) {
+			IPluginModelBase[] result = Arrays.copyOf(models, models.length + 1);
+			result[models.length] = model;
+			return result;
+		}
+
+		private static IPluginModelBase[] remove(IPluginModelBase[] models, IPluginModelBase model) {
+			List<IPluginModelBase> result = new ArrayList<>(Arrays.asList(models));
+			return result.remove(model) ? result.toArray(new IPluginModelBase[result.size()]) : models;
+		}
+
+		@Override
+		public IPluginModelBase[] getWorkspaceModels() {
+			return fWorkspaceModels.clone();
+		}
+
+		@Override
+		public IPluginModelBase[] getExternalModels() {
+			return fExternalModels.clone();
+		}
+
+		@Override
+		public IPluginModelBase[] getActiveModels() {
+			IPluginModelBase[] workspaceModels = fWorkspaceModels;
+			if (workspaceModels.length > 0) {
+				return workspaceModels.clone();
+			}
+			return Arrays.stream(fExternalModels).filter(IPluginModelBase::isEnabled)
+					.toArray(IPluginModelBase[]::new);
+		}
+
+		@Override
+		public IPluginModelBase getModel(BundleDescription desc) {
+			if (desc == null) {
+				return null;
+			}
+			for (IPluginModelBase model : fWorkspaceModels) {
+				if (desc.equals(model.getBundleDescription())) {
+					return model;
+				}
 			}
+			for (IPluginModelBase model : fExternalModels) {
+				if (desc.equals(model.getBundleDescription())) {
+					return model;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public boolean hasWorkspaceModels() {
+			return fWorkspaceModels.length > 0;
+		}
+
+		@Override
+		public boolean hasExternalModels() {
+			return fExternalModels.length > 0;
 		}
 	}
 
 	private final ExternalModelManager fExternalManager; // keeps track of changes in target models
 	private final WorkspacePluginModelManager fWorkspaceManager; // keeps track of changes in the workspace
-	private PDEState fState; // keeps the combined view of the target and workspace
+	private volatile PDEState fState; // keeps the combined view of the target and workspace
 
 	/**
 	 * only access synchronized with fEntriesSynchronizer
@@ -124,6 +194,13 @@ public class PluginModelManager implements IModelProviderListener {
 	 * used to synchronize all public methods which (indirectly) use fEntries
 	 **/
 	private final Object fEntriesSynchronizer = new Object();
+	/**
+	 * Unmodifiable copy of fEntries, sorted by id like fEntries, used by
+	 * queries without locking. Replaced (while holding fEntriesSynchronizer)
+	 * whenever fEntries changes, <code>null</code> while the table is not
+	 * initialized.
+	 **/
+	private volatile Map<String, LocalModelEntry> fEntriesSnapshot;
 
 	private ArrayList<IPluginModelListener> fListeners; // a list of listeners interested in changes to the plug-in models
 	private ArrayList<IStateDeltaListener> fStateListeners; // a list of listeners interested in changes to the PDE/resolver State
@@ -138,6 +215,10 @@ public class PluginModelManager implements IModelProviderListener {
 		fExternalManager = new ExternalModelManager();
 		fExternalManager.addModelProviderListener(this);
 		fWorkspaceManager.addModelProviderListener(this);
+		addStateDeltaListener(ClasspathRulesCache.getInstance());
+		addStateDeltaListener(DependencyGraphIndex.getInstance());
+		// the cached import graph is only valid as long as the models do not change
+		addPluginModelListener(delta -> DependencyLoopFinder.invalidate());
 	}
 
 	/**
@@ -214,6 +295,8 @@ public class PluginModelManager implements IModelProviderListener {
 			}
 		}
 
+		publishEntries();
+
 		if (fState != null) {
 			// if the target location has not changed, incrementally re-resolve the state after processing all the add/remove/modify changes
 			// Otherwise, the state is in a good resolved state
@@ -384,9 +467,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 		<code>false</code> otherwise.
 	 */
 	public boolean isEmpty() {
-		synchronized (fEntriesSynchronizer) {
-			return getEntryTable().isEmpty();
-		}
+		return getEntriesSnapshot().isEmpty();
 	}
 
 	/**
@@ -397,9 +478,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 		<code>false</code> otherwise.
 	 */
 	public boolean isInitialized() {
-		synchronized (fEntriesSynchronizer) {
-			return fEntries != null;
-		}
+		return fEntriesSnapshot != null;
 	}
 
 	/**
@@ -421,6 +500,7 @@ public class PluginModelManager implements IModelProviderListener {
 	public void targetReloaded(IProgressMonitor monitor) {
 		synchronized (fEntriesSynchronizer) {
 			fEntries = null;
+			publishEntries();
 			initializeTable(monitor);
 		}
 	}
@@ -437,6 +517,27 @@ public class PluginModelManager implements IModelProviderListener {
 		return fEntries;
 	}
 
+	/**
+	 * Returns the current immutable snapshot of the master table, initializing
+	 * the table first if necessary. Readers should use this method instead of
+	 * locking fEntriesSynchronizer.
+	 */
+	private Map<String, LocalModelEntry> getEntriesSnapshot() {
+		Map<String, LocalModelEntry> snapshot = fEntriesSnapshot;
+		if (snapshot != null) {
+			return snapshot;
+		}
+		synchronized (fEntriesSynchronizer) {
+			initializeTable(null);
+			return fEntries == null ? Map.of() : fEntriesSnapshot;
+		}
+	}
+
+	/** Has to be called synchronized with fEntriesSynchronizer **/
+	private void publishEntries() {
+		fEntriesSnapshot = fEntries == null ? null : Collections.unmodifiableMap(new TreeMap<>(fEntries));
+	}
+
 	void initialize(IProgressMonitor monitor) {
 		synchronized (fEntriesSynchronizer) {
 			initializeTable(monitor);
@@ -477,6 +578,7 @@ public class PluginModelManager implements IModelProviderListener {
 			fState = new PDEState(new URI[0], true, true, subMon);
 			fExternalManager.setModels(new IPluginModelBase[0]);
 			fEntries = entries;
+			publishEntries();
 			LoadTargetDefinitionJob.load(unresolvedRepoBasedtarget);
 			return;
 		}
@@ -494,7 +596,7 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
-		fState = new PDEState(externalUris, true, true, subMon.split(15));
+		fState = new PDEState(externalUris, true, true, true, subMon.split(15));
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
 
@@ -527,6 +629,7 @@ public class PluginModelManager implements IModelProviderListener {
 		subMon.split(5);
 
 		fEntries = entries;
+		publishEntries();
 		// flush the extension registry cache since workspace data (BundleDescription id's) have changed.
 		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
 		if (oldState != null) {
@@ -887,7 +990,7 @@ public class PluginModelManager implements IModelProviderListener {
 				// description from the state
 				fState.removeBundleDescription(model.getBundleDescription());
 			}
-			delta.addEntry(findEntry(oldID), PluginModelDelta.CHANGED);
+			delta.addEntry(getEntryTable().get(oldID), PluginModelDelta.CHANGED);
 		} else {
 			// if the symbolic name of the bundle has completely changed,
 			// remove the model from the old entry, and add the model to the new entry
@@ -904,12 +1007,10 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return a model entry containing all workspace and target plug-ins by the given ID
 	 */
 	public ModelEntry findEntry(String id) {
-		synchronized (fEntriesSynchronizer) {
-			if ("system.bundle".equals(id)) { //$NON-NLS-1$
-				id = getSystemBundleId();
-			}
-			return id == null ? null : (ModelEntry) getEntryTable().get(id);
+		if ("system.bundle".equals(id)) { //$NON-NLS-1$
+			id = getSystemBundleId();
 		}
+		return id == null ? null : (ModelEntry) getEntriesSnapshot().get(id);
 	}
 
 	/**
@@ -1004,21 +1105,17 @@ public class PluginModelManager implements IModelProviderListener {
 	 * (possibly) fragments that are checked on the Target Platform preference page.
 	 */
 	public IPluginModelBase[] getActiveModels(boolean includeFragments) {
-		synchronized (fEntriesSynchronizer) {
-			int size = getEntryTable().size();
-			ArrayList<IPluginModelBase> result = new ArrayList<>(size);
-			Iterator<LocalModelEntry> iter = getEntryTable().values().iterator();
-			while (iter.hasNext()) {
-				ModelEntry entry = iter.next();
-				IPluginModelBase[] models = entry.getActiveModels();
-				for (IPluginModelBase model : models) {
-					if (model instanceof IPluginModel || includeFragments) {
-						result.add(model);
-					}
+		Map<String, LocalModelEntry> entries = getEntriesSnapshot();
+		ArrayList<IPluginModelBase> result = new ArrayList<>(entries.size());
+		for (ModelEntry entry : entries.values()) {
+			IPluginModelBase[] models = entry.getActiveModels();
+			for (IPluginModelBase model : models) {
+				if (model instanceof IPluginModel || includeFragments) {
+					result.add(model);
 				}
 			}
-			return result.toArray(new IPluginModelBase[result.size()]);
 		}
+		return result.toArray(new IPluginModelBase[result.size()]);
 	}
 
 	/**
@@ -1058,22 +1155,18 @@ public class PluginModelManager implements IModelProviderListener {
 	 * checked on the Target Platform preference page.
 	 */
 	public IPluginModelBase[] getAllModels(boolean includeFragments) {
-		synchronized (fEntriesSynchronizer) {
-			int size = getEntryTable().size();
-			ArrayList<IPluginModelBase> result = new ArrayList<>(size);
-			Iterator<LocalModelEntry> iter = getEntryTable().values().iterator();
-			while (iter.hasNext()) {
-				ModelEntry entry = iter.next();
-				IPluginModelBase[] models = entry.hasWorkspaceModels() ? entry.getWorkspaceModels()
-						: entry.getExternalModels();
-				for (IPluginModelBase model : models) {
-					if (model instanceof IPluginModel || includeFragments) {
-						result.add(model);
-					}
+		Map<String, LocalModelEntry> entries = getEntriesSnapshot();
+		ArrayList<IPluginModelBase> result = new ArrayList<>(entries.size());
+		for (ModelEntry entry : entries.values()) {
+			IPluginModelBase[] models = entry.hasWorkspaceModels() ? entry.getWorkspaceModels()
+					: entry.getExternalModels();
+			for (IPluginModelBase model : models) {
+				if (model instanceof IPluginModel || includeFragments) {
+					result.add(model);
 				}
 			}
-			return result.toArray(new IPluginModelBase[result.size()]);
 		}
+		return result.toArray(new IPluginModelBase[result.size()]);
 	}
 
 	/**
@@ -1106,6 +1199,9 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return  the model manager that keeps track of plug-ins in the target platform
 	 */
 	public ExternalModelManager getExternalModelManager() {
+		if (fEntriesSnapshot != null) {
+			return fExternalManager;
+		}
 		synchronized (fEntriesSynchronizer) {
 			initializeTable(null);
 			return fExternalManager;
@@ -1117,6 +1213,9 @@ public class PluginModelManager implements IModelProviderListener {
 	 * that form the current PDE state
 	 */
 	public PDEState getState() {
+		if (fEntriesSnapshot != null) {
+			return fState;
+		}
 		synchronized (fEntriesSynchronizer) {
 			initializeTable(null);
 			return fState;
@@ -1145,6 +1244,7 @@ public class PluginModelManager implements IModelProviderListener {
 		if (fStateListeners != null) {
 			fStateListeners.clear();
 		}
+		DependencyLoopFinder.invalidate();
 	}
 
 	public void addExtensionDeltaListener(IExtensionDeltaListener listener) {
@@ -332,20 +332,26 @@ class RequiredPluginsClasspathContainer {
 	}
 
 	private Map<BundleDescription, List<Rule>> retrieveVisiblePackagesFromState(BundleDescription desc) {
-		Map<BundleDescription, List<Rule>> visiblePackages = new HashMap<>();
-		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
-		addVisiblePackagesFromState(helper, desc, visiblePackages);
-		if (desc.getHost() != null) {
-			addVisiblePackagesFromState(helper, (BundleDescription) desc.getHost().getSupplier(), visiblePackages);
+		ClasspathRulesCache cache = ClasspathRulesCache.getInstance();
+		Map<BundleDescription, List<Rule>> visiblePackages = cache.getVisiblePackageRules(desc,
+				RequiredPluginsClasspathContainer::computeVisiblePackageRules);
+		if (desc.getHost() != null && desc.getHost().getSupplier() instanceof BundleDescription host) {
+			// merge the rules of the host into a copy, the cached maps are shared
+			Map<BundleDescription, List<Rule>> merged = new HashMap<>(visiblePackages);
+			cache.getVisiblePackageRules(host, RequiredPluginsClasspathContainer::computeVisiblePackageRules)
+					.forEach((exporter, rules) -> merged.merge(exporter, rules, (r1, r2) -> {
+						List<Rule> list = new ArrayList<>(r1);
+						r2.stream().filter(r -> !list.contains(r)).forEach(list::add);
+						return List.copyOf(list);
+					}));
+			return merged;
 		}
 		return visiblePackages;
 	}
 
-	private void addVisiblePackagesFromState(StateHelper helper, BundleDescription desc,
-			Map<BundleDescription, List<Rule>> visiblePackages) {
-		if (desc == null) {
-			return;
-		}
+	private static Map<BundleDescription, List<Rule>> computeVisiblePackageRules(BundleDescription desc) {
+		Map<BundleDescription, List<Rule>> visiblePackages = new HashMap<>();
+		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
 		ExportPackageDescription[] exports = helper.getVisiblePackages(desc);
 		for (ExportPackageDescription export : exports) {
 			BundleDescription exporter = export.getExporter();
@@ -358,9 +364,11 @@ class RequiredPluginsClasspathContainer {
 				list.add(rule);
 			}
 		}
+		visiblePackages.replaceAll((exporter, rules) -> List.copyOf(rules));
+		return Map.copyOf(visiblePackages);
 	}
 
-	private Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
+	private static Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
 		boolean discouraged = helper.getAccessCode(desc, export) == StateHelper.ACCESS_DISCOURAGED;
 		String name = export.getName();
 		IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.util.DataStreamUtil;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+
+/**
+ * Persistent cache of the manifest headers of target bundles. Entries are
+ * keyed by the absolute bundle location and validated against the size and
+ * modification time of the file the manifest was read from (the archive
+ * itself or the <code>META-INF/MANIFEST.MF</code> of a directory bundle), so
+ * only bundles that changed since the last session need to be opened and
+ * parsed again when the {@link PDEState} is created.
+ * <p>
+ * The cache stores the raw headers before any dev-mode weaving is applied.
+ * The resolved {@link org.eclipse.osgi.service.resolver.State} itself is not
+ * persisted: the state is rebuilt from the cached headers, which is cheap
+ * compared to reading thousands of archives.
+ * </p>
+ */
+class TargetManifestCache {
+
+	private static final String CACHE_FILE = ".target_manifests"; //$NON-NLS-1$
+
+	/** Increment whenever the file layout changes */
+	private static final int FORMAT_VERSION = 2;
+
+	private record Entry(long length, long lastModified, Map<String, String> headers) {
+	}
+
+	private final File fFile;
+	private final Map<String, Entry> fPrevious;
+	private final Map<String, Entry> fCurrent = new ConcurrentHashMap<>();
+	private int fHits;
+
+	private TargetManifestCache(File file, Map<String, Entry> previous) {
+		fFile = file;
+		fPrevious = previous;
+	}
+
+	/**
+	 * Loads the cache from the PDE state location. An unreadable or outdated
+	 * cache file results in an empty cache.
+	 *
+	 * @return the cache, never <code>null</code>
+	 */
+	static TargetManifestCache load() {
+		File file = PDECore.getDefault().getStateLocation().append(CACHE_FILE).toFile();
+		Map<String, Entry> entries = new HashMap<>();
+		if (file.isFile()) {
+			try (DataInputStream in = new DataInputStream(
+					new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+				if (in.readInt() == FORMAT_VERSION) {
+					int size = DataStreamUtil.readCount(in);
+					for (int i = 0; i < size; i++) {
+						String location = DataStreamUtil.readString(in);
+						long length = in.readLong();
+						long lastModified = in.readLong();
+						int headerCount = DataStreamUtil.readCount(in);
+						Map<String, String> headers = new HashMap<>(headerCount * 4 / 3 + 1);
+						for (int j = 0; j < headerCount; j++) {
+							headers.put(DataStreamUtil.readString(in), DataStreamUtil.readString(in));
+						}
+						entries.put(location, new Entry(length, lastModified, headers));
+					}
+				}
+			} catch (IOException e) {
+				// corrupt or truncated cache, start from scratch
+				entries.clear();
+			}
+		}
+		return new TargetManifestCache(file, entries);
+	}
+
+	/**
+	 * Returns the manifest headers of the given bundle, either from the cache
+	 * if the bundle did not change or by reading them through
+	 * {@link ManifestUtils#loadManifest(File)}. The returned map is a private
+	 * copy that callers may modify.
+	 *
+	 * @param bundleLocation root location of the bundle
+	 * @return map of bundle manifest properties
+	 * @throws CoreException
+	 *             if the manifest could not be read
+	 */
+	Map<String, String> loadManifest(File bundleLocation) throws CoreException {
+		String key = bundleLocation.getAbsolutePath();
+		File stampFile = bundleLocation.isDirectory() ? new File(bundleLocation, JarFile.MANIFEST_NAME)
+				: bundleLocation;
+		long length = stampFile.length();
+		long lastModified = stampFile.lastModified();
+		Entry entry = fPrevious.get(key);
+		if (entry != null && entry.length() == length && entry.lastModified() == lastModified && lastModified != 0) {
+			fCurrent.put(key, entry);
+			synchronized (this) {
+				fHits++;
+			}
+			return new HashMap<>(entry.headers());
+		}
+		Map<String, String> manifest = ManifestUtils.loadManifest(bundleLocation);
+		fCurrent.put(key, new Entry(length, lastModified, new HashMap<>(manifest)));
+		return manifest;
+	}
+
+	/**
+	 * @return the number of bundles whose manifest was served from the cache
+	 */
+	synchronized int getHits() {
+		return fHits;
+	}
+
+	/**
+	 * Writes all entries used since this cache was loaded back to disk.
+	 * Entries of bundles that are no longer part of the target are dropped.
+	 */
+	void save() {
+		File tmp = new File(fFile.getParentFile(), CACHE_FILE + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(fCurrent.size());
+				for (Map.Entry<String, Entry> e : fCurrent.entrySet()) {
+					Entry entry = e.getValue();
+					DataStreamUtil.writeString(out, e.getKey());
+					out.writeLong(entry.length());
+					out.writeLong(entry.lastModified());
+					out.writeInt(entry.headers().size());
+					for (Map.Entry<String, String> header : entry.headers().entrySet()) {
+						DataStreamUtil.writeString(out, header.getKey());
+						DataStreamUtil.writeString(out, header.getValue());
+					}
+				}
+			}
+			Files.move(tmp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			tmp.delete();
+			PDECore.log(e);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,13 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.builders;
 
-import java.util.Vector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IPlugin;
@@ -23,8 +29,29 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.PDECoreMessages;
 
+/**
+ * Finds dependency loops that go through a given plug-in.
+ * <p>
+ * The loops are enumerated by a depth first search from the root, which
+ * reports every simple loop through the root in the order of the imports,
+ * like previous versions did. The import graph of all active plug-ins is
+ * built once, partitioned into strongly connected components and cached
+ * until the plug-in models change. The search uses it to skip every import
+ * that cannot lead back to the root, so it only walks the plug-ins that
+ * share a loop with the root instead of all required plug-ins.
+ * </p>
+ * <p>
+ * The root and the candidates don't need to be known to the registry, their
+ * own imports are used for the first step of every loop. If the root is
+ * unknown to the registry, a plug-in importing its id closes a loop as well.
+ * </p>
+ */
 public class DependencyLoopFinder {
 
+	private static final DependencyLoop[] NO_LOOPS = new DependencyLoop[0];
+
+	private static DependencyGraph fGraph;
+
 	public static DependencyLoop[] findLoops(IPlugin root) {
 		return findLoops(root, null);
 	}
@@ -34,105 +61,327 @@ public class DependencyLoopFinder {
 	}
 
 	public static DependencyLoop[] findLoops(IPlugin root, IPlugin[] candidates, boolean onlyCandidates) {
-		Vector<DependencyLoop> loops = new Vector<>();
-
-		Vector<IPlugin> path = new Vector<>();
-		findLoops(loops, path, root, candidates, onlyCandidates, new Vector<>());
-		return loops.toArray(new DependencyLoop[loops.size()]);
+		String rootId = root.getId();
+		if (rootId == null) {
+			return NO_LOOPS;
+		}
+		LoopSearch search = new LoopSearch(getGraph(), rootId);
+		search.findLoops(new ArrayList<>(), root, candidates, onlyCandidates);
+		return search.fLoops.toArray(new DependencyLoop[search.fLoops.size()]);
 	}
 
-	private static void findLoops(Vector<DependencyLoop> loops, Vector<IPlugin> path, IPlugin subroot, IPlugin[] candidates, boolean onlyCandidates, Vector<String> exploredPlugins) {
-		if (!path.isEmpty()) {
-			// test the path so far
-			// is the subroot the same as root - if yes, that's it
-
-			IPlugin root = path.elementAt(0);
-			if (isEquivalent(root, subroot)) {
-				// our loop!!
-				DependencyLoop loop = new DependencyLoop();
-				loop.setMembers(path.toArray(new IPlugin[path.size()]));
-				int no = loops.size() + 1;
-				loop.setName(NLS.bind(PDECoreMessages.Builders_DependencyLoopFinder_loopName, ("" + no))); //$NON-NLS-1$
-				loops.add(loop);
-				return;
+	/**
+	 * State of a single query.
+	 */
+	private static final class LoopSearch {
+
+		private static final byte UNKNOWN = 0;
+		private static final byte REACHES_ROOT = 1;
+		private static final byte MISSES_ROOT = 2;
+
+		private final DependencyGraph fImportGraph;
+		private final String fRootId;
+		private final List<DependencyLoop> fLoops = new ArrayList<>();
+		/** ids of the plug-ins that did not yield a loop */
+		private final Set<String> fExploredPlugins = new HashSet<>();
+		/** whether a component can reach the root, computed on demand */
+		private final byte[] fReach;
+
+		LoopSearch(DependencyGraph graph, String rootId) {
+			fImportGraph = graph;
+			fRootId = rootId;
+			fReach = new byte[graph.fComponentImports.length];
+			for (int importer : graph.getImporters(rootId)) {
+				fReach[graph.fComponents[importer]] = REACHES_ROOT;
 			}
-			// is the subroot the same as any other node?
-			// if yes, abort - local loop that is not ours
-			for (int i = 1; i < path.size(); i++) {
-				IPlugin node = path.elementAt(i);
-				if (isEquivalent(subroot, node)) {
-					// local loop
+		}
+
+		void findLoops(List<IPlugin> path, IPlugin subroot, IPlugin[] candidates, boolean onlyCandidates) {
+			if (!path.isEmpty()) {
+				if (fRootId.equals(subroot.getId())) {
+					addLoop(path);
 					return;
 				}
-			}
-		}
-		@SuppressWarnings("unchecked")
-		Vector<IPlugin> newPath = !path.isEmpty() ? ((Vector<IPlugin>) path.clone()) : path;
-		newPath.add(subroot);
-
-		if (!onlyCandidates) {
-			IPluginImport[] iimports = subroot.getImports();
-			for (IPluginImport iimport : iimports) {
-				String id = iimport.getId();
-				//Be paranoid
-				if (id == null) {
-					continue;
+				// local loop that does not go through the root
+				for (int i = 1; i < path.size(); i++) {
+					if (subroot.getId().equals(path.get(i).getId())) {
+						return;
+					}
 				}
-				if (!exploredPlugins.contains(id)) {
-					// is plugin in list of non loop yielding plugins
-					//Commenting linear lookup - was very slow
-					//when called from here. We will use
-					//model manager instead because it
-					//has a hash table lookup that is much faster.
-					//IPlugin child = PDECore.getDefault().findPlugin(id);
-					IPlugin child = findPlugin(id);
-					if (child != null) {
-						// number of loops before traversing plugin
-						int oldLoopSize = loops.size();
-
-						findLoops(loops, newPath, child, null, false, exploredPlugins);
-
-						// number of loops after traversing plugin
-						int newLoopsSize = loops.size();
-
-						if (oldLoopSize == newLoopsSize) {// no change in number of loops
-							// no loops from going to this node, skip next time
-							exploredPlugins.add(id);
-						}
+			}
+			List<IPlugin> newPath = new ArrayList<>(path.size() + 1);
+			newPath.addAll(path);
+			newPath.add(subroot);
+
+			if (!onlyCandidates) {
+				for (IPluginImport iimport : subroot.getImports()) {
+					String id = iimport.getId();
+					//Be paranoid
+					if (id == null || fExploredPlugins.contains(id)) {
+						continue;
+					}
+					if (fRootId.equals(id)) {
+						addLoop(newPath);
+						continue;
 					}
+					int child = fImportGraph.indexOf(id);
+					if (child < 0) {
+						continue;
+					}
+					if (!reachesRoot(fImportGraph.fComponents[child])) {
+						// would not yield a loop on any path
+						fExploredPlugins.add(id);
+						continue;
+					}
+					explore(newPath, fImportGraph.fPlugins[child], id);
+				}
+			}
+			if (candidates != null) {
+				for (IPlugin candidate : candidates) {
+					explore(newPath, candidate, candidate.getId());
 				}
+			}
+		}
 
+		private void explore(List<IPlugin> path, IPlugin child, String id) {
+			int oldLoopSize = fLoops.size();
+			findLoops(path, child, null, false);
+			if (oldLoopSize == fLoops.size()) {
+				// no loops from going to this node, skip next time
+				fExploredPlugins.add(id);
 			}
+		}
 
+		private void addLoop(List<IPlugin> members) {
+			DependencyLoop loop = new DependencyLoop();
+			loop.setMembers(members.toArray(new IPlugin[members.size()]));
+			int no = fLoops.size() + 1;
+			loop.setName(NLS.bind(PDECoreMessages.Builders_DependencyLoopFinder_loopName, ("" + no))); //$NON-NLS-1$
+			fLoops.add(loop);
 		}
-		if (candidates != null) {
-			for (IPlugin candidate : candidates) {
-				// number of loops before traversing plugin
-				int oldLoopSize = loops.size();
 
-				findLoops(loops, newPath, candidate, null, false, exploredPlugins);
+		/**
+		 * Returns whether a member of the given component imports the root,
+		 * directly or through other components. Iterative depth first search
+		 * over the acyclic graph of the components, every component is only
+		 * visited once per query.
+		 */
+		private boolean reachesRoot(int component) {
+			if (fReach[component] == UNKNOWN) {
+				int[] nodes = new int[fReach.length];
+				int[] positions = new int[fReach.length];
+				int depth = 0;
+				nodes[0] = component;
+				while (depth >= 0) {
+					int node = nodes[depth];
+					int[] successors = fImportGraph.fComponentImports[node];
+					if (positions[depth] == successors.length) {
+						fReach[node] = MISSES_ROOT;
+						depth--;
+						continue;
+					}
+					int successor = successors[positions[depth]];
+					if (fReach[successor] == UNKNOWN) {
+						depth++;
+						nodes[depth] = successor;
+						positions[depth] = 0;
+					} else if (fReach[successor] == REACHES_ROOT) {
+						fReach[node] = REACHES_ROOT;
+						depth--;
+					} else {
+						positions[depth]++;
+					}
+				}
+			}
+			return fReach[component] == REACHES_ROOT;
+		}
+	}
 
-				// number of loops after traversing plugin
-				int newLoopsSize = loops.size();
+	private static synchronized DependencyGraph getGraph() {
+		if (fGraph == null) {
+			fGraph = DependencyGraph.build();
+		}
+		return fGraph;
+	}
 
-				if (oldLoopSize == newLoopsSize) { // no change in number of loops
-					// no loops from going to this node, skip next time
-					exploredPlugins.add(candidate.getId());
+	/**
+	 * Drops the cached import graph. The
+	 * {@link org.eclipse.pde.internal.core.PluginModelManager} calls this
+	 * whenever the plug-in models change and when it is shut down.
+	 */
+	public static synchronized void invalidate() {
+		fGraph = null;
+	}
+
+	/**
+	 * Import graph of the active (non-fragment) plug-ins, nodes are identified
+	 * by their index.
+	 */
+	private static final class DependencyGraph {
+
+		private final Map<String, Integer> fIndices;
+		private final IPlugin[] fPlugins;
+		/** nodes importing an id, including ids unknown to the registry */
+		private final Map<String, int[]> fImporters;
+		/** strongly connected component of every node */
+		private final int[] fComponents;
+		/** distinct components imported by the members of every component */
+		private final int[][] fComponentImports;
+
+		private DependencyGraph(Map<String, Integer> indices, IPlugin[] plugins, int[][] imports,
+				Map<String, int[]> importers) {
+			fIndices = indices;
+			fPlugins = plugins;
+			fImporters = importers;
+			fComponents = computeComponents(imports);
+			fComponentImports = computeComponentImports(imports, fComponents);
+		}
+
+		static DependencyGraph build() {
+			Map<String, Integer> indices = new HashMap<>();
+			List<IPlugin> plugins = new ArrayList<>();
+			for (IPluginModelBase model : PluginRegistry.getActiveModels(false)) {
+				String id = model.getPluginBase().getId();
+				if (id == null || indices.containsKey(id)) {
+					continue;
+				}
+				// the model the registry answers for that id, as in
+				// PluginRegistry.findModel(String)
+				IPluginModelBase registered = PluginRegistry.findModel(id);
+				if (registered instanceof IPluginModel pluginModel) {
+					indices.put(id, plugins.size());
+					plugins.add(pluginModel.getPlugin());
+				}
+			}
+			int[][] imports = new int[plugins.size()][];
+			Map<String, List<Integer>> importers = new HashMap<>();
+			for (int i = 0; i < imports.length; i++) {
+				IPluginImport[] iimports = plugins.get(i).getImports();
+				int[] targets = new int[iimports.length];
+				int count = 0;
+				for (IPluginImport iimport : iimports) {
+					String id = iimport.getId();
+					if (id == null) {
+						continue;
+					}
+					importers.computeIfAbsent(id, k -> new ArrayList<>()).add(i);
+					Integer target = indices.get(id);
+					if (target != null) {
+						targets[count++] = target;
+					}
 				}
+				imports[i] = count == targets.length ? targets : Arrays.copyOf(targets, count);
 			}
+			Map<String, int[]> importerIndices = new HashMap<>();
+			importers.forEach(
+					(id, nodes) -> importerIndices.put(id, nodes.stream().mapToInt(Integer::intValue).toArray()));
+			return new DependencyGraph(indices, plugins.toArray(new IPlugin[plugins.size()]), imports, importerIndices);
 		}
 
-	}
+		int indexOf(String id) {
+			Integer index = fIndices.get(id);
+			return index == null ? -1 : index;
+		}
 
-	private static IPlugin findPlugin(String id) {
-		IPluginModelBase childModel = PluginRegistry.findModel(id);
-		if (childModel == null || !(childModel instanceof IPluginModel)) {
-			return null;
+		int[] getImporters(String id) {
+			return fImporters.getOrDefault(id, new int[0]);
+		}
+
+		private static int[][] computeComponentImports(int[][] imports, int[] components) {
+			int count = 0;
+			for (int component : components) {
+				count = Math.max(count, component + 1);
+			}
+			// last component that added a successor, to skip duplicates
+			int[] addedBy = new int[count];
+			Arrays.fill(addedBy, -1);
+			List<List<Integer>> members = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				members.add(new ArrayList<>());
+			}
+			for (int node = 0; node < components.length; node++) {
+				members.get(components[node]).add(node);
+			}
+			int[][] result = new int[count][];
+			for (int component = 0; component < count; component++) {
+				List<Integer> targets = new ArrayList<>();
+				for (int node : members.get(component)) {
+					for (int target : imports[node]) {
+						int targetComponent = components[target];
+						if (targetComponent != component && addedBy[targetComponent] != component) {
+							addedBy[targetComponent] = component;
+							targets.add(targetComponent);
+						}
+					}
+				}
+				result[component] = targets.stream().mapToInt(Integer::intValue).toArray();
+			}
+			return result;
 		}
-		return (IPlugin) childModel.getPluginBase();
-	}
 
-	private static boolean isEquivalent(IPlugin left, IPlugin right) {
-		return left.getId().equals(right.getId());
+		/**
+		 * Iterative variant of Tarjan's algorithm, runs in linear time of the
+		 * graph size.
+		 */
+		private static int[] computeComponents(int[][] imports) {
+			int size = imports.length;
+			int[] components = new int[size];
+			int[] index = new int[size];
+			int[] lowLink = new int[size];
+			boolean[] onStack = new boolean[size];
+			Arrays.fill(index, -1);
+			int[] stack = new int[size];
+			int stackSize = 0;
+			// explicit call stack of node and position of the next import to visit
+			int[] callNodes = new int[size];
+			int[] callPositions = new int[size];
+			int nextIndex = 0;
+			int nextComponent = 0;
+			for (int start = 0; start < size; start++) {
+				if (index[start] != -1) {
+					continue;
+				}
+				int depth = 0;
+				callNodes[0] = start;
+				callPositions[0] = 0;
+				index[start] = lowLink[start] = nextIndex++;
+				stack[stackSize++] = start;
+				onStack[start] = true;
+				while (depth >= 0) {
+					int node = callNodes[depth];
+					int position = callPositions[depth];
+					if (position < imports[node].length) {
+						callPositions[depth]++;
+						int target = imports[node][position];
+						if (index[target] == -1) {
+							index[target] = lowLink[target] = nextIndex++;
+							stack[stackSize++] = target;
+							onStack[target] = true;
+							depth++;
+							callNodes[depth] = target;
+							callPositions[depth] = 0;
+						} else if (onStack[target]) {
+							lowLink[node] = Math.min(lowLink[node], index[target]);
+						}
+						continue;
+					}
+					if (lowLink[node] == index[node]) {
+						int member;
+						do {
+							member = stack[--stackSize];
+							onStack[member] = false;
+							components[member] = nextComponent;
+						} while (member != node);
+						nextComponent++;
+					}
+					depth--;
+					if (depth >= 0) {
+						int parent = callNodes[depth];
+						lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+					}
+				}
+			}
+			return components;
+		}
 	}
 }
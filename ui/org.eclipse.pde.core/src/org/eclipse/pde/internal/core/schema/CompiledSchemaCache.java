@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import static org.eclipse.pde.internal.core.util.DataStreamUtil.readBytes;
+import static org.eclipse.pde.internal.core.util.DataStreamUtil.readCount;
+import static org.eclipse.pde.internal.core.util.DataStreamUtil.readString;
+import static org.eclipse.pde.internal.core.util.DataStreamUtil.writeBytes;
+import static org.eclipse.pde.internal.core.util.DataStreamUtil.writeString;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.pde.internal.core.PDECore;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Persistent cache of parsed extension point schemas. A schema is stored in a
+ * compact binary form of the document tree that {@link Schema} builds its
+ * model from, keyed by the schema URL and validated against the modification
+ * time of the file (or archive) it was read from. Restoring a schema from the
+ * cache neither opens the archive nor runs the XML parser.
+ * <p>
+ * The cache is kept in memory while PDE is running and written to the PDE
+ * state location on shutdown.
+ * </p>
+ */
+class CompiledSchemaCache {
+
+	private static final String CACHE_FILE = ".schema_cache"; //$NON-NLS-1$
+
+	/** Increment whenever the file layout changes */
+	private static final int FORMAT_VERSION = 2;
+
+	/** Maximum number of schemas kept in the cache */
+	private static final int MAX_ENTRIES = 2000;
+
+	private static final byte NODE_ELEMENT = 1;
+	private static final byte NODE_TEXT = 2;
+
+	private record Entry(long timestamp, byte[] tree) {
+	}
+
+	private static CompiledSchemaCache fDefault;
+
+	private final File fFile;
+	private final Map<String, Entry> fEntries = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+	private boolean fDirty;
+
+	private CompiledSchemaCache(File file) {
+		fFile = file;
+	}
+
+	/**
+	 * @return the cache stored in the PDE state location, loaded on first
+	 *         access, or <code>null</code> if PDE is not running
+	 */
+	static synchronized CompiledSchemaCache getDefault() {
+		if (fDefault == null) {
+			PDECore core = PDECore.getDefault();
+			if (core == null) {
+				return null;
+			}
+			fDefault = new CompiledSchemaCache(core.getStateLocation().append(CACHE_FILE).toFile());
+			fDefault.load();
+		}
+		return fDefault;
+	}
+
+	/**
+	 * Writes the default cache to disk if it was changed and releases it.
+	 */
+	static synchronized void shutdown() {
+		if (fDefault != null) {
+			fDefault.save();
+			fDefault = null;
+		}
+	}
+
+	/**
+	 * Returns the modification time of the file a schema is read from: the
+	 * schema file itself or the archive containing it.
+	 *
+	 * @return the modification time or <code>0</code> if it cannot be
+	 *         determined
+	 */
+	static long getTimestamp(URL url) {
+		try {
+			if ("file".equals(url.getProtocol())) { //$NON-NLS-1$
+				return new File(url.getFile()).lastModified();
+			}
+			if ("jar".equals(url.getProtocol())) { //$NON-NLS-1$
+				String spec = url.getFile();
+				int separator = spec.indexOf("!/"); //$NON-NLS-1$
+				if (separator != -1) {
+					URL archive = new URL(spec.substring(0, separator));
+					if ("file".equals(archive.getProtocol())) { //$NON-NLS-1$
+						return new File(archive.getFile()).lastModified();
+					}
+				}
+			}
+		} catch (MalformedURLException e) {
+			// not cacheable
+		}
+		return 0;
+	}
+
+	private static String getKey(URL url, boolean abbreviated) {
+		return (abbreviated ? "a:" : "f:") + url.toExternalForm(); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Restores the document element of the given schema.
+	 *
+	 * @param url location of the schema
+	 * @param abbreviated whether the document was built without text content
+	 * @param timestamp the current modification time of the schema
+	 * @return the document element or <code>null</code> if the schema is not
+	 *         cached or changed
+	 */
+	Node getDocumentElement(URL url, boolean abbreviated, long timestamp) {
+		Entry entry;
+		synchronized (this) {
+			entry = fEntries.get(getKey(url, abbreviated));
+		}
+		if (entry == null || entry.timestamp() != timestamp) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(entry.tree()))) {
+			@SuppressWarnings("restriction")
+			Document document = org.eclipse.core.internal.runtime.XmlProcessorFactory.newDocumentWithErrorOnDOCTYPE();
+			Node root = readNode(in, document);
+			document.appendChild(root);
+			return document.getDocumentElement();
+		} catch (IOException | ParserConfigurationException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Adds the document element of the given schema to the cache.
+	 *
+	 * @param url location of the schema
+	 * @param abbreviated whether the document was built without text content
+	 * @param timestamp the modification time of the schema when it was read
+	 * @param root the document element
+	 */
+	void put(URL url, boolean abbreviated, long timestamp, Node root) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			writeNode(out, root);
+		} catch (IOException e) {
+			return;
+		}
+		synchronized (this) {
+			fEntries.put(getKey(url, abbreviated), new Entry(timestamp, bytes.toByteArray()));
+			fDirty = true;
+		}
+	}
+
+	private synchronized void load() {
+		if (!fFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(fFile.toPath())))) {
+			if (in.readInt() == FORMAT_VERSION) {
+				int size = readCount(in);
+				for (int i = 0; i < size; i++) {
+					String key = readString(in);
+					long timestamp = in.readLong();
+					fEntries.put(key, new Entry(timestamp, readBytes(in)));
+				}
+			}
+		} catch (IOException e) {
+			// corrupt or truncated cache, start from scratch
+			fEntries.clear();
+		}
+	}
+
+	private synchronized void save() {
+		if (!fDirty) {
+			return;
+		}
+		File tmp = new File(fFile.getParentFile(), CACHE_FILE + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(fEntries.size());
+				for (Map.Entry<String, Entry> e : fEntries.entrySet()) {
+					writeString(out, e.getKey());
+					out.writeLong(e.getValue().timestamp());
+					writeBytes(out, e.getValue().tree());
+				}
+			}
+			Files.move(tmp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			fDirty = false;
+		} catch (IOException e) {
+			tmp.delete();
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Writes an element or text node, the only kinds of nodes the schema
+	 * document contains.
+	 */
+	private static void writeNode(DataOutputStream out, Node node) throws IOException {
+		if (node.getNodeType() == Node.TEXT_NODE) {
+			out.writeByte(NODE_TEXT);
+			writeString(out, node.getNodeValue());
+			return;
+		}
+		if (node.getNodeType() != Node.ELEMENT_NODE) {
+			throw new IOException("Unexpected node type: " + node.getNodeType()); //$NON-NLS-1$
+		}
+		out.writeByte(NODE_ELEMENT);
+		writeString(out, node.getNodeName());
+		NamedNodeMap attributes = node.getAttributes();
+		out.writeInt(attributes.getLength());
+		for (int i = 0; i < attributes.getLength(); i++) {
+			Node attribute = attributes.item(i);
+			writeString(out, attribute.getNodeName());
+			writeString(out, attribute.getNodeValue());
+		}
+		NodeList children = node.getChildNodes();
+		out.writeInt(children.getLength());
+		for (int i = 0; i < children.getLength(); i++) {
+			writeNode(out, children.item(i));
+		}
+	}
+
+	private static Node readNode(DataInputStream in, Document document) throws IOException {
+		byte kind = in.readByte();
+		if (kind == NODE_TEXT) {
+			return document.createTextNode(readString(in));
+		}
+		if (kind != NODE_ELEMENT) {
+			throw new IOException("Unexpected node kind: " + kind); //$NON-NLS-1$
+		}
+		Element element = document.createElement(readString(in));
+		int attributeCount = readCount(in);
+		for (int i = 0; i < attributeCount; i++) {
+			element.setAttribute(readString(in), readString(in));
+		}
+		int childCount = readCount(in);
+		for (int i = 0; i < childCount; i++) {
+			element.appendChild(readNode(in, document));
+		}
+		return element;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2016 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import javax.xml.parsers.SAXParser;
 
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.core.runtime.PlatformObject;
+import org.eclipse.pde.core.IEditable;
 import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.core.IModelChangedListener;
 import org.eclipse.pde.core.ModelChangedEvent;
@@ -425,11 +426,25 @@ public class Schema extends PlatformObject implements ISchema {
 	}
 
 	public void load() {
+		// editable schemas are always read from their source
+		CompiledSchemaCache cache = this instanceof IEditable || fURL == null ? null : CompiledSchemaCache.getDefault();
+		long timestamp = cache == null ? 0 : CompiledSchemaCache.getTimestamp(fURL);
+		if (timestamp != 0) {
+			Node root = cache.getDocumentElement(fURL, fAbbreviated, timestamp);
+			if (root != null) {
+				try {
+					traverseDocumentTree(root);
+				} catch (Exception e) {
+					PDECore.logException(e);
+				}
+				return;
+			}
+		}
 		URLConnection connection = null;
 		try {
 			connection = SchemaUtil.getURLConnection(fURL);
 			try (InputStream input = connection.getInputStream()) {
-				load(input);
+				load(input, timestamp != 0 ? cache : null, timestamp);
 			}
 		} catch (FileNotFoundException e) {
 			fLoaded = false;
@@ -446,13 +461,25 @@ public class Schema extends PlatformObject implements ISchema {
 	}
 
 	public void load(InputStream stream) {
+		load(stream, null, 0);
+	}
+
+	/**
+	 * Loads the schema from the given stream and adds the parsed document to
+	 * the given cache, if any.
+	 */
+	private void load(InputStream stream, CompiledSchemaCache cache, long timestamp) {
 		try {
 			XMLDefaultHandler handler = new XMLDefaultHandler(fAbbreviated);
 			@SuppressWarnings("restriction")
 			SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory
 					.createSAXParserWithErrorOnDOCTYPE();
 			parser.parse(stream, handler);
-			traverseDocumentTree(handler.getDocumentElement());
+			Node root = handler.getDocumentElement();
+			traverseDocumentTree(root);
+			if (cache != null && root != null) {
+				cache.put(fURL, fAbbreviated, timestamp, root);
+			}
 		} catch (SAXException e) {
 			// ignore parse errors - 'loaded' will be false anyway
 		} catch (IOException e) {
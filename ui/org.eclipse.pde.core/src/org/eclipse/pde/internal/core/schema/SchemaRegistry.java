@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,9 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.core.plugin.IFragment;
@@ -35,13 +37,37 @@ import org.eclipse.pde.internal.core.util.CoreUtility;
 
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	/**
+	 * Maximum number of schema descriptors kept in the registry, the least
+	 * recently used ones are released first. Released schemas are restored
+	 * from the {@link CompiledSchemaCache} when needed again.
+	 */
+	private static final int MAX_ENTRIES = Integer.getInteger("pde.schema.registrySize", 500); //$NON-NLS-1$
+
+	/**
+	 * A registered descriptor and the time stamp of its schema at the time it
+	 * was registered.
+	 */
+	private record Entry(ISchemaDescriptor descriptor, long timestamp) {
+	}
+
+	/**
+	 * Guarded by itself, lookups happen concurrently from builders
+	 */
+	private final Map<String, Entry> fRegistry = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
+			synchronized (fRegistry) {
 				fRegistry.remove(extPointID);
 			}
 			return null;
@@ -52,12 +78,7 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
-		}
-
+		ISchemaDescriptor desc = getDescriptor(extPointID, url, () -> new SchemaDescriptor(extPointID, url));
 		return desc.getSchema(true);
 	}
 
@@ -68,26 +89,27 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
-			}
+			ISchemaDescriptor desc = getDescriptor(url.toString(), url, () -> new IncludedSchemaDescriptor(url));
 			return desc.getSchema(true);
 		} catch (MalformedURLException e) {
 		}
 		return null;
 	}
 
-	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
+	/**
+	 * Returns the registered descriptor for the given key, or registers a new
+	 * one if there is none or the schema changed since it was registered.
+	 */
+	private ISchemaDescriptor getDescriptor(String key, URL url, Supplier<ISchemaDescriptor> factory) {
+		long timestamp = CompiledSchemaCache.getTimestamp(url);
+		synchronized (fRegistry) {
+			Entry entry = fRegistry.get(key);
+			if (entry == null || hasSchemaChanged(entry, url, timestamp)) {
+				entry = new Entry(factory.get(), timestamp);
+				fRegistry.put(key, entry);
 			}
+			return entry.descriptor();
 		}
-		return desc;
 	}
 
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
@@ -174,16 +196,19 @@ public class SchemaRegistry {
 		return null;
 	}
 
-	private boolean hasSchemaChanged(ISchemaDescriptor desc, URL url) {
-		if (!desc.getSchemaURL().toExternalForm().equals(url.toExternalForm())) {
+	private boolean hasSchemaChanged(Entry entry, URL url, long timestamp) {
+		if (!entry.descriptor().getSchemaURL().toExternalForm().equals(url.toExternalForm())) {
 			return true;
 		}
-		File file = new File(url.getFile());
-		return (desc.getLastModified() != file.lastModified());
+		// the time stamp covers schemas in archives as well
+		return entry.timestamp() != timestamp;
 	}
 
 	public void shutdown() {
-		fRegistry.clear();
+		synchronized (fRegistry) {
+			fRegistry.clear();
+		}
+		CompiledSchemaCache.shutdown();
 	}
 
 	private static String getId(IPluginExtensionPoint point, IPluginModelBase base) {
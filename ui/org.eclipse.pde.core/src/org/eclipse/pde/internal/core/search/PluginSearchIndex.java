@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.BundleSpecification;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.internal.core.FeatureModelManager;
+import org.eclipse.pde.internal.core.IFeatureModelDelta;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEExtensionRegistry;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+
+/**
+ * Inverted index from the ids external plug-ins and features declare and
+ * reference to the models, used by the {@link PluginSearchOperation} to only
+ * visit the models that can match.
+ * <p>
+ * The plug-in, fragment, host and required plug-in ids are read from the
+ * bundle descriptions of the resolver state, the extension point ids from the
+ * {@link PDEExtensionRegistry}, which is also where external models read their
+ * extensions from. So building the index loads neither the models nor their
+ * extensions files. The ids included by a feature are read from the feature
+ * model.
+ * </p>
+ * <p>
+ * Models are indexed when a search first sees them. Plug-in and feature model
+ * deltas drop the indexed models of the changed ids, so they are indexed again
+ * by the next search, and a new state, e.g. after a target change, drops the
+ * whole index. Workspace models are not indexed, they are already loaded and
+ * may change at any time, so searches always visit them.
+ * </p>
+ */
+public final class PluginSearchIndex implements IPluginModelListener, IFeatureModelListener {
+
+	/**
+	 * System property that disables the index if set to <code>false</code>
+	 */
+	public static final String PROPERTY = "pde.searchIndex"; //$NON-NLS-1$
+
+	/**
+	 * The ids a plug-in declares and references
+	 *
+	 * @param id the id of the plug-in or fragment
+	 * @param fragment whether the model is a fragment
+	 * @param hostId the id of the host plug-in of a fragment or
+	 *            <code>null</code>
+	 * @param imports the ids of the required plug-ins
+	 * @param extensionPoints the full ids of the declared extension points
+	 * @param extensions the ids of the extension points extended
+	 */
+	record Keys(String id, boolean fragment, String hostId, String[] imports, String[] extensionPoints,
+			String[] extensions) {
+	}
+
+	private static PluginSearchIndex fDefault;
+
+	private final PluginModelManager fPluginManager;
+	private final FeatureModelManager fFeatureManager;
+
+	private PDEState fState;
+	private final Map<IPluginModelBase, Keys> fKeys = new HashMap<>();
+	private final Map<String, Set<IPluginModelBase>> fPlugins = new HashMap<>();
+	private final Map<String, Set<IPluginModelBase>> fFragments = new HashMap<>();
+	private final Map<String, Set<IPluginModelBase>> fReferences = new HashMap<>();
+	private final Map<String, Set<IPluginModelBase>> fExtensionPoints = new HashMap<>();
+	private final Map<String, Set<IPluginModelBase>> fExtensions = new HashMap<>();
+	private final Map<IFeatureModel, String[]> fFeatureKeys = new HashMap<>();
+	private final Map<String, Set<IFeatureModel>> fFeatures = new HashMap<>();
+
+	/*
+	 * Listeners may be notified while the notifying thread holds locks of the
+	 * model managers, so they only queue the changes, which are applied by the
+	 * next search.
+	 */
+	private final Queue<String> fChangedIds = new ConcurrentLinkedQueue<>();
+	private final Queue<IFeatureModel> fChangedFeatures = new ConcurrentLinkedQueue<>();
+
+	private PluginSearchIndex(PluginModelManager pluginManager, FeatureModelManager featureManager) {
+		fPluginManager = pluginManager;
+		fFeatureManager = featureManager;
+	}
+
+	/**
+	 * @return the index, listening to model changes from first access
+	 */
+	static synchronized PluginSearchIndex getDefault() {
+		if (fDefault == null) {
+			PDECore core = PDECore.getDefault();
+			fDefault = new PluginSearchIndex(core.getModelManager(), core.getFeatureModelManager());
+			fDefault.fPluginManager.addPluginModelListener(fDefault);
+			fDefault.fFeatureManager.addFeatureModelListener(fDefault);
+		}
+		return fDefault;
+	}
+
+	/**
+	 * @return whether searches may use the index to skip models
+	 */
+	static boolean isEnabled() {
+		return !"false".equals(System.getProperty(PROPERTY)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Stops listening to model changes and releases the index.
+	 */
+	public static synchronized void shutdown() {
+		if (fDefault != null) {
+			fDefault.fPluginManager.removePluginModelListener(fDefault);
+			fDefault.fFeatureManager.removeFeatureModelListener(fDefault);
+			fDefault = null;
+		}
+	}
+
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		queue(delta.getAddedEntries());
+		queue(delta.getRemovedEntries());
+		queue(delta.getChangedEntries());
+	}
+
+	private void queue(ModelEntry[] entries) {
+		for (ModelEntry entry : entries) {
+			fChangedIds.add(entry.getId());
+		}
+	}
+
+	@Override
+	public void modelsChanged(IFeatureModelDelta delta) {
+		fChangedFeatures.addAll(Arrays.asList(delta.getRemoved()));
+		fChangedFeatures.addAll(Arrays.asList(delta.getChanged()));
+	}
+
+	/**
+	 * Returns the given plug-ins that may match a search, in the given order.
+	 *
+	 * @param models the plug-ins in scope
+	 * @param element the searched element, see {@link PluginSearchInput}
+	 * @param limit the search limit, see {@link PluginSearchInput}
+	 * @param pattern the search pattern
+	 * @return the plug-ins that are not indexed or have a key matching the
+	 *         pattern
+	 */
+	synchronized IPluginModelBase[] filter(IPluginModelBase[] models, int element, int limit, Pattern pattern) {
+		update();
+		for (IPluginModelBase model : models) {
+			index(model);
+		}
+		Set<IPluginModelBase> matches = new HashSet<>();
+		switch (element) {
+			case PluginSearchInput.ELEMENT_PLUGIN :
+				if (limit != PluginSearchInput.LIMIT_REFERENCES) {
+					collect(fPlugins, pattern, matches);
+				}
+				if (limit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					collect(fReferences, pattern, matches);
+				}
+				break;
+			case PluginSearchInput.ELEMENT_FRAGMENT :
+				collect(fFragments, pattern, matches);
+				break;
+			case PluginSearchInput.ELEMENT_EXTENSION_POINT :
+				if (limit != PluginSearchInput.LIMIT_REFERENCES) {
+					collect(fExtensionPoints, pattern, matches);
+				}
+				if (limit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					collect(fExtensions, pattern, matches);
+				}
+				break;
+			default :
+				return models;
+		}
+		List<IPluginModelBase> result = new ArrayList<>();
+		for (IPluginModelBase model : models) {
+			if (!fKeys.containsKey(model) || matches.contains(model)) {
+				result.add(model);
+			}
+		}
+		return result.toArray(new IPluginModelBase[result.size()]);
+	}
+
+	/**
+	 * Returns the given features that may match a search, in the given order.
+	 *
+	 * @param models the features in scope
+	 * @param element the searched element, see {@link PluginSearchInput}
+	 * @param limit the search limit, see {@link PluginSearchInput}
+	 * @param pattern the search pattern
+	 * @return the features that are not indexed or include a plug-in matching
+	 *         the pattern
+	 */
+	synchronized IFeatureModel[] filter(IFeatureModel[] models, int element, int limit, Pattern pattern) {
+		if (element != PluginSearchInput.ELEMENT_PLUGIN || limit == PluginSearchInput.LIMIT_DECLARATIONS) {
+			// features only reference plug-ins
+			return new IFeatureModel[0];
+		}
+		update();
+		for (IFeatureModel model : models) {
+			index(model);
+		}
+		Set<IFeatureModel> matches = new HashSet<>();
+		collect(fFeatures, pattern, matches);
+		List<IFeatureModel> result = new ArrayList<>();
+		for (IFeatureModel model : models) {
+			if (!fFeatureKeys.containsKey(model) || matches.contains(model)) {
+				result.add(model);
+			}
+		}
+		return result.toArray(new IFeatureModel[result.size()]);
+	}
+
+	private static <T> void collect(Map<String, Set<T>> index, Pattern pattern, Set<T> matches) {
+		index.forEach((key, models) -> {
+			if (pattern.matcher(key).matches()) {
+				matches.addAll(models);
+			}
+		});
+	}
+
+	/**
+	 * Applies the queued changes, or drops the whole index if the state
+	 * changed.
+	 */
+	private void update() {
+		PDEState state = fPluginManager.getState();
+		if (state != fState) {
+			fState = state;
+			fKeys.clear();
+			fPlugins.clear();
+			fFragments.clear();
+			fReferences.clear();
+			fExtensionPoints.clear();
+			fExtensions.clear();
+			fFeatureKeys.clear();
+			fFeatures.clear();
+		}
+		String id;
+		while ((id = fChangedIds.poll()) != null) {
+			Set<IPluginModelBase> stale = new HashSet<>();
+			stale.addAll(fPlugins.getOrDefault(id, Set.of()));
+			stale.addAll(fFragments.getOrDefault(id, Set.of()));
+			// the extensions of a fragment depend on the resolution of its host
+			for (IPluginModelBase model : fReferences.getOrDefault(id, Set.of())) {
+				if (id.equals(fKeys.get(model).hostId())) {
+					stale.add(model);
+				}
+			}
+			stale.forEach(this::remove);
+		}
+		IFeatureModel feature;
+		while ((feature = fChangedFeatures.poll()) != null) {
+			String[] keys = fFeatureKeys.remove(feature);
+			if (keys != null) {
+				remove(fFeatures, keys, feature);
+			}
+		}
+	}
+
+	private void index(IPluginModelBase model) {
+		if (fKeys.containsKey(model) || model.getUnderlyingResource() != null) {
+			return;
+		}
+		BundleDescription description = model.getBundleDescription();
+		if (description == null || description.getSymbolicName() == null) {
+			return;
+		}
+		HostSpecification host = description.getHost();
+		PDEExtensionRegistry registry = PDECore.getDefault().getExtensionsRegistry();
+		Keys keys = new Keys(description.getSymbolicName(), host != null, host != null ? host.getName() : null,
+				Arrays.stream(description.getRequiredBundles()).map(BundleSpecification::getName).distinct()
+						.toArray(String[]::new),
+				registry.findExtensionPointIds(model), registry.findExtendedPointIds(model));
+		fKeys.put(model, keys);
+		add(keys.fragment() ? fFragments : fPlugins, new String[] { keys.id() }, model);
+		add(fReferences, new String[] { keys.hostId() }, model);
+		add(fReferences, keys.imports(), model);
+		add(fExtensionPoints, keys.extensionPoints(), model);
+		add(fExtensions, keys.extensions(), model);
+	}
+
+	private void remove(IPluginModelBase model) {
+		Keys keys = fKeys.remove(model);
+		if (keys != null) {
+			remove(keys.fragment() ? fFragments : fPlugins, new String[] { keys.id() }, model);
+			remove(fReferences, new String[] { keys.hostId() }, model);
+			remove(fReferences, keys.imports(), model);
+			remove(fExtensionPoints, keys.extensionPoints(), model);
+			remove(fExtensions, keys.extensions(), model);
+		}
+	}
+
+	private void index(IFeatureModel model) {
+		if (fFeatureKeys.containsKey(model) || model.getUnderlyingResource() != null || model.getFeature() == null) {
+			return;
+		}
+		String[] keys = Arrays.stream(model.getFeature().getPlugins()).map(IFeaturePlugin::getId).distinct()
+				.toArray(String[]::new);
+		fFeatureKeys.put(model, keys);
+		add(fFeatures, keys, model);
+	}
+
+	private static <T> void add(Map<String, Set<T>> index, String[] keys, T model) {
+		for (String key : keys) {
+			if (key != null) {
+				index.computeIfAbsent(key, k -> new HashSet<>()).add(model);
+			}
+		}
+	}
+
+	private static <T> void remove(Map<String, Set<T>> index, String[] keys, T model) {
+		for (String key : keys) {
+			Set<T> models = key != null ? index.get(key) : null;
+			if (models != null && models.remove(model) && models.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+}
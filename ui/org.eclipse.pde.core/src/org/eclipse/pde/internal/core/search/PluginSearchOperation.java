@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,14 @@ public class PluginSearchOperation {
 	public void execute(IProgressMonitor monitor) {
 		IPluginModelBase[] plugins = fInput.getSearchScope().getMatchingModels();
 		IFeatureModel[] features = fInput.getSearchScope().getMatchingFeatureModels();
+		if (PluginSearchIndex.isEnabled()) {
+			// only visit the models that declare or reference a matching id
+			PluginSearchIndex index = PluginSearchIndex.getDefault();
+			int element = fInput.getSearchElement();
+			int limit = fInput.getSearchLimit();
+			plugins = index.filter(plugins, element, limit, fPattern);
+			features = index.filter(features, element, limit, fPattern);
+		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, plugins.length + features.length);
 
 		for (IPluginModelBase candidate : plugins) {
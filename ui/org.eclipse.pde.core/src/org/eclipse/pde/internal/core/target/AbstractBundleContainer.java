@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -92,12 +92,23 @@ public abstract class AbstractBundleContainer extends PlatformObject implements
 
 		SubMonitor subMonitor = SubMonitor.convert(monitor, resolveBundlesWork + resolveFeaturesWork);
 		try {
+			String fingerprint = computeContentFingerprint();
+			if (fingerprint != null) {
+				TargetLocationResolutionCache.Result cached = TargetLocationResolutionCache.get(this, fingerprint);
+				if (cached != null) {
+					fBundles = cached.bundles().clone();
+					fFeatures = cached.features().clone();
+					return fResolutionStatus = Status.OK_STATUS;
+				}
+			}
 			fResolutionStatus = Status.OK_STATUS;
 			fBundles = resolveBundles(definition, subMonitor.split(resolveBundlesWork));
 			fFeatures = resolveFeatures(definition, subMonitor.split(resolveFeaturesWork));
 			if (subMonitor.isCanceled()) {
 				fBundles = null;
 				fResolutionStatus = Status.CANCEL_STATUS;
+			} else if (fingerprint != null && fBundles != null && fFeatures != null) {
+				TargetLocationResolutionCache.put(this, fingerprint, fBundles.clone(), fFeatures.clone());
 			}
 		} catch (CoreException e) {
 			fBundles = new TargetBundle[0];
@@ -113,6 +124,36 @@ public abstract class AbstractBundleContainer extends PlatformObject implements
 		return fResolutionStatus;
 	}
 
+	private String computeContentFingerprint() {
+		try {
+			return getContentFingerprint();
+		} catch (CoreException e) {
+			// resolve normally, the resolution reports the problem
+			return null;
+		}
+	}
+
+	/**
+	 * Returns a fingerprint of the content backing this container, used to
+	 * reuse the result of a previous resolution of an equal container if
+	 * nothing changed in between. Subclasses whose resolution result only
+	 * depends on their configuration and on local files may override this
+	 * method; it must be cheap compared to a full resolution. The fingerprint
+	 * is compared with <code>equals()</code>, so it must contain the complete
+	 * input, e.g. the names and stamps of all files, not a hash of it.
+	 * <p>
+	 * The default implementation returns <code>null</code>, meaning the
+	 * container is always fully resolved.
+	 * </p>
+	 *
+	 * @return content fingerprint or <code>null</code> if resolution results
+	 *         must not be reused
+	 * @throws CoreException if the backing content can't be determined
+	 */
+	protected String getContentFingerprint() throws CoreException {
+		return null;
+	}
+
   /**
    * Can be overridden in subclasses to redistribute the work between {@link #resolveBundles(ITargetDefinition, IProgressMonitor)}
    * and {@link #resolveFeatures(ITargetDefinition, IProgressMonitor)}.
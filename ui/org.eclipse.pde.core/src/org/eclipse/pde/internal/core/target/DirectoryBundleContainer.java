@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ package org.eclipse.pde.internal.core.target;
 import java.io.File;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.jar.JarFile;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -28,6 +29,7 @@ import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.core.target.TargetFeature;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.core.ICoreConstants;
 
 /**
  * A directory of bundles.
@@ -111,6 +113,50 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 		throw new CoreException(Status.error(NLS.bind(Messages.DirectoryBundleContainer_1, dir.toString())));
 	}
 
+	@Override
+	protected String getContentFingerprint() throws CoreException {
+		File dir = getDirectory();
+		if (!dir.isDirectory()) {
+			return null;
+		}
+		File site = getSite(dir);
+		File featureSite = getFeatureSite(dir);
+		StringBuilder fingerprint = new StringBuilder(site.getAbsolutePath()).append('\n');
+		appendContent(site, fingerprint);
+		if (!featureSite.equals(site)) {
+			fingerprint.append(featureSite.getAbsolutePath()).append('\n');
+			appendContent(featureSite, fingerprint);
+		}
+		return fingerprint.toString();
+	}
+
+	/**
+	 * Appends name, size and modification time of all children of the given
+	 * directory. For exploded bundles and features the manifest respectively
+	 * feature.xml is included, as editing them does not touch the directory.
+	 */
+	private static void appendContent(File directory, StringBuilder fingerprint) {
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		Arrays.sort(files);
+		for (File file : files) {
+			fingerprint.append(file.getName());
+			if (file.isDirectory()) {
+				appendStamp(new File(file, JarFile.MANIFEST_NAME), fingerprint);
+				appendStamp(new File(file, ICoreConstants.FEATURE_FILENAME_DESCRIPTOR), fingerprint);
+			} else {
+				appendStamp(file, fingerprint);
+			}
+			fingerprint.append('\n');
+		}
+	}
+
+	private static void appendStamp(File file, StringBuilder fingerprint) {
+		fingerprint.append('/').append(file.length()).append('/').append(file.lastModified());
+	}
+
 	/**
 	 * Returns the directory to search for bundles in.
 	 *
@@ -170,6 +216,7 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 	}
 
 	public void reload() {
+		TargetLocationResolutionCache.remove(this);
 		clearResolutionStatus();
 	}
 
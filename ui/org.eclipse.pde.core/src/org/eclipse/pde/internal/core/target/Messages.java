@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2023 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -60,6 +60,7 @@ public class Messages extends NLS {
 	public static String TargetDefinition_4;
 	public static String TargetDefinition_5;
 	public static String TargetDefinition_RequiredFeatureCouldNotBeFound;
+	public static String TargetDefinition_LocationResolutionFailed;
 	public static String TargetDefinitionPersistenceHelper_0;
 	public static String TargetDefinitionPersistenceHelper_1;
 	public static String TargetDefinitionPersistenceHelper_2;
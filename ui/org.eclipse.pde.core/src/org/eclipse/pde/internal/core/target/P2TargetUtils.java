@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2024 EclipseSource Inc. and others.
+ * Copyright (c) 2010, 2026 EclipseSource Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,14 +27,21 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
@@ -73,16 +80,19 @@ import org.eclipse.equinox.p2.metadata.IArtifactKey;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.equinox.p2.metadata.IProvidedCapability;
 import org.eclipse.equinox.p2.metadata.IRequirement;
+import org.eclipse.equinox.p2.metadata.IVersionedId;
 import org.eclipse.equinox.p2.metadata.MetadataFactory;
 import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
 import org.eclipse.equinox.p2.metadata.Version;
 import org.eclipse.equinox.p2.metadata.VersionRange;
+import org.eclipse.equinox.p2.metadata.VersionedId;
 import org.eclipse.equinox.p2.planner.IPlanner;
 import org.eclipse.equinox.p2.planner.IProfileChangeRequest;
 import org.eclipse.equinox.p2.query.IQuery;
 import org.eclipse.equinox.p2.query.IQueryResult;
 import org.eclipse.equinox.p2.query.IQueryable;
 import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.equinox.p2.repository.ICompositeRepository;
 import org.eclipse.equinox.p2.repository.IRepository;
 import org.eclipse.equinox.p2.repository.IRepositoryManager;
 import org.eclipse.equinox.p2.repository.IRepositoryReference;
@@ -101,6 +111,7 @@ import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.target.IUBundleContainer.UnitDeclaration;
 import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.eclipse.pde.internal.core.util.FutureUtil;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceReference;
@@ -1024,95 +1035,251 @@ public class P2TargetUtils {
 	static IQueryable<IInstallableUnit> getQueryableMetadata(Collection<URI> repos, boolean followRepositoryReferences,
 			boolean forceReload,
 			IProgressMonitor monitor) throws CoreException {
+		List<IMetadataRepository> repositories = loadMetadataRepositories(repos, followRepositoryReferences,
+				forceReload, monitor);
+		if (repositories.size() == 1) {
+			return repositories.get(0);
+		}
+		return QueryUtil.compoundQueryable(repositories);
+	}
+
+	/**
+	 * Loads the metadata repositories at the given locations and, if
+	 * requested, the repositories they (transitively) reference. The
+	 * repositories are loaded concurrently, but returned in the order of a
+	 * sequential depth first traversal: the given repositories first, followed
+	 * by their references. Every repository is contained only once.
+	 *
+	 * @param repos
+	 *            the repos to load, if empty all known repositories are loaded
+	 * @param followRepositoryReferences
+	 *            whether to follow repository references
+	 * @param forceReload
+	 *            forces reloading of repositories
+	 * @param monitor
+	 *            the progress monitor
+	 * @return the loaded repositories
+	 * @throws CoreException
+	 *             if one of the given repositories cannot be loaded
+	 */
+	public static List<IMetadataRepository> loadMetadataRepositories(Collection<URI> repos,
+			boolean followRepositoryReferences, boolean forceReload, IProgressMonitor monitor) throws CoreException {
 		IMetadataRepositoryManager metadataRepositoryManager = getRepoManager();
 		Collection<URI> existing = new LinkedHashSet<>(
 				Arrays.asList(metadataRepositoryManager.getKnownRepositories(IRepositoryManager.REPOSITORIES_ALL)));
 		if (repos.isEmpty()) {
 			repos = existing;
 		}
-		int work = repos.size() * (forceReload ? 4 : 2);
-		SubMonitor subMonitor = SubMonitor.convert(monitor, work);
-		Set<IRepositoryReference> seen = new HashSet<>();
-		List<IMetadataRepository> result = new ArrayList<>(repos.size());
-		List<IMetadataRepository> additional = new ArrayList<>();
+		SubMonitor subMonitor = SubMonitor.convert(monitor, repos.size() * (forceReload ? 2 : 1) + 1);
 		MultiStatus repoStatus = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.IUBundleContainer_ProblemsLoadingRepositories);
-		for (URI location : repos) {
-			try {
-				IMetadataRepository repository = metadataRepositoryManager.loadRepository(location, subMonitor.split(1));
-				result.add(repository);
-				if (followRepositoryReferences) {
-					addReferences(repository, additional, seen, metadataRepositoryManager, subMonitor.split(1));
+		// the workers only observe cancellation, progress is reported per
+		// completed repository from the calling thread
+		NullProgressMonitor workerMonitor = new NullProgressMonitor();
+		ExecutorService executor = Executors.newFixedThreadPool(getRepositoryLoadParallelism());
+		try {
+			MetadataRepositoryLoader loader = new MetadataRepositoryLoader(metadataRepositoryManager,
+					followRepositoryReferences, executor, workerMonitor);
+			List<Future<IMetadataRepository>> loading = new ArrayList<>(repos.size());
+			for (URI location : repos) {
+				loading.add(loader.load(location));
+			}
+			List<IMetadataRepository> result = new ArrayList<>(repos.size());
+			for (Future<IMetadataRepository> future : loading) {
+				try {
+					result.add(await(future, workerMonitor, subMonitor));
+				} catch (ProvisionException e) {
+					repoStatus.add(e.getStatus());
 				}
-			} catch (ProvisionException e) {
-				repoStatus.add(e.getStatus());
+				subMonitor.split(1);
+			}
+			if (result.size() != repos.size()) {
+				throw new CoreException(repoStatus);
+			}
+			if (followRepositoryReferences) {
+				loader.awaitReferences(subMonitor);
+				// collect in the order of a sequential depth first traversal,
+				// independent of the order in which the loads completed
+				Set<IRepositoryReference> seen = new HashSet<>();
+				List<IMetadataRepository> additional = new ArrayList<>();
+				for (IMetadataRepository repository : result) {
+					loader.addReferences(repository, additional, seen);
+				}
+				result.addAll(additional);
 			}
+			subMonitor.split(1);
+			List<IMetadataRepository> unique = new ArrayList<>(new LinkedHashSet<>(result));
+			if (forceReload) {
+				unique = refreshRepositories(unique, existing, executor, workerMonitor, subMonitor);
+			}
+			return unique;
+		} finally {
+			executor.shutdownNow();
 		}
-		if (result.size() != repos.size()) {
-			throw new CoreException(repoStatus);
-		}
-		result.addAll(additional);
-		if (result.isEmpty()) {
-			return QueryUtil.compoundQueryable(List.of());
-		}
-		Collection<IMetadataRepository> unique = new LinkedHashSet<>(result);
-		if (forceReload) {
-			List<IMetadataRepository> refreshed = new ArrayList<>();
-			subMonitor.setWorkRemaining(2 * unique.size());
-			IArtifactRepositoryManager artifactRepositoryManager = getArtifactRepositoryManager();
-			metadataRepositoryManager = getRepoManager();
-			Collection<URI> existingArtifactRepositories = new LinkedHashSet<>(
-					Arrays.asList(artifactRepositoryManager.getKnownRepositories(IRepositoryManager.REPOSITORIES_ALL)));
-			for (IMetadataRepository metadataRepository : unique) {
-				URI location = metadataRepository.getLocation();
-				if (existing.contains(location)) {
+	}
+
+	/**
+	 * Refreshes the given repositories concurrently if they were already known
+	 * to the repository managers, repositories that were just loaded are used
+	 * as they are. The order of the repositories is preserved.
+	 */
+	private static List<IMetadataRepository> refreshRepositories(Collection<IMetadataRepository> repositories,
+			Collection<URI> existing, ExecutorService executor, IProgressMonitor workerMonitor,
+			SubMonitor subMonitor) throws CoreException {
+		subMonitor.setWorkRemaining(repositories.size());
+		IArtifactRepositoryManager artifactRepositoryManager = getArtifactRepositoryManager();
+		IMetadataRepositoryManager metadataRepositoryManager = getRepoManager();
+		Collection<URI> existingArtifactRepositories = new LinkedHashSet<>(
+				Arrays.asList(artifactRepositoryManager.getKnownRepositories(IRepositoryManager.REPOSITORIES_ALL)));
+		List<Future<IMetadataRepository>> refreshing = new ArrayList<>(repositories.size());
+		for (IMetadataRepository metadataRepository : repositories) {
+			URI location = metadataRepository.getLocation();
+			if (!existing.contains(location)) {
+				// the repo was just loaded as part of this call so it has
+				// to be (almost) fresh
+				refreshing.add(CompletableFuture.completedFuture(metadataRepository));
+				continue;
+			}
+			refreshing.add(executor.submit(() -> {
+				IMetadataRepository refreshed;
+				try {
+					refreshed = metadataRepositoryManager.refreshRepository(location, workerMonitor);
+				} catch (ProvisionException e) {
+					ILog.get().warn(NLS.bind(Messages.P2TargetUtils_cant_refresh_metadata, location), e);
+					// if refresh do not work, use the previously loaded
+					// repository
+					refreshed = metadataRepository;
+				}
+				if (existingArtifactRepositories.contains(location)) {
 					try {
-						refreshed.add(metadataRepositoryManager.refreshRepository(location, subMonitor.split(1)));
+						artifactRepositoryManager.refreshRepository(location, workerMonitor);
 					} catch (ProvisionException e) {
-						ILog.get().warn(NLS.bind(Messages.P2TargetUtils_cant_refresh_metadata, location), e);
-						// if refresh do not work, use the previously loaded
-						// repository
-						refreshed.add(metadataRepository);
+						// we tried our best...
+						ILog.get().warn(NLS.bind(Messages.P2TargetUtils_cant_refresh_artifacts, location), e);
 					}
-					if (existingArtifactRepositories.contains(location)) {
-						try {
-							artifactRepositoryManager.refreshRepository(location, subMonitor.split(1));
-						} catch (ProvisionException e) {
-							// we tried our best...
-							ILog.get().warn(NLS.bind(Messages.P2TargetUtils_cant_refresh_artifacts, location), e);
+				}
+				return refreshed;
+			}));
+		}
+		List<IMetadataRepository> result = new ArrayList<>(repositories.size());
+		for (Future<IMetadataRepository> future : refreshing) {
+			try {
+				result.add(await(future, workerMonitor, subMonitor));
+			} catch (ProvisionException e) {
+				// not thrown by the refresh task
+				throw new CoreException(e.getStatus());
+			}
+			subMonitor.split(1);
+		}
+		return result;
+	}
+
+	/**
+	 * Loads metadata repositories and, if requested, the metadata repositories
+	 * they reference concurrently. Every enabled reference is loaded only once,
+	 * no matter how many repositories refer to it.
+	 */
+	private static final class MetadataRepositoryLoader {
+
+		private final IMetadataRepositoryManager manager;
+		private final boolean followReferences;
+		private final ExecutorService executor;
+		private final IProgressMonitor workerMonitor;
+		private final Map<IRepositoryReference, Future<IMetadataRepository>> references = new ConcurrentHashMap<>();
+
+		MetadataRepositoryLoader(IMetadataRepositoryManager manager, boolean followReferences,
+				ExecutorService executor, IProgressMonitor workerMonitor) {
+			this.manager = manager;
+			this.followReferences = followReferences;
+			this.executor = executor;
+			this.workerMonitor = workerMonitor;
+		}
+
+		Future<IMetadataRepository> load(URI location) {
+			return executor.submit(() -> {
+				IMetadataRepository repository = manager.loadRepository(location, workerMonitor);
+				if (followReferences) {
+					// start loading the references before this task completes,
+					// so awaitReferences() sees them
+					for (IRepositoryReference reference : repository.getReferences()) {
+						if (isMetadataReference(reference)) {
+							references.computeIfAbsent(reference, r -> load(r.getLocation()));
 						}
 					}
-				} else {
-					// the repo was just loaded as part of this call so it has
-					// to be (almost) fresh
-					refreshed.add(metadataRepository);
+				}
+				return repository;
+			});
+		}
+
+		/**
+		 * Waits until all (transitively) referenced repositories are loaded or
+		 * failed to load.
+		 */
+		void awaitReferences(IProgressMonitor monitor) {
+			int size;
+			do {
+				size = references.size();
+				for (Future<IMetadataRepository> future : List.copyOf(references.values())) {
+					try {
+						await(future, workerMonitor, monitor);
+					} catch (ProvisionException e) {
+						// reported by addReferences()
+					}
+				}
+			} while (references.size() != size);
+		}
+
+		void addReferences(IMetadataRepository repository, List<IMetadataRepository> result,
+				Set<IRepositoryReference> seen) {
+			for (IRepositoryReference reference : repository.getReferences()) {
+				if (isMetadataReference(reference) && seen.add(reference)) {
+					try {
+						IMetadataRepository referencedRepository = await(references.get(reference), workerMonitor,
+								new NullProgressMonitor());
+						result.add(referencedRepository);
+						addReferences(referencedRepository, result, seen);
+					} catch (ProvisionException e) {
+						//if reference can't be loaded just ignore it here but log the error just in case the user wants to act on this
+						PDECore.log(e);
+					}
 				}
 			}
-			unique = refreshed;
 		}
-		if (unique.size() == 1) {
-			return unique.iterator().next();
+
+		private static boolean isMetadataReference(IRepositoryReference reference) {
+			return reference.getType() == IRepository.TYPE_METADATA && reference.isEnabled();
 		}
-		return QueryUtil.compoundQueryable(unique);
 	}
 
-	private static void addReferences(IMetadataRepository repository, List<IMetadataRepository> result,
-			Set<IRepositoryReference> seen, IMetadataRepositoryManager manager, IProgressMonitor monitor) {
-		Collection<IRepositoryReference> references = repository.getReferences();
-		SubMonitor subMonitor = SubMonitor.convert(monitor, references.size() * 2);
-		for (IRepositoryReference reference : references) {
-			if (reference.getType() == IRepository.TYPE_METADATA && reference.isEnabled() && seen.add(reference)) {
-				try {
-					IMetadataRepository referencedRepository = manager.loadRepository(reference.getLocation(),
-							subMonitor.split(1));
-					result.add(referencedRepository);
-					addReferences(referencedRepository, result, seen, manager, subMonitor.split(1));
-				} catch (ProvisionException e) {
-					//if reference can't be loaded just ignore it here but log the error just in case the user wants to act on this
-					PDECore.log(e);
-				}
+	/**
+	 * Waits for the result of a repository task, cancelling all tasks if the
+	 * given monitor is cancelled.
+	 */
+	private static IMetadataRepository await(Future<IMetadataRepository> future, IProgressMonitor workerMonitor,
+			IProgressMonitor monitor) throws ProvisionException {
+		try {
+			return FutureUtil.await(future, monitor, workerMonitor);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof ProvisionException provisionException) {
+				throw provisionException;
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
 			}
+			throw new ProvisionException(Status.error(String.valueOf(cause.getMessage()), cause));
 		}
+	}
 
+	/**
+	 * Maximum number of metadata repositories that are loaded or refreshed at
+	 * the same time, configurable with the
+	 * <code>pde.target.repositoryLoadThreads</code> system property. Loading
+	 * is mostly waiting for (remote) I/O, so the default does not depend on
+	 * the number of processors. A value of 1 loads all repositories
+	 * sequentially.
+	 */
+	private static int getRepositoryLoadParallelism() {
+		return Math.max(1, Integer.getInteger("pde.target.repositoryLoadThreads", 8)); //$NON-NLS-1$
 	}
 
 	/**
@@ -1125,7 +1292,7 @@ public class P2TargetUtils {
 	 */
 	private void resolveWithPlanner(ITargetDefinition target, IProfile profile, IProgressMonitor monitor)
 			throws CoreException {
-		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.IUBundleContainer_0, 220);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.IUBundleContainer_0, 240);
 
 		// Get the root IUs for every relevant container in the target definition
 		Map<IInstallableUnit, String> units = getRootIUs(target, subMonitor.split(20));
@@ -1145,6 +1312,14 @@ public class P2TargetUtils {
 		List<IArtifactRepository> extraArtifactRepositories = new ArrayList<>();
 		List<IMetadataRepository> extraMetadataRepositories = new ArrayList<>();
 		addAdditionalProvisionIUs(target, extraArtifactRepositories, extraMetadataRepositories);
+		// the content of non-p2 locations is not covered by the resolution key
+		String resolutionKey = extraMetadataRepositories.isEmpty()
+				? getResolutionKey(target, units, TargetDefinitionPersistenceHelper.MODE_PLANNER)
+				: null;
+		if (installCachedResolution(resolutionKey, target, profile, units, TargetDefinitionPersistenceHelper.MODE_PLANNER,
+				subMonitor.split(20))) {
+			return;
+		}
 		ProvisioningContext context = new ProvisioningContext(getAgent()) {
 			@Override
 			public IQueryable<IArtifactRepository> getArtifactRepositories(IProgressMonitor monitor) {
@@ -1198,6 +1373,9 @@ public class P2TargetUtils {
 			}
 			throw e;
 		}
+		if (!subMonitor.isCanceled()) {
+			recordResolution(resolutionKey, profile);
+		}
 	}
 
 	private void setProperties(BiConsumer<String, String> setter, ITargetDefinition target, String mode) {
@@ -1356,7 +1534,7 @@ public class P2TargetUtils {
 	 */
 	private void resolveWithSlicer(ITargetDefinition target, IProfile profile, IProgressMonitor monitor)
 			throws CoreException {
-		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.IUBundleContainer_0, 110);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.IUBundleContainer_0, 170);
 
 		// resolve IUs
 		Map<IInstallableUnit, String> units = getRootIUs(target, subMonitor.split(40));
@@ -1365,6 +1543,11 @@ public class P2TargetUtils {
 		if (repositories.isEmpty()) {
 			return;
 		}
+		String resolutionKey = getResolutionKey(target, units, TargetDefinitionPersistenceHelper.MODE_SLICER);
+		if (installCachedResolution(resolutionKey, target, profile, units, TargetDefinitionPersistenceHelper.MODE_SLICER,
+				subMonitor.split(60))) {
+			return;
+		}
 		IQueryable<IInstallableUnit> allMetadata = getQueryableMetadata(repositories, isFollowRepositoryReferences(),
 				subMonitor.split(5));
 
@@ -1421,6 +1604,159 @@ public class P2TargetUtils {
 		if (result.getSeverity() == IStatus.ERROR || result.getSeverity() == IStatus.CANCEL) {
 			throw new CoreException(result);
 		}
+		recordResolution(resolutionKey, profile);
+	}
+
+	/**
+	 * Returns the key of a resolution in the {@link TargetResolutionCache}. It
+	 * describes everything the result of the planner or slicer depends on:
+	 * the provisioning mode and settings, the environment, the root units and
+	 * the (transitively referenced) metadata repositories with their time
+	 * stamps.
+	 *
+	 * @return the key or <code>null</code> if the resolution must not be
+	 *         cached, e.g. because a repository has no time stamp
+	 */
+	private String getResolutionKey(ITargetDefinition target, Map<IInstallableUnit, String> units, String mode)
+			throws CoreException {
+		if (TargetResolutionCache.getDefault() == null) {
+			return null;
+		}
+		StringBuilder key = new StringBuilder();
+		key.append("mode=").append(mode).append('\n'); //$NON-NLS-1$
+		key.append("allEnvironments=").append(getIncludeAllEnvironments()).append('\n'); //$NON-NLS-1$
+		key.append("includeSource=").append(getIncludeSource()).append('\n'); //$NON-NLS-1$
+		key.append("includeConfigure=").append(getIncludeConfigurePhase()).append('\n'); //$NON-NLS-1$
+		key.append("followReferences=").append(isFollowRepositoryReferences()).append('\n'); //$NON-NLS-1$
+		key.append("environments=").append(generateEnvironmentProperties(target)).append('\n'); //$NON-NLS-1$
+		key.append("nl=").append(generateNLProperty(target)).append('\n'); //$NON-NLS-1$
+		units.entrySet().stream()
+				.map(e -> "root=" + e.getKey().getId() + '/' + e.getKey().getVersion() + '/' + e.getValue()) //$NON-NLS-1$
+				.sorted().forEach(root -> key.append(root).append('\n'));
+		List<URI> repositories = new ArrayList<>(getMetadataRepositories(target));
+		if (repositories.isEmpty()) {
+			return null;
+		}
+		repositories.sort(Comparator.comparing(URI::toString));
+		Set<URI> seen = new HashSet<>();
+		for (URI location : repositories) {
+			if (!appendRepositoryStamps(key, location, seen)) {
+				return null;
+			}
+		}
+		return key.toString();
+	}
+
+	private boolean appendRepositoryStamps(StringBuilder key, URI location, Set<URI> seen) throws CoreException {
+		if (!seen.add(location)) {
+			return true;
+		}
+		IMetadataRepository repository;
+		try {
+			// already loaded while computing the root units
+			repository = getRepoManager().loadRepository(location, null);
+		} catch (ProvisionException e) {
+			return false;
+		}
+		String timestamp = repository.getProperty(IRepository.PROP_TIMESTAMP);
+		if (timestamp == null) {
+			return false;
+		}
+		key.append("repository=").append(location).append('@').append(timestamp).append('\n'); //$NON-NLS-1$
+		if (repository instanceof ICompositeRepository<?> composite) {
+			for (URI child : composite.getChildren()) {
+				if (!appendRepositoryStamps(key, child, seen)) {
+					return false;
+				}
+			}
+		}
+		if (isFollowRepositoryReferences()) {
+			for (IRepositoryReference reference : repository.getReferences()) {
+				if (reference.getType() == IRepository.TYPE_METADATA && reference.isEnabled()
+						&& !appendRepositoryStamps(key, reference.getLocation(), seen)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Installs the units of a cached resolution into the given (new) profile
+	 * without running the planner or slicer. Artifacts already in the bundle
+	 * pool are not downloaded again.
+	 *
+	 * @return <code>true</code> if the cached resolution was installed,
+	 *         <code>false</code> if there is none or one of its units is no
+	 *         longer available
+	 */
+	private boolean installCachedResolution(String key, ITargetDefinition target, IProfile profile,
+			Map<IInstallableUnit, String> units, String mode, IProgressMonitor monitor) throws CoreException {
+		TargetResolutionCache.Resolution resolution = key != null ? TargetResolutionCache.getDefault().get(key) : null;
+		if (resolution == null) {
+			return false;
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
+		Collection<URI> repositories = getMetadataRepositories(target);
+		IQueryable<IInstallableUnit> allMetadata = getQueryableMetadata(repositories, isFollowRepositoryReferences(),
+				subMonitor.split(10));
+		List<IInstallableUnit> installUnits = new ArrayList<>(resolution.units().size() + 1);
+		for (IVersionedId id : resolution.units()) {
+			Optional<IInstallableUnit> unit = queryFirst(allMetadata, QueryUtil.createIUQuery(id), null);
+			if (unit.isEmpty()) {
+				return false;
+			}
+			installUnits.add(unit.get());
+		}
+		if (resolution.source()) {
+			List<IInstallableUnit> resolved = List.copyOf(installUnits);
+			installUnits.add(createSourceIU((query, ignore) -> query.perform(resolved.iterator()),
+					Version.createOSGi(1, 0, 0)));
+		}
+
+		IEngine engine = getEngine();
+		ProvisioningContext context = new ProvisioningContext(getAgent());
+		context.setMetadataRepositories(repositories.toArray(URI[]::new));
+		context.setArtifactRepositories(getArtifactRepositories(target).toArray(URI[]::new));
+		context.setProperty(ProvisioningContext.FOLLOW_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
+		context.setProperty(ProvisioningContext.FOLLOW_ARTIFACT_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
+		IProvisioningPlan plan = engine.createPlan(profile, context);
+		setProperties(plan::setProfileProperty, target, mode);
+		installUnits.forEach(plan::addInstallableUnit);
+		units.forEach((unit, versionDeclarations) -> {
+			plan.setInstallableUnitProfileProperty(unit, PROP_INSTALLED_IU, Boolean.toString(true));
+			plan.setInstallableUnitProfileProperty(unit, PROP_IU_VERSION_DECLARATION, versionDeclarations);
+		});
+		IStatus result = engine.perform(plan, createPhaseSet(), subMonitor.split(90));
+		if (result.getSeverity() == IStatus.ERROR || result.getSeverity() == IStatus.CANCEL) {
+			throw new CoreException(result);
+		}
+		return true;
+	}
+
+	/**
+	 * Stores the units of the resolved profile in the
+	 * {@link TargetResolutionCache}.
+	 */
+	private void recordResolution(String key, IProfile profile) throws CoreException {
+		if (key == null) {
+			return;
+		}
+		IProfile resolved = getProfileRegistry().getProfile(profile.getProfileId());
+		if (resolved == null) {
+			return;
+		}
+		List<IVersionedId> units = new ArrayList<>();
+		boolean source = false;
+		for (IInstallableUnit unit : resolved.query(QueryUtil.ALL_UNITS, null)) {
+			if (SOURCE_IU_ID.equals(unit.getId())) {
+				// generated, recreated from the other units
+				source = true;
+			} else {
+				units.add(new VersionedId(unit.getId(), unit.getVersion()));
+			}
+		}
+		TargetResolutionCache.getDefault().put(key, new TargetResolutionCache.Resolution(units, source));
 	}
 
 	/**
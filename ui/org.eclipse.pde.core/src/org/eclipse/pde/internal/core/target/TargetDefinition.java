@@ -32,6 +32,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -43,6 +47,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -63,6 +68,7 @@ import org.eclipse.pde.internal.core.ExternalFeatureModelManager;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.core.util.FutureUtil;
 import org.w3c.dom.DOMException;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -370,21 +376,19 @@ public class TargetDefinition implements ITargetDefinition {
 			// clear all previous maps
 			P2TargetUtils.fgTargetArtifactRepo.clear();
 			P2TargetUtils.fgArtifactKeyRepoFile.clear();
+			List<ITargetLocation> plainLocations = new ArrayList<>();
 			for (ITargetLocation location : targetLocations) {
-				subMonitor.checkCanceled();
-				subMonitor.subTask(Messages.TargetDefinition_4);
 				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
 				if (synchronizer == null) {
 					// a usual target definition location
-					IStatus s = location.resolve(this, subMonitor.split(100));
-					if (!s.isOK()) {
-						status.add(s);
-					}
+					plainLocations.add(location);
 				} else {
 					// has to be performed later on in a separate batch
 					synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
 				}
 			}
+			subMonitor.subTask(Messages.TargetDefinition_4);
+			resolveLocations(plainLocations, status, subMonitor);
 			if (!synchronizers.isEmpty()) {
 				List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
 						.toList();
@@ -421,6 +425,79 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 	}
 
+	/**
+	 * Resolves the given independent (non-p2) locations. If more than one
+	 * location is given they are resolved concurrently, limited by
+	 * {@link #getResolveParallelism()}. Problems are added to the given status
+	 * in the order of the locations, regardless of the order of completion.
+	 * <p>
+	 * Target references are always resolved on the calling thread, one after
+	 * the other: the p2 locations of the referenced targets share the static
+	 * maps of {@link P2TargetUtils}, which each resolution clears.
+	 * </p>
+	 */
+	private void resolveLocations(List<ITargetLocation> locations, MultiStatus status, SubMonitor subMonitor) {
+		int parallelism = Math.min(getResolveParallelism(), locations.size());
+		if (parallelism <= 1) {
+			for (ITargetLocation location : locations) {
+				subMonitor.checkCanceled();
+				IStatus s = location.resolve(this, subMonitor.split(100));
+				if (!s.isOK()) {
+					status.add(s);
+				}
+			}
+			return;
+		}
+		// the workers only observe cancellation, progress is reported per
+		// completed location from the calling thread
+		NullProgressMonitor workerMonitor = new NullProgressMonitor();
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		try {
+			List<Future<IStatus>> results = new ArrayList<>(locations.size());
+			for (ITargetLocation location : locations) {
+				results.add(location instanceof TargetReferenceBundleContainer ? null
+						: executor.submit(() -> location.resolve(this, workerMonitor)));
+			}
+			for (int i = 0; i < locations.size(); i++) {
+				ITargetLocation location = locations.get(i);
+				Future<IStatus> result = results.get(i);
+				IStatus s;
+				if (result == null) {
+					subMonitor.checkCanceled();
+					s = location.resolve(this, subMonitor.split(100));
+				} else {
+					s = awaitResolution(location, result, workerMonitor, subMonitor);
+					subMonitor.split(100);
+				}
+				if (!s.isOK()) {
+					status.add(s);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static IStatus awaitResolution(ITargetLocation location, Future<IStatus> result,
+			IProgressMonitor workerMonitor, SubMonitor subMonitor) {
+		try {
+			return FutureUtil.await(result, subMonitor, workerMonitor);
+		} catch (ExecutionException e) {
+			return Status.error(NLS.bind(Messages.TargetDefinition_LocationResolutionFailed, location.getType()),
+					e.getCause());
+		}
+	}
+
+	/**
+	 * Maximum number of non-p2 locations that are resolved at the same time,
+	 * configurable with the <code>pde.target.resolveThreads</code> system
+	 * property. A value of 1 resolves all locations sequentially.
+	 */
+	private static int getResolveParallelism() {
+		int defaultValue = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+		return Math.max(1, Integer.getInteger("pde.target.resolveThreads", defaultValue)); //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.core.target.TargetFeature;
+
+/**
+ * Remembers the result of previous resolutions of target locations, so that a
+ * location whose configuration and backing content did not change does not
+ * have to be resolved again when its target is re-resolved.
+ * <p>
+ * Entries are keyed by the location itself (locations implement
+ * <code>equals()</code> based on their persisted configuration) and are only
+ * reused if the content fingerprint reported by
+ * {@link AbstractBundleContainer#getContentFingerprint()} is equal to the one
+ * stored with the result.
+ * </p>
+ * <p>
+ * Only directory locations provide a fingerprint. Software site locations are
+ * already reused through the profile synchronized by {@link P2TargetUtils}.
+ * Feature locations depend on the environment of the target, installation
+ * locations on the configuration of the installation and target reference
+ * locations on other targets, so they are always resolved.
+ * </p>
+ */
+final class TargetLocationResolutionCache {
+
+	private static final int MAX_ENTRIES = 64;
+
+	record Result(String fingerprint, TargetBundle[] bundles, TargetFeature[] features) {
+	}
+
+	private static final Map<AbstractBundleContainer, Result> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<AbstractBundleContainer, Result> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private TargetLocationResolutionCache() {
+	}
+
+	/**
+	 * Returns the previous resolution result of the given location if it was
+	 * computed for the same content fingerprint, <code>null</code> otherwise.
+	 */
+	static Result get(AbstractBundleContainer location, String fingerprint) {
+		synchronized (CACHE) {
+			Result result = CACHE.get(location);
+			if (result != null && result.fingerprint().equals(fingerprint)) {
+				return result;
+			}
+			return null;
+		}
+	}
+
+	static void put(AbstractBundleContainer location, String fingerprint, TargetBundle[] bundles,
+			TargetFeature[] features) {
+		synchronized (CACHE) {
+			CACHE.put(location, new Result(fingerprint, bundles, features));
+		}
+	}
+
+	/**
+	 * Forgets the cached result of the given location, forcing a full
+	 * resolution the next time it is resolved.
+	 */
+	static void remove(AbstractBundleContainer location) {
+		synchronized (CACHE) {
+			CACHE.remove(location);
+		}
+	}
+
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import static org.eclipse.pde.internal.core.util.DataStreamUtil.readCount;
+import static org.eclipse.pde.internal.core.util.DataStreamUtil.readString;
+import static org.eclipse.pde.internal.core.util.DataStreamUtil.writeString;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Persistent cache of the installable units a target resolution (planner or
+ * slicer) produced. Resolutions are stored content addressed: the file name
+ * is the digest of a key describing everything the result depends on (root
+ * units, repositories and their time stamps, environment and include
+ * settings). The cache is shared by all workspaces of the user, so an
+ * identical target does not have to be planned again in another workspace or
+ * after its profile was garbage collected.
+ * <p>
+ * The location can be changed with the <code>pde.target.resolutionCache</code>
+ * system property, an empty value disables the cache.
+ * </p>
+ */
+public final class TargetResolutionCache {
+
+	/** Increment whenever the file layout changes */
+	private static final int FORMAT_VERSION = 2;
+
+	/** Maximum number of resolutions kept, least recently used ones are removed first */
+	private static final int MAX_ENTRIES = 256;
+
+	private static final String SUFFIX = ".resolution"; //$NON-NLS-1$
+
+	/**
+	 * The units of a resolution.
+	 *
+	 * @param units all units except the generated source unit
+	 * @param source whether the generated source unit was part of the
+	 *            resolution
+	 */
+	public record Resolution(List<IVersionedId> units, boolean source) {
+	}
+
+	private static TargetResolutionCache fDefault;
+
+	private final Path fDirectory;
+
+	private TargetResolutionCache(Path directory) {
+		fDirectory = directory;
+	}
+
+	/**
+	 * @return the cache in the configured location or <code>null</code> if
+	 *         the cache is disabled
+	 */
+	public static synchronized TargetResolutionCache getDefault() {
+		String location = System.getProperty("pde.target.resolutionCache", //$NON-NLS-1$
+				Path.of(System.getProperty("user.home"), ".eclipse", PDECore.PLUGIN_ID, "resolutions").toString()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		if (location.isBlank()) {
+			return null;
+		}
+		Path directory = Path.of(location);
+		if (fDefault == null || !fDefault.fDirectory.equals(directory)) {
+			fDefault = new TargetResolutionCache(directory);
+		}
+		return fDefault;
+	}
+
+	/**
+	 * Returns the resolution stored for the given key.
+	 *
+	 * @param key the complete description of the resolution input
+	 * @return the stored resolution or <code>null</code> if none is stored
+	 */
+	public Resolution get(String key) {
+		Path file = getFile(key);
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION || !key.equals(readString(in))) {
+				return null;
+			}
+			boolean source = in.readBoolean();
+			int size = readCount(in);
+			List<IVersionedId> units = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				units.add(new VersionedId(readString(in), Version.create(readString(in))));
+			}
+			// keep recently used resolutions when pruning
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+			return new Resolution(units, source);
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException | RuntimeException e) {
+			// corrupt or truncated, resolve again
+			return null;
+		}
+	}
+
+	/**
+	 * Stores a resolution for the given key, replacing any existing one.
+	 *
+	 * @param key the complete description of the resolution input
+	 * @param resolution the units to store
+	 */
+	public void put(String key, Resolution resolution) {
+		Path file = getFile(key);
+		Path tmp = null;
+		try {
+			Files.createDirectories(fDirectory);
+			tmp = Files.createTempFile(fDirectory, null, ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				out.writeInt(FORMAT_VERSION);
+				writeString(out, key);
+				out.writeBoolean(resolution.source());
+				out.writeInt(resolution.units().size());
+				for (IVersionedId unit : resolution.units()) {
+					writeString(out, unit.getId());
+					writeString(out, unit.getVersion().toString());
+				}
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+			prune();
+		} catch (IOException e) {
+			PDECore.log(e);
+			if (tmp != null) {
+				try {
+					Files.deleteIfExists(tmp);
+				} catch (IOException e1) {
+					// nothing more to do
+				}
+			}
+		}
+	}
+
+	private void prune() throws IOException {
+		List<Path> files;
+		try (Stream<Path> stream = Files.list(fDirectory)) {
+			files = stream.filter(f -> f.getFileName().toString().endsWith(SUFFIX)).toList();
+		}
+		if (files.size() <= MAX_ENTRIES) {
+			return;
+		}
+		List<Path> oldest = files.stream().sorted(Comparator.comparingLong(TargetResolutionCache::lastModified))
+				.limit(files.size() - MAX_ENTRIES).toList();
+		for (Path file : oldest) {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static long lastModified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file).toMillis();
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	private Path getFile(String key) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			return fDirectory.resolve(HexFormat.of().formatHex(digest) + SUFFIX);
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads and writes the values of the binary cache files PDE keeps in its state
+ * locations.
+ * <p>
+ * Strings are written as length prefixed UTF-8 bytes, as they may exceed the
+ * 64k limit of {@link DataOutputStream#writeUTF(String)}. Counts and lengths
+ * read back are validated, so a corrupt or truncated file results in an
+ * {@link IOException} instead of huge allocations.
+ * </p>
+ */
+public final class DataStreamUtil {
+
+	/** The maximum number of elements a count read from a cache file may have */
+	public static final int MAX_COUNT = 1 << 20;
+
+	/** Bytes allocated at once while reading, a corrupt length fails at the end of the file */
+	private static final int CHUNK_SIZE = 1 << 16;
+
+	private DataStreamUtil() { // static use only
+	}
+
+	/**
+	 * Writes a string that may be <code>null</code>.
+	 */
+	public static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+	 *
+	 * @return the string, may be <code>null</code>
+	 * @throws IOException if the stream is corrupt or truncated
+	 */
+	public static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = readBytes(in, true);
+		return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+	}
+
+	/**
+	 * Writes a length prefixed byte array.
+	 */
+	public static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a byte array written by {@link #writeBytes(DataOutputStream, byte[])}.
+	 *
+	 * @throws IOException if the stream is corrupt or truncated
+	 */
+	public static byte[] readBytes(DataInputStream in) throws IOException {
+		return readBytes(in, false);
+	}
+
+	private static byte[] readBytes(DataInputStream in, boolean nullable) throws IOException {
+		int length = in.readInt();
+		if (length == -1 && nullable) {
+			return null;
+		}
+		if (length < 0) {
+			throw new IOException("Invalid length: " + length); //$NON-NLS-1$
+		}
+		if (length <= CHUNK_SIZE) {
+			byte[] bytes = new byte[length];
+			in.readFully(bytes);
+			return bytes;
+		}
+		// only allocate what the stream actually contains
+		byte[] bytes = in.readNBytes(length);
+		if (bytes.length != length) {
+			throw new IOException("Unexpected end of stream"); //$NON-NLS-1$
+		}
+		return bytes;
+	}
+
+	/**
+	 * Reads the number of elements that follow.
+	 *
+	 * @return the count, between <code>0</code> and {@link #MAX_COUNT}
+	 * @throws IOException if the stream is corrupt or truncated
+	 */
+	public static int readCount(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		if (count < 0 || count > MAX_COUNT) {
+			throw new IOException("Invalid count: " + count); //$NON-NLS-1$
+		}
+		return count;
+	}
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Waits for tasks running on a thread pool while the calling thread watches a
+ * progress monitor for cancellation.
+ * <p>
+ * Progress monitors are not thread safe, so the tasks get their own monitor
+ * that only forwards cancellation, and progress is reported by the calling
+ * thread as the tasks complete.
+ * </p>
+ */
+public final class FutureUtil {
+
+	/** How often cancellation is checked while waiting */
+	private static final long POLL_INTERVAL = 100;
+
+	private FutureUtil() { // static use only
+	}
+
+	/**
+	 * Waits for the result of the given task. If the given monitor is
+	 * cancelled, or the calling thread is interrupted, the worker monitor is
+	 * cancelled so the running tasks stop as well.
+	 *
+	 * @param future the task to wait for
+	 * @param monitor the monitor of the calling thread, checked for
+	 *            cancellation
+	 * @param workerMonitor the monitor given to the tasks, cancelled on
+	 *            cancellation
+	 * @return the result of the task
+	 * @throws OperationCanceledException if the monitor was cancelled, the
+	 *             thread was interrupted or the task was cancelled
+	 * @throws ExecutionException if the task failed with any other exception
+	 */
+	public static <T> T await(Future<T> future, IProgressMonitor monitor, IProgressMonitor workerMonitor)
+			throws ExecutionException {
+		while (true) {
+			if (monitor.isCanceled()) {
+				workerMonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			}
+			try {
+				return future.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check for cancellation again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				workerMonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof OperationCanceledException cancel) {
+					throw cancel;
+				}
+				throw e;
+			}
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes generated files, like the <code>config.ini</code> or
+ * <code>dev.properties</code> of a launch, only if their content changed.
+ * Leaving unchanged files alone keeps their time stamps and the OS caches
+ * intact, which matters for quick relaunches of large applications.
+ * <p>
+ * The hash of the content last written (or found to be up to date) is
+ * remembered together with the size and modification time of the file, so
+ * files that were not touched since do not even have to be read again.
+ * </p>
+ */
+public final class IncrementalFileWriter {
+
+	private record Stamp(long size, long lastModified, byte[] hash) {
+	}
+
+	private static final Map<Path, Stamp> fStamps = new ConcurrentHashMap<>();
+
+	private IncrementalFileWriter() {
+	}
+
+	/**
+	 * Writes the given content to the file unless the file already has this
+	 * content.
+	 *
+	 * @param file the file to write, parent directories must exist
+	 * @param content the new content of the file
+	 * @return <code>true</code> if the file was written
+	 * @throws IOException if the file could not be read or written
+	 */
+	public static boolean write(Path file, byte[] content) throws IOException {
+		Path key = file.toAbsolutePath().normalize();
+		byte[] hash = hash(content);
+		if (hasContent(key, content, hash)) {
+			return false;
+		}
+		Files.write(key, content);
+		remember(key, hash);
+		return true;
+	}
+
+	/**
+	 * Replaces the file with the given temporary file unless the file already
+	 * has the same content, in which case the temporary file is deleted. If
+	 * the temporary file does not exist the file is deleted as well.
+	 *
+	 * @param tmp the newly generated content
+	 * @param file the file to replace
+	 * @return <code>true</code> if the file was replaced or deleted
+	 * @throws IOException if one of the files could not be read or written
+	 */
+	public static boolean replace(Path tmp, Path file) throws IOException {
+		Path key = file.toAbsolutePath().normalize();
+		if (!Files.exists(tmp)) {
+			fStamps.remove(key);
+			return Files.deleteIfExists(key);
+		}
+		byte[] content = Files.readAllBytes(tmp);
+		byte[] hash = hash(content);
+		if (hasContent(key, content, hash)) {
+			Files.delete(tmp);
+			return false;
+		}
+		Files.move(tmp, key, StandardCopyOption.REPLACE_EXISTING);
+		remember(key, hash);
+		return true;
+	}
+
+	/**
+	 * Returns the content {@link Properties#store(java.io.OutputStream, String)}
+	 * writes for the given properties, without the time stamp comment so the
+	 * content only changes if the properties do.
+	 *
+	 * @param properties the properties to store
+	 * @param comment a single line comment to write at the top, may be
+	 *            <code>null</code>
+	 * @return the stored properties
+	 */
+	public static byte[] toBytes(Properties properties, String comment) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		properties.store(out, comment);
+		String text = out.toString(StandardCharsets.ISO_8859_1);
+		// the comment (if any) is followed by a line with the current date
+		int start = comment != null ? text.indexOf('\n') + 1 : 0;
+		int end = text.indexOf('\n', start) + 1;
+		if (end > start && text.charAt(start) == '#') {
+			text = text.substring(0, start) + text.substring(end);
+		}
+		return text.getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	private static boolean hasContent(Path file, byte[] content, byte[] hash) throws IOException {
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		} catch (NoSuchFileException e) {
+			fStamps.remove(file);
+			return false;
+		}
+		if (attributes.size() != content.length) {
+			return false;
+		}
+		Stamp stamp = fStamps.get(file);
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		if (stamp != null && stamp.size() == attributes.size() && stamp.lastModified() == lastModified) {
+			return Arrays.equals(stamp.hash(), hash);
+		}
+		// unknown or modified by someone else, compare the actual content
+		if (Arrays.equals(Files.readAllBytes(file), content)) {
+			fStamps.put(file, new Stamp(attributes.size(), lastModified, hash));
+			return true;
+		}
+		return false;
+	}
+
+	private static void remember(Path file, byte[] hash) throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		fStamps.put(file, new Stamp(attributes.size(), attributes.lastModifiedTime().toMillis(), hash));
+	}
+
+	private static byte[] hash(byte[] content) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(content); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+}
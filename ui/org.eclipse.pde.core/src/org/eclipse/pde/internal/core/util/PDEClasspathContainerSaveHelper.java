@@ -16,12 +16,17 @@ package org.eclipse.pde.internal.core.util;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputFilter;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.IAccessRule;
@@ -34,11 +39,112 @@ import org.eclipse.jdt.core.JavaCore;
  * BuildPath save helper
  *
  * Adapted from org.eclipse.m2e.jdt.internal.MavenClasspathContainerSaveHelper
+ * <p>
+ * Containers are written in a compact, versioned binary format. All strings
+ * (paths, access rule patterns and attributes) are stored once in a string
+ * table and referenced by index, paths and access rules are shared between
+ * entries when read back. Containers saved by previous versions with Java
+ * serialization can still be read, see {@link #isLegacyFormat(IClasspathContainer)}.
+ * </p>
  */
 public class PDEClasspathContainerSaveHelper {
 
+	/** "PDEC", never the start of a Java serialization stream (0xACED) */
+	private static final int MAGIC = 0x50444543;
+
+	/** Increment whenever the file layout changes */
+	private static final int FORMAT_VERSION = 2;
+
+	private static final int NULL_INDEX = -1;
+
 	public static IClasspathContainer readContainer(InputStream input) throws IOException, ClassNotFoundException {
-		ObjectInputStream is = new ObjectInputStream(new BufferedInputStream(input)) {
+		BufferedInputStream buffered = new BufferedInputStream(input);
+		buffered.mark(4);
+		DataInputStream data = new DataInputStream(buffered);
+		if (data.readInt() == MAGIC) {
+			return readBinaryContainer(data);
+		}
+		buffered.reset();
+		SerializableClasspathContainer container = readLegacyContainer(buffered);
+		container.setLegacyFormat(true);
+		return container;
+	}
+
+	private static IClasspathContainer readBinaryContainer(DataInputStream in) throws IOException {
+		int version = in.readInt();
+		if (version != FORMAT_VERSION) {
+			throw new IOException("Unsupported classpath container format version " + version); //$NON-NLS-1$
+		}
+		String[] strings = new String[DataStreamUtil.readCount(in)];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = DataStreamUtil.readString(in);
+		}
+		IPath[] paths = new IPath[strings.length];
+		Map<Long, IAccessRule> accessRules = new HashMap<>();
+		IClasspathEntry[] entries = new IClasspathEntry[DataStreamUtil.readCount(in)];
+		for (int i = 0; i < entries.length; i++) {
+			int kind = in.readByte();
+			IPath path = readPath(in, strings, paths);
+			boolean exported = in.readBoolean();
+			IAccessRule[] rules = new IAccessRule[DataStreamUtil.readCount(in)];
+			for (int j = 0; j < rules.length; j++) {
+				int pattern = readIndex(in, strings);
+				int ruleKind = in.readInt();
+				rules[j] = accessRules.computeIfAbsent(((long) pattern << 32) | (ruleKind & 0xFFFFFFFFL),
+						k -> JavaCore.newAccessRule(path(pattern, strings, paths), ruleKind));
+			}
+			IClasspathAttribute[] attributes = new IClasspathAttribute[DataStreamUtil.readCount(in)];
+			for (int j = 0; j < attributes.length; j++) {
+				String name = strings[readIndex(in, strings)];
+				String value = strings[readIndex(in, strings)];
+				attributes[j] = JavaCore.newClasspathAttribute(name, value);
+			}
+			if (kind == IClasspathEntry.CPE_LIBRARY) {
+				IPath sourceAttachmentPath = readPath(in, strings, paths);
+				IPath sourceAttachmentRootPath = readPath(in, strings, paths);
+				entries[i] = JavaCore.newLibraryEntry(path, sourceAttachmentPath, sourceAttachmentRootPath, rules,
+						attributes, exported);
+			} else if (kind == IClasspathEntry.CPE_PROJECT) {
+				boolean combineAccessRules = in.readBoolean();
+				entries[i] = JavaCore.newProjectEntry(path, rules, combineAccessRules, attributes, exported);
+			} else {
+				throw new IOException("Unsupported classpath entry kind " + kind); //$NON-NLS-1$
+			}
+		}
+		return new SerializableClasspathContainer(entries);
+	}
+
+	private static IPath readPath(DataInputStream in, String[] strings, IPath[] paths) throws IOException {
+		int index = in.readInt();
+		if (index == NULL_INDEX) {
+			return null;
+		}
+		return path(checkIndex(index, strings), strings, paths);
+	}
+
+	private static int readIndex(DataInputStream in, String[] strings) throws IOException {
+		return checkIndex(in.readInt(), strings);
+	}
+
+	private static int checkIndex(int index, String[] strings) throws IOException {
+		if (index < 0 || index >= strings.length) {
+			throw new IOException("Invalid string index " + index); //$NON-NLS-1$
+		}
+		return index;
+	}
+
+	private static IPath path(int index, String[] strings, IPath[] paths) {
+		IPath path = paths[index];
+		if (path == null) {
+			path = IPath.fromPortableString(strings[index]);
+			paths[index] = path;
+		}
+		return path;
+	}
+
+	private static SerializableClasspathContainer readLegacyContainer(InputStream input)
+			throws IOException, ClassNotFoundException {
+		ObjectInputStream is = new ObjectInputStream(input) {
 			{
 				enableResolveObject(true);
 			}
@@ -59,7 +165,33 @@ public class PDEClasspathContainerSaveHelper {
 				return super.resolveObject(o);
 			}
 		};
-		return (IClasspathContainer) is.readObject();
+		// only the types written by previous versions may be deserialized
+		is.setObjectInputFilter(info -> {
+			Class<?> type = info.serialClass();
+			if (type == null) {
+				return ObjectInputFilter.Status.UNDECIDED;
+			}
+			while (type.isArray()) {
+				type = type.getComponentType();
+			}
+			if (type.isPrimitive() || type == String.class || type == SerializableClasspathContainer.class
+					|| type.getEnclosingClass() == PDEClasspathContainerSaveHelper.class
+					|| type == IClasspathEntry.class || type == IClasspathAttribute.class
+					|| type == IAccessRule.class) {
+				return ObjectInputFilter.Status.ALLOWED;
+			}
+			return ObjectInputFilter.Status.REJECTED;
+		});
+		return (SerializableClasspathContainer) is.readObject();
+	}
+
+	/**
+	 * Returns whether the given container was read from a file written by a
+	 * previous version, in which case it should be saved again to migrate it
+	 * to the current format.
+	 */
+	public static boolean isLegacyFormat(IClasspathContainer container) {
+		return container instanceof SerializableClasspathContainer serializable && serializable.isLegacyFormat();
 	}
 
 	public static IClasspathContainer emptyContainer() {
@@ -71,35 +203,72 @@ public class PDEClasspathContainerSaveHelper {
 	}
 
 	public static void writeContainerEntries(IClasspathEntry[] entries, OutputStream output) throws IOException {
-		ObjectOutputStream os = new ObjectOutputStream(new BufferedOutputStream(output)) {
-			{
-				enableReplaceObject(true);
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		for (IClasspathEntry entry : entries) {
+			int kind = entry.getEntryKind();
+			if (kind != IClasspathEntry.CPE_LIBRARY && kind != IClasspathEntry.CPE_PROJECT) {
+				throw new IOException("Unsupported classpath entry kind " + kind); //$NON-NLS-1$
 			}
-
-			@Override
-			protected Object replaceObject(Object o) throws IOException {
-				if (o instanceof IClasspathEntry e) {
-					if (e.getEntryKind() == IClasspathEntry.CPE_PROJECT) {
-						return new ProjectEntryReplace(e);
-					} else if (e.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
-						return new LibraryEntryReplace(e);
-					}
-				} else if (o instanceof IClasspathAttribute classpthAttribute) {
-					return new ClasspathAttributeReplace(classpthAttribute);
-				} else if (o instanceof IAccessRule accessRule) {
-					return new AccessRuleReplace(accessRule);
-				} else if (o instanceof IPath path) {
-					return new PathReplace(path);
-				}
-				return super.replaceObject(o);
+			intern(strings, entry.getPath());
+			intern(strings, entry.getSourceAttachmentPath());
+			intern(strings, entry.getSourceAttachmentRootPath());
+			for (IAccessRule rule : entry.getAccessRules()) {
+				intern(strings, rule.getPattern());
 			}
-		};
-		os.writeObject(new SerializableClasspathContainer(entries));
-		os.flush();
+			for (IClasspathAttribute attribute : entry.getExtraAttributes()) {
+				strings.putIfAbsent(attribute.getName(), strings.size());
+				strings.putIfAbsent(attribute.getValue(), strings.size());
+			}
+		}
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+		out.writeInt(MAGIC);
+		out.writeInt(FORMAT_VERSION);
+		out.writeInt(strings.size());
+		for (String string : strings.keySet()) {
+			DataStreamUtil.writeString(out, string);
+		}
+		out.writeInt(entries.length);
+		for (IClasspathEntry entry : entries) {
+			out.writeByte(entry.getEntryKind());
+			writePath(out, strings, entry.getPath());
+			out.writeBoolean(entry.isExported());
+			IAccessRule[] rules = entry.getAccessRules();
+			out.writeInt(rules.length);
+			for (IAccessRule rule : rules) {
+				writePath(out, strings, rule.getPattern());
+				// same encoding as accepted by JavaCore.newAccessRule()
+				out.writeInt(rule.ignoreIfBetter() ? rule.getKind() | IAccessRule.IGNORE_IF_BETTER : rule.getKind());
+			}
+			IClasspathAttribute[] attributes = entry.getExtraAttributes();
+			out.writeInt(attributes.length);
+			for (IClasspathAttribute attribute : attributes) {
+				out.writeInt(strings.get(attribute.getName()));
+				out.writeInt(strings.get(attribute.getValue()));
+			}
+			if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+				writePath(out, strings, entry.getSourceAttachmentPath());
+				writePath(out, strings, entry.getSourceAttachmentRootPath());
+			} else {
+				out.writeBoolean(entry.combineAccessRules());
+			}
+		}
+		out.flush();
+	}
+
+	private static void intern(Map<String, Integer> strings, IPath path) {
+		if (path != null) {
+			strings.putIfAbsent(path.toPortableString(), strings.size());
+		}
+	}
+
+	private static void writePath(DataOutputStream out, Map<String, Integer> strings, IPath path)
+			throws IOException {
+		out.writeInt(path == null ? NULL_INDEX : strings.get(path.toPortableString()));
 	}
 
 	/**
-	 * A library IClasspathEntry replacement used for object serialization
+	 * A library IClasspathEntry replacement used by the legacy object
+	 * serialization format
 	 */
 	static final class LibraryEntryReplace implements Serializable {
 		private static final long serialVersionUID = 3901667379326978799L;
@@ -132,7 +301,8 @@ public class PDEClasspathContainerSaveHelper {
 	}
 
 	/**
-	 * A project IClasspathEntry replacement used for object serialization
+	 * A project IClasspathEntry replacement used by the legacy object
+	 * serialization format
 	 */
 	static final class ProjectEntryReplace implements Serializable {
 		private static final long serialVersionUID = -2397483865904288762L;
@@ -162,7 +332,8 @@ public class PDEClasspathContainerSaveHelper {
 	}
 
 	/**
-	 * An IClasspathAttribute replacement used for object serialization
+	 * An IClasspathAttribute replacement used by the legacy object
+	 * serialization format
 	 */
 	static final class ClasspathAttributeReplace implements Serializable {
 		private static final long serialVersionUID = 6370039352012628029L;
@@ -182,7 +353,8 @@ public class PDEClasspathContainerSaveHelper {
 	}
 
 	/**
-	 * An IAccessRule replacement used for object serialization
+	 * An IAccessRule replacement used by the legacy object
+	 * serialization format
 	 */
 	static final class AccessRuleReplace implements Serializable {
 		private static final long serialVersionUID = 7315582893941374715L;
@@ -208,7 +380,8 @@ public class PDEClasspathContainerSaveHelper {
 	}
 
 	/**
-	 * An IPath replacement used for object serialization
+	 * An IPath replacement used by the legacy object
+	 * serialization format
 	 */
 	static final class PathReplace implements Serializable {
 		private static final long serialVersionUID = -2361259525684491181L;
@@ -26,6 +26,7 @@ class SerializableClasspathContainer implements IClasspathContainer, Serializabl
 
 	private static final long serialVersionUID = 1L;
 	private final IClasspathEntry[] entries;
+	private transient boolean legacyFormat;
 
 	public SerializableClasspathContainer() {
 		this(new IClasspathEntry[0]);
@@ -35,6 +36,14 @@ class SerializableClasspathContainer implements IClasspathContainer, Serializabl
 		this.entries = entries;
 	}
 
+	void setLegacyFormat(boolean legacyFormat) {
+		this.legacyFormat = legacyFormat;
+	}
+
+	boolean isLegacyFormat() {
+		return legacyFormat;
+	}
+
 	@Override
 	public IClasspathEntry[] getClasspathEntries() {
 		return entries.clone();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -116,9 +116,17 @@ public class BundleLauncherHelper {
 
 		ILaunchConfigurationWorkingCopy wc = getWorkingCopy(configuration);
 		if (!osgi) {
-
 			migrateLaunchConfiguration(wc);
+		} else {
+			migrateOsgiLaunchConfiguration(wc);
+		}
+		// the bundles only depend on the configuration and the models
+		return LaunchBundleMapCache.getDefault().getBundleMap(wc, osgi, features,
+				f -> computeMergedBundleMap(configuration, wc, osgi, f));
+	}
 
+	private static Map<IPluginModelBase, String> computeMergedBundleMap(ILaunchConfiguration configuration, ILaunchConfigurationWorkingCopy wc, boolean osgi, Map<IFeature, Boolean> features) throws CoreException {
+		if (!osgi) {
 			if (wc.getAttribute(IPDELauncherConstants.USE_DEFAULT, true)) {
 				Map<IPluginModelBase, String> map = new LinkedHashMap<>();
 				for (IPluginModelBase model : PluginRegistry.getActiveModels()) {
@@ -136,9 +144,6 @@ public class BundleLauncherHelper {
 				}
 				return map;
 			}
-
-		} else {
-			migrateOsgiLaunchConfiguration(wc);
 		}
 
 		if (wc.getAttribute(IPDELauncherConstants.USE_CUSTOM_FEATURES, false)) {
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.IFeatureModelDelta;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+
+/**
+ * Caches the bundles and start levels computed by
+ * {@link BundleLauncherHelper#getMergedBundleMap(ILaunchConfiguration, boolean, Map)},
+ * so launching the same configuration again does not resolve features and
+ * compute the requirements of the launch again.
+ * <p>
+ * Entries are keyed by the (migrated) attributes of the launch configuration
+ * and are only valid for the resolver state and time stamp they were computed
+ * with. All entries are dropped on every plug-in or feature model delta.
+ * </p>
+ */
+public final class LaunchBundleMapCache implements IPluginModelListener, IFeatureModelListener {
+
+	/** Maximum number of launch configurations cached */
+	private static final int MAX_ENTRIES = 16;
+
+	private static LaunchBundleMapCache fDefault;
+
+	private record Key(Map<String, Object> attributes, boolean osgi, boolean withFeatures) {
+	}
+
+	private record Entry(State state, long timeStamp, Map<IPluginModelBase, String> bundles,
+			Map<IFeature, Boolean> features) {
+	}
+
+	private final Map<Key, Entry> fEntries = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/** Incremented whenever the entries are dropped */
+	private long fGeneration;
+
+	/**
+	 * Computes the bundles of a launch
+	 */
+	@FunctionalInterface
+	interface BundleMapComputer {
+		Map<IPluginModelBase, String> compute(Map<IFeature, Boolean> features) throws CoreException;
+	}
+
+	private LaunchBundleMapCache() {
+	}
+
+	static synchronized LaunchBundleMapCache getDefault() {
+		if (fDefault == null) {
+			fDefault = new LaunchBundleMapCache();
+			PDECore.getDefault().getModelManager().addPluginModelListener(fDefault);
+			PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(fDefault);
+		}
+		return fDefault;
+	}
+
+	/**
+	 * Removes the model listeners and drops all entries
+	 */
+	public static synchronized void shutdown() {
+		if (fDefault != null) {
+			PDECore.getDefault().getModelManager().removePluginModelListener(fDefault);
+			PDECore.getDefault().getFeatureModelManager().removeFeatureModelListener(fDefault);
+			fDefault.clear();
+			fDefault = null;
+		}
+	}
+
+	/**
+	 * Returns the bundles of the given launch configuration, computing them
+	 * if they are not cached or the models changed since they were computed.
+	 *
+	 * @param configuration the launch configuration, already migrated
+	 * @param osgi whether the configuration is an OSGi launch
+	 * @param features map to fill with the features of the launch, may be
+	 *            <code>null</code>
+	 * @param computer computes the bundles of the launch
+	 * @return a modifiable copy of the bundle to start level map
+	 */
+	Map<IPluginModelBase, String> getBundleMap(ILaunchConfiguration configuration, boolean osgi,
+			Map<IFeature, Boolean> features, BundleMapComputer computer) throws CoreException {
+		Key key = new Key(new HashMap<>(configuration.getAttributes()), osgi, features != null);
+		State state = PDECore.getDefault().getModelManager().getState().getState();
+		long timeStamp = state.getTimeStamp();
+		Entry entry;
+		long generation;
+		synchronized (this) {
+			entry = fEntries.get(key);
+			generation = fGeneration;
+		}
+		if (entry == null || entry.state() != state || entry.timeStamp() != timeStamp) {
+			Map<IFeature, Boolean> computedFeatures = features != null ? new LinkedHashMap<>() : null;
+			Map<IPluginModelBase, String> bundles = computer.compute(computedFeatures);
+			entry = new Entry(state, timeStamp, bundles, computedFeatures);
+			synchronized (this) {
+				// a model delta during the computation makes the entry stale
+				if (fGeneration == generation && state.getTimeStamp() == timeStamp) {
+					fEntries.put(key, entry);
+				}
+			}
+		}
+		if (features != null) {
+			features.putAll(entry.features());
+		}
+		return new LinkedHashMap<>(entry.bundles());
+	}
+
+	private synchronized void clear() {
+		fEntries.clear();
+		fGeneration++;
+	}
+
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		clear();
+	}
+
+	@Override
+	public void modelsChanged(IFeatureModelDelta delta) {
+		clear();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,6 @@ package org.eclipse.pde.internal.launching.launcher;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -45,6 +44,7 @@ import org.eclipse.pde.internal.core.P2Utils.ProductInfo;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.ifeature.IFeature;
+import org.eclipse.pde.internal.core.util.IncrementalFileWriter;
 import org.eclipse.pde.internal.launching.IPDEConstants;
 import org.eclipse.pde.launching.IPDELauncherConstants;
 
@@ -535,9 +535,8 @@ public class LaunchConfigurationHelper {
 	}
 
 	public static void save(File file, Properties properties) {
-		try (FileOutputStream stream = new FileOutputStream(file)) {
-			properties.store(stream, "Configuration File"); //$NON-NLS-1$
-			stream.flush();
+		try {
+			IncrementalFileWriter.write(file.toPath(), IncrementalFileWriter.toBytes(properties, "Configuration File")); //$NON-NLS-1$
 		} catch (IOException e) {
 			PDECore.logException(e);
 		}
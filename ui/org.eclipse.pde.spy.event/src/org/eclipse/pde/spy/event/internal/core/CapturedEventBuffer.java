@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.spy.event.internal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
+
+/**
+ * Fixed size ring buffer handing captured events from the publishing threads
+ * to the UI. When the UI does not keep up the oldest events are overwritten,
+ * so the memory used by the spy stays bounded.
+ */
+public class CapturedEventBuffer {
+	private final CapturedEvent[] events;
+
+	private int head;
+
+	private int size;
+
+	public CapturedEventBuffer(int capacity) {
+		events = new CapturedEvent[capacity];
+	}
+
+	/**
+	 * Adds an event, overwriting the oldest one if the buffer is full.
+	 *
+	 * @return <code>true</code> if the buffer was empty before, i.e. a drain
+	 *         has to be scheduled
+	 */
+	public synchronized boolean add(CapturedEvent event) {
+		int tail = (head + size) % events.length;
+		events[tail] = event;
+		if (size == events.length) {
+			head = (head + 1) % events.length;
+			return false;
+		}
+		size++;
+		return size == 1;
+	}
+
+	/**
+	 * Removes all buffered events.
+	 *
+	 * @return the events in the order they were added
+	 */
+	public synchronized List<CapturedEvent> drain() {
+		List<CapturedEvent> result = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			int index = (head + i) % events.length;
+			result.add(events[index]);
+			events[index] = null;
+		}
+		head = 0;
+		size = 0;
+		return result;
+	}
+
+	public synchronized void clear() {
+		drain();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,9 @@ package org.eclipse.pde.spy.event.internal.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.e4.ui.workbench.UIEvents;
 
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
@@ -22,11 +25,23 @@ import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
 import org.eclipse.pde.spy.event.internal.model.Operator;
 import org.eclipse.pde.spy.event.internal.model.Parameter;
 import org.eclipse.pde.spy.event.internal.model.SpecialValue;
+import org.osgi.service.event.Event;
 
 public class CapturedEventFilterMatcher {
 	public boolean matches(CapturedEvent event, CapturedEventFilter filter) {
-		Object value = getItemToFilterValue(event, filter.getItemToFilter());
+		return matches(filter, getItemToFilterValue(event, filter.getItemToFilter()));
+	}
+
+	/**
+	 * Matches the filter against an event that has not been captured yet, so
+	 * events rejected by the filter are never copied. The publisher is only
+	 * requested if the filter is about the publisher.
+	 */
+	public boolean matches(Event event, Supplier<String> publisherClassName, CapturedEventFilter filter) {
+		return matches(filter, getItemToFilterValue(event, publisherClassName, filter.getItemToFilter()));
+	}
 
+	private boolean matches(CapturedEventFilter filter, Object value) {
 		if (value instanceof List) {
 			List<?> list = (List<?>) value;
 			for (Object item : list) {
@@ -39,6 +54,38 @@ public class CapturedEventFilterMatcher {
 		return matches(filter.getValue(), value, filter.getOperator());
 	}
 
+	private Object getItemToFilterValue(Event event, Supplier<String> publisherClassName, ItemToFilter itemToFilter) {
+		if (itemToFilter.equals(ItemToFilter.Topic)) {
+			return event.getTopic();
+		}
+		if (itemToFilter.equals(ItemToFilter.Publisher)) {
+			return publisherClassName.get();
+		}
+		if (itemToFilter.equals(ItemToFilter.ChangedElement)) {
+			Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
+			return element != null ? element.getClass().getName() : ""; //$NON-NLS-1$
+		}
+		if (itemToFilter.equals(ItemToFilter.ParameterName)) {
+			return List.of(event.getPropertyNames());
+		}
+		if (itemToFilter.equals(ItemToFilter.ParameterValue)) {
+			List<Object> values = new ArrayList<>();
+			for (String name : event.getPropertyNames()) {
+				values.add(event.getProperty(name));
+			}
+			return values;
+		}
+		if (itemToFilter.equals(ItemToFilter.ParameterNameAndValue)) {
+			List<String> nameAndValues = new ArrayList<>();
+			for (String name : event.getPropertyNames()) {
+				nameAndValues.add(getNameAndValue(name, event.getProperty(name)));
+			}
+			return nameAndValues;
+		}
+
+		throw new IllegalArgumentException(Messages.CapturedEventFilterMatcher_NoSupportedItem + itemToFilter.toString());
+	}
+
 	private Object getItemToFilterValue(CapturedEvent event, ItemToFilter itemToFilter) {
 		if (itemToFilter.equals(ItemToFilter.Topic)) {
 			return event.getTopic();
@@ -66,9 +113,7 @@ public class CapturedEventFilterMatcher {
 		if (itemToFilter.equals(ItemToFilter.ParameterNameAndValue)) {
 			List<String> nameAndValues = new ArrayList<>();
 			for (Parameter parameter : event.getParameters()) {
-				String nameAndValue = String.format(SpecialValue.NameAndValue.toString(), parameter.getName().trim(),
-						(parameter.getValue() == null ? SpecialValue.Null : parameter.getValue().toString().trim()));
-				nameAndValues.add(nameAndValue);
+				nameAndValues.add(getNameAndValue(parameter.getName(), parameter.getValue()));
 			}
 			return nameAndValues;
 		}
@@ -76,6 +121,11 @@ public class CapturedEventFilterMatcher {
 		throw new IllegalArgumentException(Messages.CapturedEventFilterMatcher_NoSupportedItem + itemToFilter.toString());
 	}
 
+	private String getNameAndValue(String name, Object value) {
+		return String.format(SpecialValue.NameAndValue.toString(), name.trim(),
+				(value == null ? SpecialValue.Null : value.toString().trim()));
+	}
+
 	private boolean matches(String expected, Object current, Operator operator) {
 		if (SpecialValue.Null.toString().equalsIgnoreCase(expected)) {
 			return operator.isPositive() ? matchesToNull(current) : !matchesToNull(current);
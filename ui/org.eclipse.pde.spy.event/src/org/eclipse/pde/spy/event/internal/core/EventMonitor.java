@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,8 @@
 package org.eclipse.pde.spy.event.internal.core;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
@@ -23,6 +23,8 @@ import org.eclipse.e4.ui.services.internal.events.EventBroker;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
+import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
 
 @SuppressWarnings("restriction")
@@ -32,8 +34,10 @@ public class EventMonitor {
 		void newEvent(CapturedEvent event);
 	}
 
-	private static Set<Integer> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName().hashCode(),
-			UIEventPublisher.class.getName().hashCode());
+	private static final Set<String> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName(),
+			UIEventPublisher.class.getName());
+
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
 
 	private Collection<CapturedEventFilter> filters;
 
@@ -48,21 +52,24 @@ public class EventMonitor {
 			return;
 		}
 
-		CapturedEvent capturedEvent = new CapturedEvent();
-		capturedEvent.setTopic(event.getTopic());
-		capturedEvent.setPublisherClassName(getPublisherClassName());
+		// the stack is only walked once, and only if a publisher filter or the
+		// captured event needs it
+		Supplier<String> publisherClassName = new Supplier<>() {
+			private String value;
 
-		for (String propertyName : event.getPropertyNames()) {
-			Object value = event.getProperty(propertyName);
-			capturedEvent.addParameter(propertyName, value);
-			if (value != null && UIEvents.EventTags.ELEMENT.equals(propertyName)) {
-				capturedEvent.setChangedElementClassName(value.getClass().getName());
+			@Override
+			public String get() {
+				if (value == null) {
+					value = getPublisherClassName();
+				}
+				return value;
 			}
+		};
+		if (!shouldBeCaptured(event, publisherClassName)) {
+			return;
 		}
 
-		if (shouldBeCaptured(capturedEvent)) {
-			listener.newEvent(capturedEvent);
-		}
+		listener.newEvent(capture(event, publisherClassName.get()));
 	};
 
 	public EventMonitor(IEventBroker eventBroker) {
@@ -82,31 +89,56 @@ public class EventMonitor {
 		this.listener = listener;
 	}
 
-	private boolean shouldBeCaptured(CapturedEvent event) {
-		if (filters != null) {
-			Iterator<CapturedEventFilter> iter = filters.iterator();
-			while (iter.hasNext()) {
-				if (!getEventFilterMatcher().matches(event, iter.next())) {
-					return false;
-				}
+	/**
+	 * Copies the topic and the properties of an event that passed the filters.
+	 */
+	public static CapturedEvent capture(Event event, String publisherClassName) {
+		CapturedEvent capturedEvent = new CapturedEvent();
+		capturedEvent.setTopic(event.getTopic());
+		capturedEvent.setPublisherClassName(publisherClassName);
+
+		for (String propertyName : event.getPropertyNames()) {
+			Object value = event.getProperty(propertyName);
+			capturedEvent.addParameter(propertyName, value);
+			if (value != null && UIEvents.EventTags.ELEMENT.equals(propertyName)) {
+				capturedEvent.setChangedElementClassName(value.getClass().getName());
 			}
 		}
-		return true;
+		return capturedEvent;
 	}
 
-	private String getPublisherClassName() {
-		StackTraceElement[] items = Thread.currentThread().getStackTrace();
-		boolean foundEventBroker = false;
-
-		for (int i = 0; i < items.length; i++) {
-			String clsName = items[i].getClassName();
-			if (!foundEventBroker && clsName.equals(EventBroker.class.getName())) {
-				foundEventBroker = true;
-			} else if (foundEventBroker && !EVENT_HELPER_CLASSES.contains(clsName.hashCode())) {
-				return String.format("%s (%s:%d)", clsName, items[i].getMethodName(), items[i].getLineNumber()); //$NON-NLS-1$
+	/**
+	 * Evaluates the filters on the raw event, the ones on the publisher last
+	 * since they need the stack of the publishing thread.
+	 */
+	private boolean shouldBeCaptured(Event event, Supplier<String> publisherClassName) {
+		if (filters == null) {
+			return true;
+		}
+		for (CapturedEventFilter filter : filters) {
+			if (filter.getItemToFilter() != ItemToFilter.Publisher
+					&& !getEventFilterMatcher().matches(event, publisherClassName, filter)) {
+				return false;
+			}
+		}
+		for (CapturedEventFilter filter : filters) {
+			if (filter.getItemToFilter() == ItemToFilter.Publisher
+					&& !getEventFilterMatcher().matches(event, publisherClassName, filter)) {
+				return false;
 			}
 		}
-		return ""; //$NON-NLS-1$
+		return true;
+	}
+
+	private static String getPublisherClassName() {
+		return STACK_WALKER.walk(frames -> frames //
+				.dropWhile(frame -> !frame.getClassName().equals(EventBroker.class.getName())) //
+				.skip(1) //
+				.filter(frame -> !EVENT_HELPER_CLASSES.contains(frame.getClassName())) //
+				.findFirst()) //
+				.map(frame -> String.format("%s (%s:%d)", frame.getClassName(), frame.getMethodName(), //$NON-NLS-1$
+						frame.getLineNumber()))
+				.orElse(""); //$NON-NLS-1$
 	}
 
 	private CapturedEventFilterMatcher getEventFilterMatcher() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,13 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.core.databinding.beans.typed.PojoProperties;
+import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.IObservable;
 import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
 import org.eclipse.core.databinding.observable.list.WritableList;
 import org.eclipse.core.databinding.observable.map.IObservableMap;
 import org.eclipse.core.databinding.observable.masterdetail.IObservableFactory;
@@ -26,6 +29,7 @@ import org.eclipse.jface.databinding.viewers.ObservableListTreeContentProvider;
 import org.eclipse.jface.databinding.viewers.ObservableMapLabelProvider;
 import org.eclipse.jface.databinding.viewers.TreeStructureAdvisor;
 import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.pde.spy.event.internal.core.CapturedEventBuffer;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.IEventItem;
 import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
@@ -57,9 +61,23 @@ import org.eclipse.swt.widgets.TreeItem;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class CapturedEventTree extends TreeViewer {
+	/**
+	 * Maximum number of events shown, older events are discarded
+	 */
+	private static final int MAX_EVENTS = 5000;
+
+	/**
+	 * Delay in milliseconds between two batches of events added to the tree
+	 */
+	private static final int DRAIN_DELAY = 100;
+
 	private ICapturedEventTreeListener listener;
 
-	private final WritableList<CapturedEvent> capturedEvents;
+	private final CapturedEventList capturedEvents;
+
+	private final CapturedEventBuffer pendingEvents = new CapturedEventBuffer(MAX_EVENTS);
+
+	private final Runnable drainPendingEvents = this::drainPendingEvents;
 
 	private final Clipboard clipboard;
 
@@ -101,7 +119,7 @@ public class CapturedEventTree extends TreeViewer {
 				new String[] { Messages.CapturedEventTree_Name, Messages.CapturedEventTree_Param1, Messages.CapturedEventTree_Param2 });
 		setLabelProvider(new ObservableMapLabelProvider(attributes));
 
-		capturedEvents = new WritableList<>(new ArrayList<>(), CapturedEvent.class);
+		capturedEvents = new CapturedEventList();
 		setInput(capturedEvents);
 
 		clipboard = new Clipboard(getTree().getDisplay());
@@ -349,8 +367,31 @@ public class CapturedEventTree extends TreeViewer {
 		return -1;
 	}
 
+	/**
+	 * Queues an event to be shown in the tree. May be called from any thread,
+	 * the events are added to the tree in batches by the UI thread.
+	 */
 	public void addEvent(CapturedEvent event) {
-		capturedEvents.add(event);
+		if (pendingEvents.add(event)) {
+			Display display = getTree().getDisplay();
+			if (!display.isDisposed()) {
+				display.asyncExec(() -> {
+					if (!getTree().isDisposed()) {
+						display.timerExec(DRAIN_DELAY, drainPendingEvents);
+					}
+				});
+			}
+		}
+	}
+
+	private void drainPendingEvents() {
+		if (getTree().isDisposed()) {
+			return;
+		}
+		List<CapturedEvent> batch = pendingEvents.drain();
+		if (!batch.isEmpty()) {
+			capturedEvents.append(batch, MAX_EVENTS);
+		}
 	}
 
 	public void setListener(ICapturedEventTreeListener listener) {
@@ -358,9 +399,42 @@ public class CapturedEventTree extends TreeViewer {
 	}
 
 	public void removeAll() {
+		pendingEvents.clear();
 		capturedEvents.clear();
 	}
 
+	/**
+	 * List of the shown events that adds a batch of events and discards the
+	 * oldest ones with a single list change.
+	 */
+	private static class CapturedEventList extends WritableList<CapturedEvent> {
+		public CapturedEventList() {
+			super(new ArrayList<>(), CapturedEvent.class);
+		}
+
+		/**
+		 * Appends the given events, removing the oldest events so that at
+		 * most the given number of events remain.
+		 */
+		public void append(List<CapturedEvent> batch, int maxEvents) {
+			checkRealm();
+			if (batch.size() > maxEvents) {
+				batch = batch.subList(batch.size() - maxEvents, batch.size());
+			}
+			int removed = Math.max(0, Math.min(wrappedList.size(), wrappedList.size() + batch.size() - maxEvents));
+			List<ListDiffEntry<CapturedEvent>> entries = new ArrayList<>(removed + batch.size());
+			for (int i = 0; i < removed; i++) {
+				entries.add(Diffs.createListDiffEntry(0, false, wrappedList.get(i)));
+			}
+			wrappedList.subList(0, removed).clear();
+			for (CapturedEvent event : batch) {
+				entries.add(Diffs.createListDiffEntry(wrappedList.size(), true, event));
+				wrappedList.add(event);
+			}
+			fireListChange(Diffs.createListDiff(entries));
+		}
+	}
+
 	private static class TreeItemForeground {
 		private final Color paramColor;
 
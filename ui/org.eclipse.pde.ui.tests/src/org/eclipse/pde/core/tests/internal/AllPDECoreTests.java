@@ -6,6 +6,9 @@ import org.junit.platform.suite.api.Suite;
 @Suite
 @SelectClasses({ //
 	DependencyManagerTest.class, //
+	DependencyLoopFinderTest.class, //
+	PluginModelManagerTest.class, //
+	PluginSearchOperationTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
 })
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static java.util.Map.entry;
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
+import static org.junit.Assert.assertEquals;
+import static org.osgi.framework.Constants.REQUIRE_BUNDLE;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.pde.core.plugin.IPlugin;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginModel;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.internal.core.builders.DependencyLoop;
+import org.eclipse.pde.internal.core.builders.DependencyLoopFinder;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests the loops reported by {@link DependencyLoopFinder}. Unless noted
+ * otherwise the expected loops are the same as reported by the depth first
+ * search of previous versions.
+ */
+public class DependencyLoopFinderTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	private Path tpJarDirectory;
+
+	@Before
+	public void setupBefore() throws Exception {
+		tpJarDirectory = folder.newFolder("TPJarDirectory").toPath();
+		// ensure PluginModelManager is initialized
+		PluginModelManager.getInstance().getState();
+	}
+
+	@Test
+	public void testSimpleLoop() throws Exception {
+		setTargetPlatform( //
+				bundle("loop.a", "1.0.0", entry(REQUIRE_BUNDLE, "loop.b")), //
+				bundle("loop.b", "1.0.0", entry(REQUIRE_BUNDLE, "loop.a")));
+
+		assertLoops(DependencyLoopFinder.findLoops(plugin("loop.a")), List.of("loop.a", "loop.b"));
+		assertLoops(DependencyLoopFinder.findLoops(plugin("loop.b")), List.of("loop.b", "loop.a"));
+	}
+
+	@Test
+	public void testNoLoopThroughRoot() throws Exception {
+		setTargetPlatform( //
+				bundle("loop.a", "1.0.0", entry(REQUIRE_BUNDLE, "loop.b")), //
+				bundle("loop.b", "1.0.0", entry(REQUIRE_BUNDLE, "loop.c")), //
+				bundle("loop.c", "1.0.0", entry(REQUIRE_BUNDLE, "loop.b")));
+
+		// the loop between b and c does not go through a
+		assertLoops(DependencyLoopFinder.findLoops(plugin("loop.a")));
+		assertLoops(DependencyLoopFinder.findLoops(plugin("loop.b")), List.of("loop.b", "loop.c"));
+	}
+
+	@Test
+	public void testAllLoops() throws Exception {
+		setTargetPlatform( //
+				bundle("loop.a", "1.0.0", entry(REQUIRE_BUNDLE, "loop.b,loop.d")), //
+				bundle("loop.b", "1.0.0", entry(REQUIRE_BUNDLE, "loop.c,loop.a,loop.e")), //
+				bundle("loop.c", "1.0.0", entry(REQUIRE_BUNDLE, "loop.a")), //
+				bundle("loop.d", "1.0.0", entry(REQUIRE_BUNDLE, "loop.c")), //
+				bundle("loop.e", "1.0.0", entry(REQUIRE_BUNDLE, "loop.f")), //
+				bundle("loop.f", "1.0.0"));
+
+		// every simple loop through the root, in the order of the imports
+		assertLoops(DependencyLoopFinder.findLoops(plugin("loop.a")), //
+				List.of("loop.a", "loop.b", "loop.c"), //
+				List.of("loop.a", "loop.b"), //
+				List.of("loop.a", "loop.d", "loop.c"));
+		assertLoops(DependencyLoopFinder.findLoops(plugin("loop.c")), //
+				List.of("loop.c", "loop.a", "loop.b"), //
+				List.of("loop.c", "loop.a", "loop.d"));
+	}
+
+	@Test
+	public void testRootNotInRegistry() throws Exception {
+		setTargetPlatform( //
+				bundle("loop.x", "1.0.0", entry(REQUIRE_BUNDLE, "loop.y")), //
+				bundle("loop.y", "1.0.0", entry(REQUIRE_BUNDLE, "loop.unknown")));
+
+		// previous versions only closed a loop at plug-ins known to the registry
+		// and reported none here
+		IPlugin root = unknownPlugin("loop.unknown", "loop.x");
+		assertLoops(DependencyLoopFinder.findLoops(root), List.of("loop.unknown", "loop.x", "loop.y"));
+	}
+
+	@Test
+	public void testCandidateNotInRegistry() throws Exception {
+		setTargetPlatform( //
+				bundle("loop.a", "1.0.0"), //
+				bundle("loop.b", "1.0.0", entry(REQUIRE_BUNDLE, "loop.a")));
+
+		IPlugin candidate = unknownPlugin("loop.candidate", "loop.b");
+		assertLoops(DependencyLoopFinder.findLoops(plugin("loop.a"), new IPlugin[] { candidate }, true),
+				List.of("loop.a", "loop.candidate", "loop.b"));
+		assertLoops(DependencyLoopFinder.findLoops(plugin("loop.a")));
+	}
+
+	@SafeVarargs
+	private void setTargetPlatform(Map.Entry<NameVersionDescriptor, Map<String, String>>... pluginDescriptions)
+			throws Exception {
+		TargetPlatformUtil.setDummyBundlesAsTarget(Map.ofEntries(pluginDescriptions), List.of(), tpJarDirectory);
+	}
+
+	@SafeVarargs
+	private static void assertLoops(DependencyLoop[] loops, List<String>... expected) {
+		List<List<String>> actual = Arrays.stream(loops)
+				.map(loop -> Arrays.stream(loop.getMembers()).map(IPluginBase::getId).toList()).toList();
+		assertEquals(List.of(expected), actual);
+	}
+
+	private static IPlugin plugin(String id) {
+		return ((IPluginModel) PluginRegistry.findModel(id)).getPlugin();
+	}
+
+	/**
+	 * @return a plug-in unknown to the registry that only has an id and
+	 *         imports
+	 */
+	private static IPlugin unknownPlugin(String id, String... imports) {
+		IPluginImport[] iimports = Arrays.stream(imports).map(i -> proxy(IPluginImport.class, Map.of("getId", i)))
+				.toArray(IPluginImport[]::new);
+		return proxy(IPlugin.class, Map.of("getId", id, "getImports", iimports));
+	}
+
+	private static <T> T proxy(Class<T> type, Map<String, Object> values) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> switch (method.getName()) {
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				default -> values.get(method.getName());
+				}));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2021, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2021, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.pde.core.tests.internal;
 
 import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.pde.internal.core.DependencyManager.findDependentsClosure;
 import static org.eclipse.pde.internal.core.DependencyManager.findRequirementsClosure;
 import static org.eclipse.pde.internal.core.DependencyManager.Options.INCLUDE_ALL_FRAGMENTS;
 import static org.eclipse.pde.internal.core.DependencyManager.Options.INCLUDE_NON_TEST_FRAGMENTS;
@@ -368,6 +369,57 @@ public class DependencyManagerTest {
 		assertThat(optionalClosure).isEqualTo(Set.of(bundleOptional, bundleA1, bundleA2, bundleProvider));
 	}
 
+	@Test
+	public void testFindDependentsClosure() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a1", "1.0.0"),
+
+				bundle("bundle.a2", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a1")),
+
+				bundle("bundle.a3", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a2")),
+
+				bundle("bundle.b", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a3")),
+
+				bundle("bundle.c", "1.0.0"));
+
+		BundleDescription bundle1 = bundleDescription("bundle.a1", "1.0.0");
+		BundleDescription bundle2 = bundleDescription("bundle.a2", "1.0.0");
+		BundleDescription bundle3 = bundleDescription("bundle.a3", "1.0.0");
+		BundleDescription bundleB = bundleDescription("bundle.b", "1.0.0");
+
+		assertThat(findDependentsClosure(Set.of(bundle2))).isEqualTo(Set.of(bundle2, bundle3, bundleB));
+		assertThat(findDependentsClosure(Set.of(bundle1))).isEqualTo(Set.of(bundle1, bundle2, bundle3, bundleB));
+		assertThat(findRequirementsClosure(Set.of(bundleB))).isEqualTo(Set.of(bundle1, bundle2, bundle3, bundleB));
+	}
+
+	@Test
+	public void testFindRequirementsClosure_updatedAfterWorkspaceChange() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.b", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a")));
+
+		BundleDescription bundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription bundleB = bundleDescription("bundle.b", "1.0.0");
+
+		Set<BundleDescription> closure = findRequirementsClosure(Set.of(bundleB), INCLUDE_ALL_FRAGMENTS);
+		assertThat(closure).isEqualTo(Set.of(bundleA, bundleB));
+		// results are copies of the cached closure
+		closure.clear();
+
+		BundleDescription fragment = createFragmentProject("bundle.a.fragment", "bundle.a", false);
+
+		closure = findRequirementsClosure(Set.of(bundleB), INCLUDE_ALL_FRAGMENTS);
+		assertThat(closure).isEqualTo(Set.of(bundleA, bundleB, fragment));
+		assertThat(findDependentsClosure(Set.of(bundleA))).isEqualTo(Set.of(bundleA, bundleB, fragment));
+	}
+
 	// --- utility methods ---
 
 	@SafeVarargs
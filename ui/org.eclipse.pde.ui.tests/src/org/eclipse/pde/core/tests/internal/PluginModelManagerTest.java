@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+public class PluginModelManagerTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * The models are returned sorted by id, so everything computed from them,
+	 * e.g. the bundles of a launch, is the same from one run to the next.
+	 */
+	@Test
+	public void testModelsSortedById() throws Exception {
+		List<String> ids = List.of("order.a", "order.b", "order.b.x", "order.c", "order.d", "order.e", "order.f",
+				"order.g", "order.h", "order.i", "order.j", "order.k");
+		Path jarDirectory = folder.newFolder("TPJarDirectory").toPath();
+		Map<NameVersionDescriptor, Map<String, String>> bundles = new LinkedHashMap<>();
+		for (int i = ids.size() - 1; i >= 0; i--) { // added in reverse order
+			Map.Entry<NameVersionDescriptor, Map<String, String>> bundle = bundle(ids.get(i), "1.0.0");
+			bundles.put(bundle.getKey(), bundle.getValue());
+		}
+		TargetPlatformUtil.setDummyBundlesAsTarget(bundles, List.of(), jarDirectory);
+
+		PluginModelManager manager = PluginModelManager.getInstance();
+		assertEquals(ids, ids(manager.getActiveModels()));
+		assertEquals(ids, ids(manager.getAllModels()));
+		// the order is stable
+		assertEquals(ids(manager.getActiveModels()), ids(manager.getActiveModels()));
+	}
+
+	private static List<String> ids(IPluginModelBase[] models) {
+		return Arrays.stream(models).map(m -> m.getPluginBase().getId()).filter(id -> id.startsWith("order."))
+				.toList();
+	}
+}
@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.eclipse.pde.internal.core.search.PluginSearchInput.ELEMENT_EXTENSION_POINT;
+import static org.eclipse.pde.internal.core.search.PluginSearchInput.ELEMENT_FRAGMENT;
+import static org.eclipse.pde.internal.core.search.PluginSearchInput.ELEMENT_PLUGIN;
+import static org.eclipse.pde.internal.core.search.PluginSearchInput.LIMIT_ALL;
+import static org.eclipse.pde.internal.core.search.PluginSearchInput.LIMIT_DECLARATIONS;
+import static org.eclipse.pde.internal.core.search.PluginSearchInput.LIMIT_REFERENCES;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.pde.core.IIdentifiable;
+import org.eclipse.pde.core.plugin.IFragment;
+import org.eclipse.pde.core.plugin.IPlugin;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginObject;
+import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex;
+import org.eclipse.pde.internal.core.search.PluginSearchInput;
+import org.eclipse.pde.internal.core.search.PluginSearchOperation;
+import org.eclipse.pde.internal.core.search.PluginSearchScope;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests that the {@link PluginSearchIndex} does not change the results of a
+ * {@link PluginSearchOperation}: every search is run without the index, with
+ * the index before the models are indexed and with the index once they are.
+ */
+public class PluginSearchOperationTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Before
+	public void setUpTarget() throws Exception {
+		Path plugins = folder.newFolder("target", "plugins").toPath();
+		List<NameVersionDescriptor> bundles = new ArrayList<>();
+		bundles.add(writeBundle(plugins, "search.a", null, null, """
+				<extension-point id="point" name="Point"/>
+				<extension-point id="other" name="Other"/>
+				<extension point="search.a.point"/>
+				"""));
+		bundles.add(writeBundle(plugins, "search.b", null, "search.a", """
+				<extension point="search.a.point"/>
+				<extension point="search.a.other"/>
+				"""));
+		bundles.add(writeBundle(plugins, "search.c", null, null, """
+				<extension-point id="point" name="Point"/>
+				<extension point="unknown.point"/>
+				"""));
+		bundles.add(writeBundle(plugins, "search.a.fragment", "search.a", "search.b", null));
+		writeFeature(plugins.resolveSibling("features"), "search.feature", "included.a", "included.b");
+		TargetPlatformUtil.createAndSetTarget(null,
+				List.of(TargetPlatformUtil.TPS.newDirectoryLocation(plugins.getParent().toString())), bundles);
+	}
+
+	@After
+	public void clearProperty() {
+		System.clearProperty(PluginSearchIndex.PROPERTY);
+	}
+
+	@Test
+	public void testPluginDeclarations() {
+		assertSearch(Set.of("search.a: plugin search.a"), "search.a", ELEMENT_PLUGIN, LIMIT_DECLARATIONS);
+		assertSearch(Set.of("search.a: plugin search.a", "search.b: plugin search.b", "search.c: plugin search.c"),
+				"search.*", ELEMENT_PLUGIN, LIMIT_DECLARATIONS);
+		assertSearch(Set.of("search.b: plugin search.b"), "SEARCH.B", ELEMENT_PLUGIN, LIMIT_DECLARATIONS);
+	}
+
+	@Test
+	public void testPluginReferences() {
+		assertSearch(Set.of("search.a.fragment: fragment search.a.fragment", "search.b: import search.a"),
+				"search.a", ELEMENT_PLUGIN, LIMIT_REFERENCES);
+		assertSearch(Set.of("search.a.fragment: import search.b"), "search.b", ELEMENT_PLUGIN, LIMIT_REFERENCES);
+		assertSearch(Set.of(), "search.c", ELEMENT_PLUGIN, LIMIT_REFERENCES);
+		assertSearch(Set.of("search.a: plugin search.a", "search.b: plugin search.b", "search.c: plugin search.c",
+				"search.a.fragment: fragment search.a.fragment", "search.a.fragment: import search.b",
+				"search.b: import search.a"), "search.?", ELEMENT_PLUGIN, LIMIT_ALL);
+	}
+
+	@Test
+	public void testFragmentDeclarations() {
+		assertSearch(Set.of("search.a.fragment: fragment search.a.fragment"), "search.a.fragment", ELEMENT_FRAGMENT,
+				LIMIT_ALL);
+		assertSearch(Set.of("search.a.fragment: fragment search.a.fragment"), "*", ELEMENT_FRAGMENT, LIMIT_ALL);
+		assertSearch(Set.of(), "search.a", ELEMENT_FRAGMENT, LIMIT_ALL);
+	}
+
+	@Test
+	public void testExtensionPointDeclarations() {
+		assertSearch(Set.of("search.a: extension-point search.a.point"), "search.a.point", ELEMENT_EXTENSION_POINT,
+				LIMIT_DECLARATIONS);
+		assertSearch(Set.of("search.a: extension-point search.a.point", "search.c: extension-point search.c.point"),
+				"*.point", ELEMENT_EXTENSION_POINT, LIMIT_DECLARATIONS);
+		assertSearch(Set.of(), "unknown.point", ELEMENT_EXTENSION_POINT, LIMIT_DECLARATIONS);
+	}
+
+	@Test
+	public void testExtensionPointReferences() {
+		assertSearch(Set.of("search.a: extension search.a.point", "search.b: extension search.a.point"),
+				"search.a.point", ELEMENT_EXTENSION_POINT, LIMIT_REFERENCES);
+		assertSearch(Set.of("search.c: extension unknown.point"), "unknown.point", ELEMENT_EXTENSION_POINT,
+				LIMIT_REFERENCES);
+		assertSearch(Set.of("search.a: extension-point search.a.other", "search.b: extension search.a.other"),
+				"search.a.other", ELEMENT_EXTENSION_POINT, LIMIT_ALL);
+	}
+
+	@Test
+	public void testFeatureReferences() {
+		assertSearch(Set.of("search.feature: plugin included.a"), "included.a", ELEMENT_PLUGIN, LIMIT_REFERENCES);
+		assertSearch(Set.of("search.feature: plugin included.a", "search.feature: plugin included.b"), "included.*",
+				ELEMENT_PLUGIN, LIMIT_ALL);
+		assertSearch(Set.of(), "included.a", ELEMENT_PLUGIN, LIMIT_DECLARATIONS);
+		assertSearch(Set.of(), "search.feature", ELEMENT_PLUGIN, LIMIT_REFERENCES);
+	}
+
+	/**
+	 * Searches all plug-ins, first without the index, then twice with the
+	 * index, so the second search uses the keys computed by the first.
+	 */
+	private static void assertSearch(Set<String> expected, String text, int element, int limit) {
+		System.setProperty(PluginSearchIndex.PROPERTY, Boolean.FALSE.toString());
+		assertEquals("Without index", expected, search(text, element, limit));
+		System.clearProperty(PluginSearchIndex.PROPERTY);
+		assertEquals("With index", expected, search(text, element, limit));
+		assertEquals("With indexed keys", expected, search(text, element, limit));
+	}
+
+	private static Set<String> search(String text, int element, int limit) {
+		PluginSearchInput input = new PluginSearchInput();
+		input.setSearchString(text);
+		input.setCaseSensitive(false);
+		input.setSearchElement(element);
+		input.setSearchLimit(limit);
+		input.setSearchScope(new PluginSearchScope(PluginSearchScope.SCOPE_WORKSPACE,
+				PluginSearchScope.EXTERNAL_SCOPE_ALL, null));
+		Set<String> matches = new TreeSet<>();
+		new PluginSearchOperation(input, match -> matches.add(describe(match))).execute(null);
+		return matches;
+	}
+
+	private static String describe(Object match) {
+		String kind;
+		String id;
+		if (match instanceof IFragment fragment) {
+			kind = "fragment";
+			id = fragment.getId();
+		} else if (match instanceof IPlugin plugin) {
+			kind = "plugin";
+			id = plugin.getId();
+		} else if (match instanceof IPluginImport pluginImport) {
+			kind = "import";
+			id = pluginImport.getId();
+		} else if (match instanceof IPluginExtensionPoint extensionPoint) {
+			kind = "extension-point";
+			id = extensionPoint.getFullId();
+		} else if (match instanceof IPluginExtension extension) {
+			kind = "extension";
+			id = extension.getPoint();
+		} else if (match instanceof IFeaturePlugin plugin) {
+			return plugin.getFeature().getId() + ": plugin " + plugin.getId();
+		} else {
+			kind = match.getClass().getSimpleName();
+			id = ((IIdentifiable) match).getId();
+		}
+		String owner = match instanceof IPluginObject object ? object.getPluginBase().getId() : "?";
+		return owner + ": " + kind + " " + id;
+	}
+
+	/**
+	 * Writes a bundle jar with the given plug-in or fragment extensions.
+	 */
+	private static NameVersionDescriptor writeBundle(Path plugins, String id, String host, String requires,
+			String extensions) throws Exception {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, id + ";singleton:=true");
+		attributes.putValue(Constants.BUNDLE_VERSION, "1.0.0");
+		if (host != null) {
+			attributes.putValue(Constants.FRAGMENT_HOST, host);
+		}
+		if (requires != null) {
+			attributes.putValue(Constants.REQUIRE_BUNDLE, requires);
+		}
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(plugins.resolve(id + "_1.0.0.jar")))) {
+			out.putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+			manifest.write(out);
+			if (extensions != null) {
+				out.putNextEntry(new ZipEntry(host == null ? "plugin.xml" : "fragment.xml"));
+				String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<?eclipse version=\"3.4\"?>\n<plugin>\n"
+						+ extensions + "</plugin>\n";
+				out.write(xml.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		return new NameVersionDescriptor(id, "1.0.0");
+	}
+
+	/**
+	 * Writes a feature directory including the given plug-ins.
+	 */
+	private static void writeFeature(Path features, String id, String... plugins) throws Exception {
+		StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<feature id=\"" + id
+				+ "\" version=\"1.0.0\">\n");
+		for (String plugin : plugins) {
+			xml.append("<plugin id=\"" + plugin + "\" version=\"1.0.0\"/>\n");
+		}
+		xml.append("</feature>\n");
+		Path feature = Files.createDirectories(features.resolve(id + "_1.0.0"));
+		Files.writeString(feature.resolve("feature.xml"), xml);
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.classpath;
+
+import static java.util.Map.entry;
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.osgi.framework.Constants.EXPORT_PACKAGE;
+import static org.osgi.framework.Constants.IMPORT_PACKAGE;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.internal.core.ClasspathRulesCache;
+import org.eclipse.pde.internal.core.PDEClasspathContainer;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests when the {@link ClasspathRulesCache} reuses the access rules of a
+ * bundle and when it computes them again.
+ */
+public class ClasspathRulesCacheTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final ClasspathRulesCache cache = ClasspathRulesCache.getInstance();
+	private final AtomicInteger computations = new AtomicInteger();
+	private final Function<BundleDescription, Map<BundleDescription, List<PDEClasspathContainer.Rule>>> computer = //
+			desc -> {
+				computations.incrementAndGet();
+				return Map.of();
+			};
+
+	@Before
+	public void setupBefore() throws Exception {
+		// ensure PluginModelManager is initialized
+		PluginModelManager.getInstance().getState();
+		setTargetPlatform("target1", //
+				bundle("rules.a", "1.0.0", entry(EXPORT_PACKAGE, "rules.a")), //
+				bundle("rules.b", "1.0.0", entry(IMPORT_PACKAGE, "rules.a")), //
+				bundle("rules.c", "1.0.0", entry(IMPORT_PACKAGE, "rules.a")));
+	}
+
+	@Test
+	public void testReusedForUnchangedState() {
+		BundleDescription b = bundleOfState("rules.b");
+		Map<BundleDescription, List<PDEClasspathContainer.Rule>> rules = cache.getVisiblePackageRules(b, computer);
+		assertSame(rules, cache.getVisiblePackageRules(b, computer));
+		assertEquals(1, computations.get());
+
+		cache.getVisiblePackageRules(bundleOfState("rules.c"), computer);
+		assertEquals(2, computations.get());
+	}
+
+	@Test
+	public void testRecomputedAfterStateChange() {
+		BundleDescription b = bundleOfState("rules.b");
+		BundleDescription c = bundleOfState("rules.c");
+		Map<BundleDescription, List<PDEClasspathContainer.Rule>> rules = cache.getVisiblePackageRules(b, computer);
+		cache.getVisiblePackageRules(c, computer);
+		assertEquals(2, computations.get());
+
+		// a resolver delta only drops the bundles it contains
+		cache.stateResolved(delta(b));
+		assertNotSame(rules, cache.getVisiblePackageRules(b, computer));
+		assertEquals(3, computations.get());
+		cache.getVisiblePackageRules(c, computer);
+		assertEquals(3, computations.get());
+	}
+
+	@Test
+	public void testRecomputedAfterTargetChange() throws Exception {
+		BundleDescription b = bundleOfState("rules.b");
+		cache.getVisiblePackageRules(b, computer);
+		assertEquals(1, computations.get());
+
+		setTargetPlatform("target2", //
+				bundle("rules.a", "1.0.0", entry(EXPORT_PACKAGE, "rules.a")), //
+				bundle("rules.b", "1.0.0", entry(IMPORT_PACKAGE, "rules.a")));
+		BundleDescription newB = bundleOfState("rules.b");
+		assertNotSame(b, newB);
+		cache.getVisiblePackageRules(newB, computer);
+		assertEquals(2, computations.get());
+		cache.getVisiblePackageRules(newB, computer);
+		assertEquals(2, computations.get());
+
+		// the bundle of the previous state is not cached anymore
+		cache.getVisiblePackageRules(b, computer);
+		cache.getVisiblePackageRules(b, computer);
+		assertEquals(4, computations.get());
+	}
+
+	@SafeVarargs
+	private void setTargetPlatform(String name,
+			Map.Entry<NameVersionDescriptor, Map<String, String>>... pluginDescriptions) throws Exception {
+		Path jarDirectory = folder.newFolder(name).toPath();
+		TargetPlatformUtil.setDummyBundlesAsTarget(Map.ofEntries(pluginDescriptions), List.of(), jarDirectory);
+	}
+
+	private static BundleDescription bundleOfState(String id) {
+		return TargetPlatformHelper.getState().getBundle(id, null);
+	}
+
+	private static StateDelta delta(BundleDescription bundle) {
+		BundleDelta bundleDelta = mock(BundleDelta.class);
+		when(bundleDelta.getBundle()).thenReturn(bundle);
+		StateDelta delta = mock(StateDelta.class);
+		when(delta.getChanges()).thenReturn(new BundleDelta[] { bundleDelta });
+		return delta;
+	}
+}
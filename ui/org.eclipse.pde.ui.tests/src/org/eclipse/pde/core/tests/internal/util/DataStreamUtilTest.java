@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.eclipse.pde.internal.core.util.DataStreamUtil;
+import org.junit.Test;
+
+public class DataStreamUtilTest {
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		String large = "äx".repeat(70_000);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			DataStreamUtil.writeString(out, "value");
+			DataStreamUtil.writeString(out, null);
+			DataStreamUtil.writeString(out, "");
+			DataStreamUtil.writeString(out, large);
+			DataStreamUtil.writeBytes(out, new byte[] { 1, 2, 3 });
+			out.writeInt(42);
+		}
+		try (DataInputStream in = input(bytes.toByteArray())) {
+			assertEquals("value", DataStreamUtil.readString(in));
+			assertNull(DataStreamUtil.readString(in));
+			assertEquals("", DataStreamUtil.readString(in));
+			assertEquals(large, DataStreamUtil.readString(in));
+			assertArrayEquals(new byte[] { 1, 2, 3 }, DataStreamUtil.readBytes(in));
+			assertEquals(42, DataStreamUtil.readCount(in));
+		}
+	}
+
+	@Test
+	public void testCorruptLength() throws Exception {
+		assertThrows(IOException.class, () -> DataStreamUtil.readString(input(intBytes(-2))));
+		assertThrows(IOException.class, () -> DataStreamUtil.readBytes(input(intBytes(-1))));
+		// a huge length must fail at the end of the stream instead of allocating it
+		assertThrows(IOException.class, () -> DataStreamUtil.readString(input(intBytes(Integer.MAX_VALUE))));
+		assertThrows(IOException.class, () -> DataStreamUtil.readBytes(input(intBytes(Integer.MAX_VALUE - 8))));
+	}
+
+	@Test
+	public void testCorruptCount() throws Exception {
+		assertThrows(IOException.class, () -> DataStreamUtil.readCount(input(intBytes(-1))));
+		assertThrows(IOException.class,
+				() -> DataStreamUtil.readCount(input(intBytes(DataStreamUtil.MAX_COUNT + 1))));
+		assertEquals(DataStreamUtil.MAX_COUNT, DataStreamUtil.readCount(input(intBytes(DataStreamUtil.MAX_COUNT))));
+	}
+
+	private static byte[] intBytes(int value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(value);
+			out.write(new byte[100]);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static DataInputStream input(byte[] bytes) {
+		return new DataInputStream(new ByteArrayInputStream(bytes));
+	}
+}
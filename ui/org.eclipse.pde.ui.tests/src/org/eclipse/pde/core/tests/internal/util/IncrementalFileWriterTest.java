@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.util;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+
+import org.eclipse.pde.internal.core.util.IncrementalFileWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IncrementalFileWriterTest {
+
+	private static final String NL = System.lineSeparator();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testUnchangedWriteSkipped() throws Exception {
+		Path file = folder.getRoot().toPath().resolve("config.ini");
+		assertTrue(IncrementalFileWriter.write(file, bytes("a=1")));
+		FileTime modified = FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() - 10_000);
+		Files.setLastModifiedTime(file, modified);
+
+		assertFalse(IncrementalFileWriter.write(file, bytes("a=1")));
+		assertEquals(modified, Files.getLastModifiedTime(file));
+
+		assertTrue(IncrementalFileWriter.write(file, bytes("a=2")));
+		assertArrayEquals(bytes("a=2"), Files.readAllBytes(file));
+	}
+
+	@Test
+	public void testExternallyChangedFile() throws Exception {
+		Path file = folder.getRoot().toPath().resolve("config.ini");
+		assertTrue(IncrementalFileWriter.write(file, bytes("a=1")));
+
+		// same size, so only the time stamp tells that the file changed
+		FileTime modified = Files.getLastModifiedTime(file);
+		Files.write(file, bytes("a=2"));
+		Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 10_000));
+		assertTrue(IncrementalFileWriter.write(file, bytes("a=1")));
+		assertArrayEquals(bytes("a=1"), Files.readAllBytes(file));
+
+		// changed to the new content by someone else, nothing to write
+		Files.write(file, bytes("a=3"));
+		Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 20_000));
+		assertFalse(IncrementalFileWriter.write(file, bytes("a=3")));
+
+		Files.delete(file);
+		assertTrue(IncrementalFileWriter.write(file, bytes("a=3")));
+		assertArrayEquals(bytes("a=3"), Files.readAllBytes(file));
+	}
+
+	@Test
+	public void testReplace() throws Exception {
+		Path file = folder.getRoot().toPath().resolve("dev.properties");
+		Path tmp = folder.getRoot().toPath().resolve("dev.properties.tmp");
+		Files.write(tmp, bytes("a=1"));
+		assertTrue(IncrementalFileWriter.replace(tmp, file));
+		assertFalse(Files.exists(tmp));
+
+		Files.write(tmp, bytes("a=1"));
+		assertFalse(IncrementalFileWriter.replace(tmp, file));
+		assertFalse(Files.exists(tmp));
+		assertArrayEquals(bytes("a=1"), Files.readAllBytes(file));
+
+		// nothing generated, the file is deleted
+		assertTrue(IncrementalFileWriter.replace(tmp, file));
+		assertFalse(Files.exists(file));
+	}
+
+	@Test
+	public void testToBytesWithoutComment() throws Exception {
+		Properties properties = properties();
+		byte[] bytes = IncrementalFileWriter.toBytes(properties, null);
+		assertEquals("a=1" + NL, new String(bytes, ISO_8859_1));
+		assertEquals(properties, load(bytes));
+	}
+
+	@Test
+	public void testToBytesWithEmptyComment() throws Exception {
+		Properties properties = properties();
+		byte[] bytes = IncrementalFileWriter.toBytes(properties, "");
+		assertEquals("#" + NL + "a=1" + NL, new String(bytes, ISO_8859_1));
+		assertEquals(properties, load(bytes));
+	}
+
+	@Test
+	public void testToBytesWithComment() throws Exception {
+		Properties properties = properties();
+		byte[] bytes = IncrementalFileWriter.toBytes(properties, "Configuration File");
+		assertEquals("#Configuration File" + NL + "a=1" + NL, new String(bytes, ISO_8859_1));
+		assertEquals(properties, load(bytes));
+		// the content does not depend on the time it was created
+		assertArrayEquals(bytes, IncrementalFileWriter.toBytes(properties, "Configuration File"));
+	}
+
+	private static Properties properties() {
+		Properties properties = new Properties();
+		properties.setProperty("a", "1");
+		return properties;
+	}
+
+	private static Properties load(byte[] bytes) throws Exception {
+		Properties properties = new Properties();
+		properties.load(new ByteArrayInputStream(bytes));
+		return properties;
+	}
+
+	private static byte[] bytes(String content) {
+		return content.getBytes(ISO_8859_1);
+	}
+}
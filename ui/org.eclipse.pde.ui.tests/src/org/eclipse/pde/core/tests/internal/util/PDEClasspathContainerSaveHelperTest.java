@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IAccessRule;
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IClasspathContainer;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.internal.core.ClasspathContainerState;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.util.DataStreamUtil;
+import org.eclipse.pde.internal.core.util.PDEClasspathContainerSaveHelper;
+import org.junit.Test;
+
+public class PDEClasspathContainerSaveHelperTest {
+
+	private static final IAccessRule ACCESSIBLE = JavaCore.newAccessRule(IPath.fromPortableString("org/example/api/*"),
+			IAccessRule.K_ACCESSIBLE);
+	private static final IAccessRule DISCOURAGED = JavaCore.newAccessRule(
+			IPath.fromPortableString("org/example/internal/*"),
+			IAccessRule.K_DISCOURAGED | IAccessRule.IGNORE_IF_BETTER);
+	private static final IAccessRule NON_ACCESSIBLE = JavaCore.newAccessRule(IPath.fromPortableString("**/*"),
+			IAccessRule.K_NON_ACCESSIBLE);
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		IClasspathEntry[] entries = createEntries();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		PDEClasspathContainerSaveHelper.writeContainerEntries(entries, out);
+		IClasspathContainer container = PDEClasspathContainerSaveHelper
+				.readContainer(new ByteArrayInputStream(out.toByteArray()));
+
+		IClasspathEntry[] restored = container.getClasspathEntries();
+		assertArrayEquals(entries, restored);
+		assertFalse(PDEClasspathContainerSaveHelper.isLegacyFormat(container));
+		// equal access rules are shared between entries
+		assertSame(restored[1].getAccessRules()[0], restored[2].getAccessRules()[0]);
+	}
+
+	@Test
+	public void testLongStrings() throws Exception {
+		IClasspathAttribute attribute = JavaCore.newClasspathAttribute("long", "x".repeat(100_000));
+		IClasspathEntry[] entries = { JavaCore.newLibraryEntry(IPath.fromPortableString("/target/plugins/a.jar"), null,
+				null, new IAccessRule[0], new IClasspathAttribute[] { attribute }, false) };
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		PDEClasspathContainerSaveHelper.writeContainerEntries(entries, out);
+		IClasspathContainer container = PDEClasspathContainerSaveHelper
+				.readContainer(new ByteArrayInputStream(out.toByteArray()));
+		assertArrayEquals(entries, container.getClasspathEntries());
+	}
+
+	@Test
+	public void testTruncated() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		PDEClasspathContainerSaveHelper.writeContainerEntries(createEntries(), out);
+		byte[] content = out.toByteArray();
+		for (int length = 0; length < content.length; length++) {
+			byte[] truncated = Arrays.copyOf(content, length);
+			assertThrows(IOException.class,
+					() -> PDEClasspathContainerSaveHelper.readContainer(new ByteArrayInputStream(truncated)));
+		}
+	}
+
+	@Test
+	public void testCorruptCounts() throws Exception {
+		assertCorrupt(out -> out.writeInt(-1)); // strings
+		assertCorrupt(out -> out.writeInt(Integer.MAX_VALUE));
+		assertCorrupt(out -> {
+			writeStrings(out, "/a.jar");
+			out.writeInt(-1); // entries
+		});
+		assertCorrupt(out -> {
+			writeLibraryEntryStart(out, 0);
+			out.writeInt(-1); // access rules
+		});
+		assertCorrupt(out -> {
+			writeLibraryEntryStart(out, 0);
+			out.writeInt(0);
+			out.writeInt(Integer.MAX_VALUE); // attributes
+		});
+	}
+
+	@Test
+	public void testCorruptIndices() throws Exception {
+		assertCorrupt(out -> writeLibraryEntryStart(out, 1)); // path
+		assertCorrupt(out -> writeLibraryEntryStart(out, -2));
+		assertCorrupt(out -> {
+			writeLibraryEntryStart(out, 0);
+			out.writeInt(1);
+			out.writeInt(7); // access rule pattern
+			out.writeInt(IAccessRule.K_ACCESSIBLE);
+		});
+		assertCorrupt(out -> {
+			writeLibraryEntryStart(out, 0);
+			out.writeInt(0);
+			out.writeInt(1);
+			out.writeInt(0);
+			out.writeInt(3); // attribute value
+		});
+	}
+
+	private interface Content {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	/**
+	 * Asserts that a container file with a valid header followed by the given
+	 * content is rejected.
+	 */
+	private static void assertCorrupt(Content content) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(0x50444543); // magic
+			out.writeInt(2); // format version
+			content.write(out);
+		}
+		assertThrows(IOException.class,
+				() -> PDEClasspathContainerSaveHelper.readContainer(new ByteArrayInputStream(bytes.toByteArray())));
+	}
+
+	private static void writeStrings(DataOutputStream out, String... strings) throws IOException {
+		out.writeInt(strings.length);
+		for (String string : strings) {
+			DataStreamUtil.writeString(out, string);
+		}
+	}
+
+	/**
+	 * Writes a single string and the start of a single library entry, up to
+	 * its access rules.
+	 */
+	private static void writeLibraryEntryStart(DataOutputStream out, int pathIndex) throws IOException {
+		writeStrings(out, "/a.jar");
+		out.writeInt(1);
+		out.writeByte(IClasspathEntry.CPE_LIBRARY);
+		out.writeInt(pathIndex);
+		out.writeBoolean(false);
+	}
+
+	@Test
+	public void testReadLegacyFormat() throws Exception {
+		IClasspathEntry[] entries = createEntries();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writeLegacyContainer(entries, out);
+		IClasspathContainer container = PDEClasspathContainerSaveHelper
+				.readContainer(new ByteArrayInputStream(out.toByteArray()));
+
+		assertArrayEquals(entries, container.getClasspathEntries());
+		assertTrue(PDEClasspathContainerSaveHelper.isLegacyFormat(container));
+	}
+
+	@Test
+	public void testLegacyFormatRejectsOtherTypes() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ObjectOutputStream os = new ObjectOutputStream(out)) {
+			os.writeObject(new Date());
+		}
+		assertThrows(InvalidClassException.class,
+				() -> PDEClasspathContainerSaveHelper.readContainer(new ByteArrayInputStream(out.toByteArray())));
+	}
+
+	/**
+	 * A saved state in the legacy format is restored and rewritten in the
+	 * current format.
+	 */
+	@Test
+	public void testLegacyStateMigrated() throws Exception {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject("legacy.container.state");
+		File stateFile = PDECore.getDefault().getStateLocation().append("cpc").append(project.getName()).toFile();
+		stateFile.getParentFile().mkdirs();
+		IClasspathEntry[] entries = createEntries();
+		try {
+			try (OutputStream out = Files.newOutputStream(stateFile.toPath())) {
+				writeLegacyContainer(entries, out);
+			}
+			byte[] legacy = Files.readAllBytes(stateFile.toPath());
+
+			Method readState = ClasspathContainerState.class.getDeclaredMethod("readState", IProject.class);
+			readState.setAccessible(true);
+			IClasspathContainer restored = (IClasspathContainer) readState.invoke(null, project);
+			assertArrayEquals(entries, restored.getClasspathEntries());
+
+			assertFalse(Arrays.equals(legacy, Files.readAllBytes(stateFile.toPath())));
+			try (InputStream in = Files.newInputStream(stateFile.toPath())) {
+				IClasspathContainer migrated = PDEClasspathContainerSaveHelper.readContainer(in);
+				assertFalse(PDEClasspathContainerSaveHelper.isLegacyFormat(migrated));
+				assertArrayEquals(entries, migrated.getClasspathEntries());
+			}
+		} finally {
+			Files.deleteIfExists(stateFile.toPath());
+		}
+	}
+
+	private static IClasspathEntry[] createEntries() {
+		IClasspathAttribute attribute = JavaCore.newClasspathAttribute("javadoc_location", "file:/doc");
+		return new IClasspathEntry[] {
+				JavaCore.newProjectEntry(IPath.fromPortableString("/project.a"),
+						new IAccessRule[] { ACCESSIBLE, NON_ACCESSIBLE }, false, new IClasspathAttribute[0], false),
+				JavaCore.newLibraryEntry(IPath.fromPortableString("/target/plugins/b.jar"),
+						IPath.fromPortableString("/target/plugins/b.source.jar"), null,
+						new IAccessRule[] { ACCESSIBLE, DISCOURAGED, NON_ACCESSIBLE },
+						new IClasspathAttribute[] { attribute }, true),
+				JavaCore.newLibraryEntry(IPath.fromPortableString("/target/plugins/c.jar"), null, null,
+						new IAccessRule[] { ACCESSIBLE, NON_ACCESSIBLE }, new IClasspathAttribute[0], false), };
+	}
+
+	/**
+	 * Writes the given entries like previous versions did, with Java
+	 * serialization of the replacement types of the save helper.
+	 */
+	private static void writeLegacyContainer(IClasspathEntry[] entries, OutputStream output) throws Exception {
+		Constructor<?> project = replacement("ProjectEntryReplace", IClasspathEntry.class);
+		Constructor<?> library = replacement("LibraryEntryReplace", IClasspathEntry.class);
+		Constructor<?> attribute = replacement("ClasspathAttributeReplace", IClasspathAttribute.class);
+		Constructor<?> accessRule = replacement("AccessRuleReplace", IAccessRule.class);
+		Constructor<?> path = replacement("PathReplace", IPath.class);
+		try (ObjectOutputStream os = new ObjectOutputStream(output) {
+			{
+				enableReplaceObject(true);
+			}
+
+			@Override
+			protected Object replaceObject(Object o) throws IOException {
+				try {
+					if (o instanceof IClasspathEntry e) {
+						return (e.getEntryKind() == IClasspathEntry.CPE_PROJECT ? project : library).newInstance(e);
+					} else if (o instanceof IClasspathAttribute a) {
+						return attribute.newInstance(a);
+					} else if (o instanceof IAccessRule r) {
+						return accessRule.newInstance(r);
+					} else if (o instanceof IPath p) {
+						return path.newInstance(p);
+					}
+				} catch (ReflectiveOperationException e) {
+					throw new IOException(e);
+				}
+				return super.replaceObject(o);
+			}
+		}) {
+			os.writeObject(PDEClasspathContainerSaveHelper.containerOf(entries));
+		}
+	}
+
+	private static Constructor<?> replacement(String name, Class<?> parameter) throws Exception {
+		Class<?> type = Class.forName(PDEClasspathContainerSaveHelper.class.getName() + '$' + name, true,
+				PDEClasspathContainerSaveHelper.class.getClassLoader());
+		Constructor<?> constructor = type.getDeclaredConstructor(parameter);
+		constructor.setAccessible(true);
+		return constructor;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,11 @@ package org.eclipse.pde.ui.tests;
 
 import org.eclipse.pde.core.tests.internal.AllPDECoreTests;
 import org.eclipse.pde.core.tests.internal.classpath.ClasspathResolutionTest;
+import org.eclipse.pde.core.tests.internal.classpath.ClasspathRulesCacheTest;
 import org.eclipse.pde.core.tests.internal.core.builders.BundleErrorReporterTest;
+import org.eclipse.pde.core.tests.internal.util.DataStreamUtilTest;
+import org.eclipse.pde.core.tests.internal.util.IncrementalFileWriterTest;
+import org.eclipse.pde.core.tests.internal.util.PDEClasspathContainerSaveHelperTest;
 import org.eclipse.pde.core.tests.internal.util.PDESchemaHelperTest;
 import org.eclipse.pde.ui.tests.build.properties.AllValidatorTests;
 import org.eclipse.pde.ui.tests.classpathcontributor.ClasspathContributorTest;
@@ -33,6 +37,8 @@ import org.eclipse.pde.ui.tests.project.DynamicPluginProjectReferencesTest;
 import org.eclipse.pde.ui.tests.project.PluginRegistryTests;
 import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
 import org.eclipse.pde.ui.tests.runtime.AllPDERuntimeTests;
+import org.eclipse.pde.ui.tests.spy.event.CapturedEventBufferTest;
+import org.eclipse.pde.ui.tests.spy.event.CapturedEventFilterMatcherTest;
 import org.eclipse.pde.ui.tests.target.AllTargetTests;
 import org.eclipse.pde.ui.tests.views.log.AllLogViewTests;
 import org.eclipse.pde.ui.tests.wizards.AllNewProjectTests;
@@ -54,15 +60,21 @@ import org.junit.platform.suite.api.Suite;
 	ExportBundleTests.class, //
 	AllLauncherTests.class, //
 	AllLogViewTests.class, //
+	CapturedEventBufferTest.class, //
+	CapturedEventFilterMatcherTest.class, //
 	ProjectCreationTests.class, //
 	BundleRootTests.class, //
 	PluginRegistryTests.class, //
 	ClasspathResolverTest.class, //
 	ClasspathUpdaterTest.class, //
 	PDESchemaHelperTest.class, //
+	PDEClasspathContainerSaveHelperTest.class, //
+	DataStreamUtilTest.class, //
+	IncrementalFileWriterTest.class, //
 	ClasspathContributorTest.class, //
 	DynamicPluginProjectReferencesTest.class, //
 	ClasspathResolutionTest.class, //
+	ClasspathRulesCacheTest.class, //
 	BundleErrorReporterTest.class, //
 	AllPDECoreTests.class, //
 	ProjectSmartImportTest.class, //
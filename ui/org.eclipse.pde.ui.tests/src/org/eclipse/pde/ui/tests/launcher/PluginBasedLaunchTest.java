@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2021, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2021, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -105,6 +105,33 @@ public class PluginBasedLaunchTest extends AbstractLaunchTest {
 		assertGetMergedBundleMap(workspacePlugins, targetPlatformBundles, launchConfigSetup, expectedBundleMap);
 	}
 
+	@Test
+	public void testGetMergedBundleMap_repeatedAndAfterWorkspaceChange() throws Exception {
+		var workspacePlugins = ofEntries( //
+				bundle("plugin.a", "1.0.0"));
+		var targetPlatformBundles = ofEntries( //
+				bundle("plugin.f", "1.0.0"));
+		setUpWorkspace(workspacePlugins, targetPlatformBundles);
+
+		ILaunchConfigurationWorkingCopy wc = createPluginLaunchConfig("plugin-based-Eclipse-app");
+		wc.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES, Set.of("plugin.a", "plugin.b"));
+		wc.setAttribute(IPDELauncherConstants.SELECTED_TARGET_BUNDLES, Set.of("plugin.f"));
+
+		Map<IPluginModelBase, String> bundleMap = BundleLauncherHelper.getMergedBundleMap(wc, false);
+		assertEquals(2, bundleMap.size());
+		// modifying the result must not affect subsequent calls
+		bundleMap.clear();
+		assertEquals(2, BundleLauncherHelper.getMergedBundleMap(wc, false).size());
+
+		ProjectUtils.createWorkspacePluginProjects(ofEntries(bundle("plugin.b", "1.0.0")));
+
+		Map<IPluginModelBase, String> expectedPluginMap = Map.of( //
+				workspaceBundle("plugin.a", "1.0.0").findModel(), "default:default", //
+				workspaceBundle("plugin.b", "1.0.0").findModel(), "default:default", //
+				targetBundle("plugin.f", "1.0.0").findModel(), "default:default");
+		assertPluginMapsEquals(null, expectedPluginMap, BundleLauncherHelper.getMergedBundleMap(wc, false));
+	}
+
 	@Test
 	public void testGetMergedBundleMap_mixedPluginsFromWorkspaceAndTarget_specificTargetVersion() throws Exception {
 		var workspacePlugins = ofEntries( //
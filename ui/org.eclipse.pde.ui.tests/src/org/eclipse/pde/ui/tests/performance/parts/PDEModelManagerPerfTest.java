@@ -13,11 +13,27 @@
  *******************************************************************************/
 package org.eclipse.pde.ui.tests.performance.parts;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.pde.core.IModel;
+import org.eclipse.pde.core.IModelProviderEvent;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.ModelProviderEvent;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelManager;
 import org.eclipse.test.performance.PerformanceTestCase;
 
 public class PDEModelManagerPerfTest extends PerformanceTestCase {
 
+	private static final int READER_THREADS = 8;
+	private static final int LOOKUPS_PER_THREAD = 20000;
+
 	@Override
 	protected void setUp() throws Exception {
 		super.setUp();
@@ -33,4 +49,61 @@ public class PDEModelManagerPerfTest extends PerformanceTestCase {
 		commitMeasurements();
 		assertPerformance();
 	}
+
+	/**
+	 * Measures concurrent model lookups while another thread keeps sending
+	 * model change events to the manager.
+	 */
+	public void testConcurrentLookups() throws Exception {
+		PluginModelManager manager = PDECore.getDefault().getModelManager();
+		IPluginModelBase[] models = manager.getExternalModels();
+		assertTrue("No target models available", models.length > 0); //$NON-NLS-1$
+		String[] ids = new String[models.length];
+		for (int i = 0; i < models.length; i++) {
+			ids[i] = models[i].getPluginBase().getId();
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(READER_THREADS + 1);
+		try {
+			for (int run = 0; run < 10; run++) {
+				AtomicBoolean done = new AtomicBoolean();
+				startMeasuring();
+				Future<?> writer = executor.submit(() -> {
+					int i = 0;
+					while (!done.get()) {
+						IModel changed = models[i++ % models.length];
+						manager.modelsChanged(new ModelProviderEvent(this, IModelProviderEvent.MODELS_CHANGED, null,
+								null, new IModel[] { changed }));
+					}
+				});
+				try {
+					List<Future<?>> readers = new ArrayList<>();
+					for (int t = 0; t < READER_THREADS; t++) {
+						int offset = t;
+						readers.add(executor.submit(() -> {
+							for (int i = 0; i < LOOKUPS_PER_THREAD; i++) {
+								String id = ids[(i + offset) % ids.length];
+								assertNotNull(manager.findEntry(id));
+								assertNotNull(manager.findModel(id));
+								if (i % 1000 == 0) {
+									manager.getActiveModels();
+								}
+							}
+						}));
+					}
+					for (Future<?> reader : readers) {
+						reader.get(5, TimeUnit.MINUTES);
+					}
+					stopMeasuring();
+				} finally {
+					// stop the writer even if a reader failed
+					done.set(true);
+				}
+				writer.get(5, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
 }
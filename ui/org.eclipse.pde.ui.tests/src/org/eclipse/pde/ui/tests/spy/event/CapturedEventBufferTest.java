@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.spy.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.pde.spy.event.internal.core.CapturedEventBuffer;
+import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
+import org.junit.Test;
+
+public class CapturedEventBufferTest {
+
+	@Test
+	public void testDrainInOrder() {
+		CapturedEventBuffer buffer = new CapturedEventBuffer(3);
+		List<CapturedEvent> events = events(2);
+		assertTrue(buffer.add(events.get(0)));
+		assertFalse(buffer.add(events.get(1)));
+
+		assertEquals(events, buffer.drain());
+		assertEquals(List.of(), buffer.drain());
+	}
+
+	@Test
+	public void testWrapAround() {
+		CapturedEventBuffer buffer = new CapturedEventBuffer(3);
+		List<CapturedEvent> events = events(5);
+		assertTrue(buffer.add(events.get(0)));
+		for (CapturedEvent event : events.subList(1, 5)) {
+			assertFalse(buffer.add(event));
+		}
+
+		// the two oldest events were overwritten
+		assertEquals(events.subList(2, 5), buffer.drain());
+
+		// a drain has to be scheduled again after the buffer was drained
+		List<CapturedEvent> more = events(4);
+		assertTrue(buffer.add(more.get(0)));
+		for (CapturedEvent event : more.subList(1, 4)) {
+			assertFalse(buffer.add(event));
+		}
+		assertEquals(more.subList(1, 4), buffer.drain());
+	}
+
+	@Test
+	public void testClear() {
+		CapturedEventBuffer buffer = new CapturedEventBuffer(3);
+		List<CapturedEvent> events = events(4);
+		events.forEach(buffer::add);
+		buffer.clear();
+
+		assertEquals(List.of(), buffer.drain());
+		assertTrue(buffer.add(events.get(0)));
+		assertEquals(events.subList(0, 1), buffer.drain());
+	}
+
+	private static List<CapturedEvent> events(int count) {
+		return IntStream.range(0, count).mapToObj(i -> {
+			CapturedEvent event = new CapturedEvent();
+			event.setTopic("topic/" + i);
+			return event;
+		}).toList();
+	}
+}
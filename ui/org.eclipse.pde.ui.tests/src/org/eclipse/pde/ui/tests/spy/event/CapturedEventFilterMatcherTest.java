@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.spy.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.e4.ui.workbench.UIEvents;
+import org.eclipse.pde.spy.event.internal.core.CapturedEventFilterMatcher;
+import org.eclipse.pde.spy.event.internal.core.EventMonitor;
+import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
+import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
+import org.eclipse.pde.spy.event.internal.model.Operator;
+import org.junit.Test;
+import org.osgi.service.event.Event;
+
+/**
+ * Tests that filters evaluated on the raw event, before it is captured, match
+ * the same events as on the captured event.
+ */
+public class CapturedEventFilterMatcherTest {
+
+	private static final String PUBLISHER = "org.example.Publisher (publish:42)";
+
+	private static final List<Event> EVENTS = List.of( //
+			new Event("org/eclipse/e4/ui/model/ui/UIElement/widget/SET",
+					Map.of(UIEvents.EventTags.ELEMENT, "element", UIEvents.EventTags.NEW_VALUE, 42)),
+			new Event("org/eclipse/e4/ui/model/ui/ElementContainer/children/ADD",
+					Map.of(UIEvents.EventTags.ELEMENT, new StringBuilder("builder"), UIEvents.EventTags.NEW_VALUE, "")),
+			new Event("org/example/topic", Map.of("name", "value")), //
+			new Event("org/example/empty", Map.of()));
+
+	private static final List<String> VALUES = List.of("", "org", "org/example/topic", "element",
+			"java.lang.String", UIEvents.EventTags.ELEMENT, "name", "value", "42", "org.example.Publisher");
+
+	private static final List<String> NAME_AND_VALUES = List.of("name=value", "name=other",
+			UIEvents.EventTags.NEW_VALUE + "=42", UIEvents.EventTags.ELEMENT + "=element");
+
+	private final CapturedEventFilterMatcher matcher = new CapturedEventFilterMatcher();
+
+	@Test
+	public void testRawEventMatchesCapturedEvent() {
+		for (Event event : EVENTS) {
+			CapturedEvent captured = EventMonitor.capture(event, PUBLISHER);
+			for (ItemToFilter item : ItemToFilter.values()) {
+				if (item == ItemToFilter.NotSelected) {
+					continue;
+				}
+				for (Operator operator : Operator.values()) {
+					if (operator == Operator.NotSelected) {
+						continue;
+					}
+					for (String value : item == ItemToFilter.ParameterNameAndValue ? NAME_AND_VALUES : VALUES) {
+						CapturedEventFilter filter = new CapturedEventFilter(item, operator, value);
+						assertEquals(event.getTopic() + ": " + filter, matcher.matches(captured, filter),
+								matcher.matches(event, () -> PUBLISHER, filter));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testChangedElement() {
+		CapturedEventFilter isString = new CapturedEventFilter(ItemToFilter.ChangedElement, Operator.Equals,
+				String.class.getName());
+		Event withElement = EVENTS.get(0);
+		assertTrue(matcher.matches(EventMonitor.capture(withElement, PUBLISHER), isString));
+		assertTrue(matcher.matches(withElement, () -> PUBLISHER, isString));
+
+		Event withoutElement = EVENTS.get(2);
+		CapturedEventFilter hasElement = new CapturedEventFilter(ItemToFilter.ChangedElement, Operator.Contains, ".");
+		assertFalse(matcher.matches(EventMonitor.capture(withoutElement, PUBLISHER), hasElement));
+		assertFalse(matcher.matches(withoutElement, () -> PUBLISHER, hasElement));
+	}
+
+	@Test
+	public void testPublisherOnlyComputedForPublisherFilter() {
+		AtomicInteger calls = new AtomicInteger();
+		Supplier<String> publisher = () -> {
+			calls.incrementAndGet();
+			return PUBLISHER;
+		};
+		Event event = EVENTS.get(2);
+		matcher.matches(event, publisher, new CapturedEventFilter(ItemToFilter.Topic, Operator.Equals, "org"));
+		assertEquals(0, calls.get());
+		assertTrue(matcher.matches(event, publisher,
+				new CapturedEventFilter(ItemToFilter.Publisher, Operator.StartsWith, "org.example")));
+		assertEquals(1, calls.get());
+	}
+}
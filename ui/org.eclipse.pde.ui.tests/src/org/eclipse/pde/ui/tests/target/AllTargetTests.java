@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,8 +23,11 @@ import org.junit.platform.suite.api.Suite;
 		WorkspaceTargetDefinitionTests.class, //
 		TargetDefinitionPersistenceTests.class, //
 		TargetDefinitionResolutionTests.class, //
+		TargetDefinitionParallelResolutionTests.class, //
 		TargetDefinitionFeatureResolutionTests.class, //
 		IUBundleContainerTests.class, //
+		MetadataRepositoryLoadingTests.class, //
+		TargetResolutionCacheTests.class, //
 		ProfileContainerTests.class })
 public class AllTargetTests {
 
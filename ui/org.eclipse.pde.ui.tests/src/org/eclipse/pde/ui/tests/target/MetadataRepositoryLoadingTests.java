@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.equinox.p2.repository.IRepository;
+import org.eclipse.equinox.p2.repository.IRepositoryReference;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepositoryManager;
+import org.eclipse.equinox.p2.repository.spi.RepositoryReference;
+import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that metadata repositories and their references are loaded
+ * concurrently without changing the result of a sequential traversal.
+ */
+public class MetadataRepositoryLoadingTests {
+
+	private static final String LOAD_THREADS = "pde.target.repositoryLoadThreads";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final Map<String, URI> repositories = new LinkedHashMap<>();
+
+	/**
+	 * Creates local repositories with the following references, so
+	 * <code>c</code> is referenced twice:
+	 *
+	 * <pre>
+	 * a -&gt; c, d
+	 * b -&gt; c
+	 * c -&gt; e
+	 * </pre>
+	 */
+	@Before
+	public void createRepositories() throws Exception {
+		for (String name : List.of("e", "d", "c", "b", "a")) {
+			repositories.put(name, folder.newFolder(name).toURI());
+		}
+		createRepository("e");
+		createRepository("d");
+		createRepository("c", "e");
+		createRepository("b", "c");
+		createRepository("a", "c", "d");
+	}
+
+	@After
+	public void removeRepositories() throws Exception {
+		IMetadataRepositoryManager manager = P2TargetUtils.getRepoManager();
+		for (URI location : repositories.values()) {
+			manager.removeRepository(location);
+		}
+		System.clearProperty(LOAD_THREADS);
+	}
+
+	@Test
+	public void testReferencesLoadedOnce() throws Exception {
+		List<URI> locations = load(true);
+		assertEquals(5, locations.size());
+		assertEquals(5, new HashSet<>(locations).size());
+		assertEquals(List.of(repositories.get("a"), repositories.get("b")), locations.subList(0, 2));
+	}
+
+	@Test
+	public void testReferencesNotFollowed() throws Exception {
+		assertEquals(List.of(repositories.get("a"), repositories.get("b")), load(false));
+	}
+
+	@Test
+	public void testOrderMatchesSequentialTraversal() throws Exception {
+		List<URI> expected = traverse();
+		for (int i = 0; i < 10; i++) {
+			assertEquals(expected, load(true));
+		}
+		System.setProperty(LOAD_THREADS, "1");
+		assertEquals(expected, load(true));
+	}
+
+	private List<URI> load(boolean followReferences) throws Exception {
+		List<URI> locations = new ArrayList<>();
+		for (IMetadataRepository repository : P2TargetUtils.loadMetadataRepositories(
+				List.of(repositories.get("a"), repositories.get("b")), followReferences, false, null)) {
+			locations.add(repository.getLocation());
+		}
+		return locations;
+	}
+
+	/**
+	 * @return the repositories in the order of a sequential depth first
+	 *         traversal of the references
+	 */
+	private List<URI> traverse() throws Exception {
+		IMetadataRepositoryManager manager = P2TargetUtils.getRepoManager();
+		List<URI> result = new ArrayList<>();
+		List<IMetadataRepository> roots = List.of(manager.loadRepository(repositories.get("a"), null),
+				manager.loadRepository(repositories.get("b"), null));
+		for (IMetadataRepository root : roots) {
+			result.add(root.getLocation());
+		}
+		Set<IRepositoryReference> seen = new HashSet<>();
+		for (IMetadataRepository root : roots) {
+			traverse(manager, root, seen, result);
+		}
+		return result;
+	}
+
+	private void traverse(IMetadataRepositoryManager manager, IMetadataRepository repository,
+			Set<IRepositoryReference> seen, List<URI> result) throws Exception {
+		for (IRepositoryReference reference : repository.getReferences()) {
+			if (seen.add(reference)) {
+				IMetadataRepository referenced = manager.loadRepository(reference.getLocation(), null);
+				result.add(referenced.getLocation());
+				traverse(manager, referenced, seen, result);
+			}
+		}
+	}
+
+	private void createRepository(String name, String... references) throws Exception {
+		IMetadataRepositoryManager manager = P2TargetUtils.getRepoManager();
+		IMetadataRepository repository = manager.createRepository(repositories.get(name), name,
+				IMetadataRepositoryManager.TYPE_SIMPLE_REPOSITORY, Map.of());
+		List<IRepositoryReference> referenced = new ArrayList<>();
+		for (String reference : references) {
+			referenced.add(new RepositoryReference(repositories.get(reference), null, IRepository.TYPE_METADATA,
+					IRepository.ENABLED));
+		}
+		repository.addReferences(referenced);
+	}
+}
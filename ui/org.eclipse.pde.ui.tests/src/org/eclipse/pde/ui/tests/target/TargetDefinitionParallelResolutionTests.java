@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.core.target.TargetFeature;
+import org.eclipse.pde.internal.core.target.AbstractBundleContainer;
+import org.eclipse.pde.internal.core.target.TargetReferenceBundleContainer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that independent locations of a target definition are resolved
+ * concurrently without changing the reported result.
+ */
+public class TargetDefinitionParallelResolutionTests extends AbstractTargetTest {
+
+	private static final String RESOLVE_THREADS = "pde.target.resolveThreads";
+	private static final long TIMEOUT = 10;
+
+	@Before
+	public void setThreads() {
+		System.setProperty(RESOLVE_THREADS, "4");
+	}
+
+	@After
+	public void clearThreads() {
+		System.clearProperty(RESOLVE_THREADS);
+	}
+
+	/**
+	 * The first location only completes after the second one, the problems
+	 * must still be reported in the order of the locations.
+	 */
+	@Test
+	public void testProblemsInLocationOrder() throws Exception {
+		CountDownLatch secondResolved = new CountDownLatch(1);
+		TestLocation first = new TestLocation("first", true) {
+			@Override
+			protected void doResolve(IProgressMonitor monitor) throws InterruptedException {
+				assertTrue(secondResolved.await(TIMEOUT, TimeUnit.SECONDS));
+			}
+		};
+		TestLocation second = new TestLocation("second", true) {
+			@Override
+			protected void doResolve(IProgressMonitor monitor) {
+				secondResolved.countDown();
+			}
+		};
+		TestLocation third = new TestLocation("third", false);
+		TestLocation fourth = new TestLocation("fourth", true);
+
+		ITargetDefinition definition = getNewTarget();
+		definition.setTargetLocations(new ITargetLocation[] { first, second, third, fourth });
+		IStatus status = definition.resolve(null);
+
+		assertEquals(IStatus.ERROR, status.getSeverity());
+		List<String> messages = Arrays.stream(status.getChildren()).map(IStatus::getMessage).toList();
+		assertEquals(List.of("first", "second", "fourth"), messages);
+		for (TestLocation location : List.of(first, second, third, fourth)) {
+			assertTrue(location.isResolved());
+		}
+	}
+
+	/**
+	 * Same result as the concurrent resolution when resolved sequentially.
+	 */
+	@Test
+	public void testSequentialResolution() throws Exception {
+		System.setProperty(RESOLVE_THREADS, "1");
+		ITargetDefinition definition = getNewTarget();
+		definition.setTargetLocations(new ITargetLocation[] { new TestLocation("first", true),
+				new TestLocation("second", false), new TestLocation("third", true) });
+		IStatus status = definition.resolve(null);
+
+		List<String> messages = Arrays.stream(status.getChildren()).map(IStatus::getMessage).toList();
+		assertEquals(List.of("first", "third"), messages);
+	}
+
+	/**
+	 * Cancelling the monitor of the caller cancels the locations that are
+	 * still resolving.
+	 */
+	@Test
+	public void testCancellation() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch stopped = new CountDownLatch(1);
+		AtomicBoolean cancelSeen = new AtomicBoolean();
+		TestLocation blocking = new TestLocation("blocking", false) {
+			@Override
+			protected void doResolve(IProgressMonitor monitor) {
+				started.countDown();
+				long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT);
+				try {
+					while (!monitor.isCanceled() && System.nanoTime() < deadline) {
+						Thread.sleep(10);
+					}
+				} catch (InterruptedException e) {
+					// the pool is shut down after the worker monitor was cancelled
+				}
+				cancelSeen.set(monitor.isCanceled());
+				stopped.countDown();
+			}
+		};
+		ITargetDefinition definition = getNewTarget();
+		definition.setTargetLocations(new ITargetLocation[] { blocking, new TestLocation("other", false) });
+
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		Thread canceller = new Thread(() -> {
+			try {
+				started.await(TIMEOUT, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			monitor.setCanceled(true);
+		});
+		canceller.start();
+		IStatus status = definition.resolve(monitor);
+		canceller.join();
+
+		assertEquals(IStatus.CANCEL, status.getSeverity());
+		assertTrue(stopped.await(TIMEOUT, TimeUnit.SECONDS));
+		assertTrue("Running location was not cancelled", cancelSeen.get());
+	}
+
+	/**
+	 * Target references resolve the referenced targets, which share static
+	 * p2 state, so they are resolved one after the other on the calling
+	 * thread.
+	 */
+	@Test
+	public void testTargetReferencesSequential() throws Exception {
+		Thread caller = Thread.currentThread();
+		AtomicInteger running = new AtomicInteger();
+		AtomicBoolean overlapped = new AtomicBoolean();
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		ITargetLocation[] locations = new ITargetLocation[4];
+		for (int i = 0; i < locations.length; i++) {
+			locations[i] = new TargetReferenceBundleContainer("file:/reference" + i + ".target") {
+				@Override
+				protected TargetBundle[] resolveBundles(ITargetDefinition definition, IProgressMonitor monitor)
+						throws CoreException {
+					if (running.incrementAndGet() > 1) {
+						overlapped.set(true);
+					}
+					threads.add(Thread.currentThread());
+					try {
+						Thread.sleep(50);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					running.decrementAndGet();
+					return new TargetBundle[0];
+				}
+
+				@Override
+				protected TargetFeature[] resolveFeatures(ITargetDefinition definition, IProgressMonitor monitor) {
+					return new TargetFeature[0];
+				}
+			};
+		}
+		ITargetDefinition definition = getNewTarget();
+		definition.setTargetLocations(locations);
+		assertTrue(definition.resolve(null).isOK());
+
+		assertFalse("Target references resolved concurrently", overlapped.get());
+		assertEquals(List.of(caller, caller, caller, caller), threads);
+	}
+
+	/**
+	 * An unexpected exception of a location is reported with a message.
+	 */
+	@Test
+	public void testUnexpectedException() throws Exception {
+		TestLocation failing = new TestLocation("failing", false) {
+			@Override
+			protected void doResolve(IProgressMonitor monitor) {
+				throw new NullPointerException();
+			}
+		};
+		ITargetDefinition definition = getNewTarget();
+		definition.setTargetLocations(new ITargetLocation[] { failing, new TestLocation("other", false) });
+		IStatus status = definition.resolve(null);
+
+		assertEquals(IStatus.ERROR, status.getSeverity());
+		IStatus child = status.getChildren()[0];
+		assertNotNull(child.getMessage());
+		assertTrue(child.getMessage(), child.getMessage().contains("test"));
+		assertTrue(child.getException() instanceof NullPointerException);
+	}
+
+	/**
+	 * A location without content that fails with its name as message if
+	 * requested.
+	 */
+	private static class TestLocation extends AbstractBundleContainer {
+
+		private final String fName;
+		private final boolean fFail;
+
+		TestLocation(String name, boolean fail) {
+			fName = name;
+			fFail = fail;
+		}
+
+		/**
+		 * Called by the resolution before the result is reported.
+		 *
+		 * @param monitor the monitor of the resolution
+		 * @throws InterruptedException if interrupted while waiting
+		 */
+		protected void doResolve(IProgressMonitor monitor) throws InterruptedException {
+			// resolve immediately
+		}
+
+		@Override
+		protected TargetBundle[] resolveBundles(ITargetDefinition definition, IProgressMonitor monitor)
+				throws CoreException {
+			try {
+				doResolve(monitor);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (fFail) {
+				throw new CoreException(Status.error(fName));
+			}
+			return new TargetBundle[0];
+		}
+
+		@Override
+		protected TargetFeature[] resolveFeatures(ITargetDefinition definition, IProgressMonitor monitor) {
+			return new TargetFeature[0];
+		}
+
+		@Override
+		public String getType() {
+			return "test";
+		}
+
+		@Override
+		public String getLocation(boolean resolve) {
+			return fName;
+		}
+	}
+}
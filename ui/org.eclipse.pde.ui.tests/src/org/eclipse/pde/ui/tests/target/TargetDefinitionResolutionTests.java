@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2025 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,9 @@ package org.eclipse.pde.ui.tests.target;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -172,6 +174,42 @@ public class TargetDefinitionResolutionTests extends AbstractTargetTest {
 
 	}
 
+	/**
+	 * Tests that resolving an unchanged directory location again reuses the
+	 * previous result and that changes to the directory are picked up.
+	 */
+	@Test
+	public void testUnchangedDirectoryLocationIsNotResolvedAgain() throws Exception {
+		Path location = extractAbcdePlugins();
+		ITargetDefinition definition = getNewTarget();
+
+		ITargetLocation container = getTargetService().newDirectoryLocation(location.toString());
+		assertTrue(container.resolve(definition, null).isOK());
+		TargetBundle[] bundles = container.getBundles();
+		assertEquals("Wrong number of bundles", 10, bundles.length);
+
+		ITargetLocation sameContainer = getTargetService().newDirectoryLocation(location.toString());
+		assertTrue(sameContainer.resolve(definition, null).isOK());
+		TargetBundle[] cachedBundles = sameContainer.getBundles();
+		assertEquals("Wrong number of bundles", bundles.length, cachedBundles.length);
+		for (int i = 0; i < bundles.length; i++) {
+			assertSame("Resolution result should be reused", bundles[i], cachedBundles[i]);
+		}
+
+		Files.delete(location.resolve("plugins").resolve("bundle.e_1.0.0.jar"));
+		ITargetLocation changedContainer = getTargetService().newDirectoryLocation(location.toString());
+		assertTrue(changedContainer.resolve(definition, null).isOK());
+		assertEquals("Removed bundle not detected", 9, changedContainer.getBundles().length);
+
+		// same names and sizes, only the modification time differs
+		File jar = location.resolve("plugins").resolve("bundle.a_1.0.0.jar").toFile();
+		assertTrue(jar.setLastModified(jar.lastModified() + 2000));
+		ITargetLocation touchedContainer = getTargetService().newDirectoryLocation(location.toString());
+		assertTrue(touchedContainer.resolve(definition, null).isOK());
+		assertNotSame("Modified bundle not detected", changedContainer.getBundles()[0],
+				touchedContainer.getBundles()[0]);
+	}
+
 	/**
 	 * Tests that a target definition is in synch with the target platform.
 	 */
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
+import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.internal.core.target.IUBundleContainer;
+import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.eclipse.pde.internal.core.target.TargetResolutionCache;
+import org.eclipse.pde.internal.core.util.DataStreamUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that target resolutions stored in the {@link TargetResolutionCache}
+ * are reused, and only as long as they are still valid.
+ */
+public class TargetResolutionCacheTests extends AbstractTargetTest {
+
+	private static final String CACHE_PROPERTY = "pde.target.resolutionCache";
+	private static final String TIMESTAMP = "1239727057640";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path cacheDirectory;
+	private Path repository;
+	private URI repositoryURI;
+
+	@Before
+	public void setUpCache() throws Exception {
+		cacheDirectory = folder.newFolder("cache").toPath();
+		System.setProperty(CACHE_PROPERTY, cacheDirectory.toString());
+		// a copy of the test repository, so its time stamp can be changed
+		Path source = Path.of(IUBundleContainerTests.getURI("/tests/sites/site.a.b"));
+		repository = folder.newFolder("site.a.b").toPath();
+		try (Stream<Path> files = Files.walk(source)) {
+			for (Path file : files.toList()) {
+				Path target = repository.resolve(source.relativize(file).toString());
+				if (Files.isDirectory(file)) {
+					Files.createDirectories(target);
+				} else {
+					Files.copy(file, target);
+				}
+			}
+		}
+		repositoryURI = repository.toUri();
+	}
+
+	@After
+	public void tearDownCache() throws Exception {
+		System.clearProperty(CACHE_PROPERTY);
+		P2TargetUtils.getRepoManager().removeRepository(repositoryURI);
+		P2TargetUtils.cleanOrphanedTargetDefinitionProfiles();
+	}
+
+	@Test
+	public void testCacheHitInstallsSameUnits() throws Exception {
+		Set<String> expected = resolve("feature.b.feature.group");
+		Path entry = getCacheEntry();
+		Files.setLastModifiedTime(entry, FileTime.fromMillis(0));
+
+		// a new target has a new profile, so it is resolved again
+		assertEquals(expected, resolve("feature.b.feature.group"));
+		assertEquals(entry, getCacheEntry());
+		assertNotEquals("Cached resolution was not used", 0, Files.getLastModifiedTime(entry).toMillis());
+	}
+
+	@Test
+	public void testRepositoryTimestampChangeMisses() throws Exception {
+		Set<String> expected = resolve("feature.a.feature.group");
+		Path entry = getCacheEntry();
+		Files.setLastModifiedTime(entry, FileTime.fromMillis(0));
+
+		setRepositoryTimestamp("1239727057641");
+		assertEquals(expected, resolve("feature.a.feature.group"));
+		assertEquals("Changed repository must be resolved again", 2, getCacheEntries().size());
+		assertEquals("Outdated resolution was used", 0, Files.getLastModifiedTime(entry).toMillis());
+	}
+
+	@Test
+	public void testMissingCachedUnitFallsBack() throws Exception {
+		Set<String> expected = resolve("feature.a.feature.group");
+		String key = readKey(getCacheEntry());
+		TargetResolutionCache.Resolution resolution = TargetResolutionCache.getDefault().get(key);
+		List<IVersionedId> units = new ArrayList<>(resolution.units());
+		VersionedId missing = new VersionedId("missing.unit", Version.create("1.0.0"));
+		units.add(missing);
+		TargetResolutionCache.getDefault().put(key, new TargetResolutionCache.Resolution(units, resolution.source()));
+
+		assertEquals(expected, resolve("feature.a.feature.group"));
+		// the resolution replaced the invalid entry
+		TargetResolutionCache.Resolution replaced = TargetResolutionCache.getDefault().get(key);
+		assertNotNull(replaced);
+		assertFalse(replaced.units().contains(missing));
+		assertEquals(Set.copyOf(resolution.units()), Set.copyOf(replaced.units()));
+	}
+
+	@Test
+	public void testCorruptEntry() throws Exception {
+		TargetResolutionCache cache = TargetResolutionCache.getDefault();
+		String key = "mode=slicer\nrepository=file:/repository@1\n";
+		List<IVersionedId> units = List.of(new VersionedId("bundle.a1", Version.create("1.0.0")));
+		cache.put(key, new TargetResolutionCache.Resolution(units, false));
+		assertEquals(units, cache.get(key).units());
+		Path entry = getCacheEntry();
+		byte[] content = Files.readAllBytes(entry);
+
+		// truncated
+		Files.write(entry, Arrays.copyOf(content, content.length - 3));
+		assertNull(cache.get(key));
+		// garbage
+		Files.write(entry, "not a resolution".getBytes(StandardCharsets.UTF_8));
+		assertNull(cache.get(key));
+		// another format version
+		content[3]++;
+		Files.write(entry, content);
+		assertNull(cache.get(key));
+
+		// a corrupt entry is replaced by the next resolution
+		cache.put(key, new TargetResolutionCache.Resolution(units, true));
+		assertTrue(cache.get(key).source());
+	}
+
+	/**
+	 * Resolves a new target with the given unit from the copied repository,
+	 * including its requirements.
+	 *
+	 * @return the symbolic names and versions of the resolved bundles
+	 */
+	private Set<String> resolve(String unitId) throws Exception {
+		IMetadataRepository metadata = P2TargetUtils.getRepoManager().loadRepository(repositoryURI, null);
+		IInstallableUnit unit = metadata.query(QueryUtil.createIUQuery(unitId), null).iterator().next();
+		ITargetLocation location = getTargetService().newIULocation(new IInstallableUnit[] { unit },
+				new URI[] { repositoryURI }, IUBundleContainer.INCLUDE_REQUIRED);
+		ITargetDefinition target = getTargetService().newTarget();
+		target.setTargetLocations(new ITargetLocation[] { location });
+		Set<String> bundles = new TreeSet<>();
+		for (BundleInfo info : getAllBundleInfos(target)) {
+			bundles.add(info.getSymbolicName() + '_' + info.getVersion());
+		}
+		assertFalse("Nothing resolved", bundles.isEmpty());
+		return bundles;
+	}
+
+	private List<Path> getCacheEntries() throws Exception {
+		try (Stream<Path> files = Files.list(cacheDirectory)) {
+			return files.filter(f -> f.getFileName().toString().endsWith(".resolution")).toList();
+		}
+	}
+
+	private Path getCacheEntry() throws Exception {
+		List<Path> entries = getCacheEntries();
+		assertEquals("Resolution should be cached", 1, entries.size());
+		return entries.get(0);
+	}
+
+	/**
+	 * @return the key stored in the header of the given cache entry
+	 */
+	private static String readKey(Path entry) throws Exception {
+		try (DataInputStream in = new DataInputStream(Files.newInputStream(entry))) {
+			in.readInt(); // format version
+			return DataStreamUtil.readString(in);
+		}
+	}
+
+	/**
+	 * Changes the time stamp in the metadata of the copied repository, as
+	 * happens when the repository is published again.
+	 */
+	private void setRepositoryTimestamp(String timestamp) throws Exception {
+		Path contentJar = repository.resolve("content.jar");
+		byte[] content;
+		try (InputStream in = Files.newInputStream(contentJar); ZipInputStream zip = new ZipInputStream(in)) {
+			zip.getNextEntry();
+			content = zip.readAllBytes();
+		}
+		String xml = new String(content, StandardCharsets.UTF_8);
+		assertTrue(xml.contains(TIMESTAMP));
+		try (OutputStream out = Files.newOutputStream(contentJar); ZipOutputStream zip = new ZipOutputStream(out)) {
+			zip.putNextEntry(new ZipEntry("content.xml"));
+			zip.write(xml.replace(TIMESTAMP, timestamp).getBytes(StandardCharsets.UTF_8));
+			zip.closeEntry();
+		}
+		// load the changed metadata on next access
+		P2TargetUtils.getRepoManager().removeRepository(repositoryURI);
+	}
+}